@@ -11,6 +11,7 @@ import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.canvas.Canvas;
+import javafx.scene.control.ScrollPane;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.VBox;
 
@@ -25,7 +26,10 @@ import java.util.Set;
 public class GameController implements GameOverListener {
 
     @FXML private VBox gameContainer;
+    @FXML private Canvas backgroundCanvas;
     @FXML private Canvas gameCanvas;
+    @FXML private Canvas hudCanvas;
+    @FXML private ScrollPane boardViewport;
 
     private Game game;
     private GameRenderer renderer;
@@ -37,7 +41,8 @@ public class GameController implements GameOverListener {
     private void initialize() {
         // Initialise le jeu et la musique
         game = new Game();
-        renderer = new GameRenderer(gameCanvas);
+        renderer = new GameRenderer(backgroundCanvas, gameCanvas, hudCanvas);
+        renderer.setViewport(boardViewport);
         music.arreterGameOverMusique();
         music.demarrerMusique();
         game.getPlayer().setGameOverListener(this);
@@ -83,17 +88,23 @@ public class GameController implements GameOverListener {
         pressedKeys.remove(event.getCode().toString());
     }
 
-    // Boucle de rendu
+    // Boucle de rendu : pilote aussi la simulation à pas fixe
     private void startRenderLoop() {
         renderLoop = new AnimationTimer() {
             @Override
             public void handle(long now) {
+                game.advance(now);
                 renderer.render(game);
                 var state = game.getGameState();
                 if (state == GameState.GAME_OVER || state == GameState.VICTORY) {
                     music.arreterMusique();
                     stop();
                 }
+                // Changement de scène sur le fil JavaFX, jamais depuis la simulation
+                if (state == GameState.VICTORY) {
+                    VictoryController.LAST_SCORE = game.getPlayer().getScore();
+                    SceneManager.switchScene("Victory");
+                }
             }
         };
         renderLoop.start();
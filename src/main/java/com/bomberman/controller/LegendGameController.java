@@ -8,6 +8,7 @@ package com.bomberman.controller;
 import com.bomberman.model.Legend1v1Board;
 import com.bomberman.model.Music;
 import com.bomberman.model.Player;
+import com.bomberman.model.SimulationEngine;
 import com.bomberman.utils.SceneManager;
 import com.bomberman.view.GameRenderer;
 import javafx.animation.AnimationTimer;
@@ -15,6 +16,7 @@ import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.canvas.Canvas;
+import javafx.scene.control.ScrollPane;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
@@ -25,9 +27,13 @@ import java.util.Set;
 
 public class LegendGameController implements PauseOverlayController.PauseActionListener {
     @FXML private VBox gameContainer;
+    @FXML private Canvas backgroundCanvas;
     @FXML private Canvas gameCanvas;
+    @FXML private Canvas hudCanvas;
+    @FXML private ScrollPane boardViewport;
 
     private Legend1v1Board board;
+    private SimulationEngine engine;     // Simulation à pas fixe du plateau
     private GameRenderer renderer;
     private final Set<String> pressedKeys = new HashSet<>();
     private AnimationTimer renderLoop;
@@ -46,7 +52,9 @@ public class LegendGameController implements PauseOverlayController.PauseActionL
     @FXML
     private void initialize() {
         board = new Legend1v1Board();
-        renderer = new GameRenderer(gameCanvas);
+        engine = new SimulationEngine(board::update, board.getClock());
+        renderer = new GameRenderer(backgroundCanvas, gameCanvas, hudCanvas);
+        renderer.setViewport(boardViewport);
         setupKeyboardHandling();
         setupPauseOverlay();
         music.demarrerLegendMusic();
@@ -135,12 +143,15 @@ public class LegendGameController implements PauseOverlayController.PauseActionL
 
     private void pauseGame() {
         isPaused = true;
+        board.getClock().pause(); // Les bombes ne s'écoulent plus pendant la pause
         music.arreterLegendMusic();
         pauseController.showPause();
     }
 
     private void resumeGame() {
         isPaused = false;
+        board.getClock().resume();
+        engine.resetTiming(); // Le temps réel de pause n'est pas rattrapé
         music.demarrerLegendMusic();
         pauseController.hidePause();
         gameContainer.requestFocus();
@@ -152,8 +163,8 @@ public class LegendGameController implements PauseOverlayController.PauseActionL
             @Override
             public void handle(long now) {
                 if (!gameOver && !victory && !isPaused) {
+                    engine.advanceTo(now);
                     if (now - lastRenderTime >= RENDER_INTERVAL) {
-                        board.update();
                         renderer.renderLegend1v1(board);
                         lastRenderTime = now;
                     }
@@ -249,6 +260,7 @@ public class LegendGameController implements PauseOverlayController.PauseActionL
     public void onRestart() {
         cleanup();
         board = new Legend1v1Board();
+        engine = new SimulationEngine(board::update, board.getClock());
         music.demarrerLegendMusic();
         startRenderLoop();
         gameOver = false;
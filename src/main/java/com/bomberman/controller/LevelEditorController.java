@@ -49,6 +49,9 @@ public class LevelEditorController {
 
     private GraphicsContext gc;                // Contexte graphique pour dessiner sur le canvas
     private CellType[][] grid;                 // Grille représentant la map (données)
+    private int gridWidth = Constants.BOARD_WIDTH;   // Largeur de la map éditée (cellules)
+    private int gridHeight = Constants.BOARD_HEIGHT; // Hauteur de la map éditée (cellules)
+    private double cellSize = Constants.CELL_SIZE;   // Taille d'affichage d'une cellule (px)
     private CellType selectedCellType = CellType.EMPTY; // Type de cellule actuellement sélectionné
     private ToggleGroup cellTypeGroup;         // Groupe pour les boutons radio (un seul sélectionné)
     private final MapManager mapManager = new MapManager(); // Gestionnaire pour sauvegarder/charger les maps
@@ -76,15 +79,26 @@ public class LevelEditorController {
         // Obtenir le contexte graphique pour dessiner
         gc = editorCanvas.getGraphicsContext2D();
 
-        // Définir la taille du canvas en fonction des constantes du jeu
-        editorCanvas.setWidth(Constants.BOARD_WIDTH * Constants.CELL_SIZE);
-        editorCanvas.setHeight(Constants.BOARD_HEIGHT * Constants.CELL_SIZE);
+        // Définir la taille du canvas en fonction des dimensions de la map
+        resizeCanvas();
 
         // Configurer les événements de souris pour dessiner
         editorCanvas.setOnMouseClicked(this::handleCanvasClick);   // Clic simple
         editorCanvas.setOnMouseDragged(this::handleCanvasDrag);    // Glisser pour dessiner
     }
 
+    /**
+     * Ajuste la taille du canvas aux dimensions de la map éditée
+     * Les grandes maps sont réduites pour garder l'éditeur à la taille d'une map 15x13
+     */
+    private void resizeCanvas() {
+        double fit = Math.min((double) Constants.BOARD_WIDTH * Constants.CELL_SIZE / gridWidth,
+                (double) Constants.BOARD_HEIGHT * Constants.CELL_SIZE / gridHeight);
+        cellSize = Math.max(Constants.MIN_CELL_SIZE, Math.min(Constants.CELL_SIZE, Math.floor(fit)));
+        editorCanvas.setWidth(gridWidth * cellSize);
+        editorCanvas.setHeight(gridHeight * cellSize);
+    }
+
     /**
      * Configure tous les boutons, contrôles et leurs actions
      */
@@ -123,14 +137,14 @@ public class LevelEditorController {
      */
     private void initializeGrid() {
         // Créer une nouvelle grille vide
-        grid = new CellType[Constants.BOARD_WIDTH][Constants.BOARD_HEIGHT];
+        grid = new CellType[gridWidth][gridHeight];
 
         // Remplir la grille avec le pattern classique de Bomberman
-        for (int x = 0; x < Constants.BOARD_WIDTH; x++) {
-            for (int y = 0; y < Constants.BOARD_HEIGHT; y++) {
+        for (int x = 0; x < gridWidth; x++) {
+            for (int y = 0; y < gridHeight; y++) {
                 // Bordures et intersections paires = murs fixes
-                if (x == 0 || y == 0 || x == Constants.BOARD_WIDTH - 1 ||
-                        y == Constants.BOARD_HEIGHT - 1 || (x % 2 == 0 && y % 2 == 0)) {
+                if (x == 0 || y == 0 || x == gridWidth - 1 ||
+                        y == gridHeight - 1 || (x % 2 == 0 && y % 2 == 0)) {
                     grid[x][y] = CellType.WALL; // Mur fixe
                 } else {
                     grid[x][y] = CellType.EMPTY; // Case vide
@@ -152,8 +166,8 @@ public class LevelEditorController {
         grid[2][1] = CellType.EMPTY; // Case à droite
 
         // === COIN BAS-DROITE (spawn joueur 2) ===
-        int maxX = Constants.BOARD_WIDTH - 2;
-        int maxY = Constants.BOARD_HEIGHT - 2;
+        int maxX = gridWidth - 2;
+        int maxY = gridHeight - 2;
         grid[maxX][maxY] = CellType.EMPTY;     // Position exacte du joueur
         grid[maxX - 1][maxY] = CellType.EMPTY; // Case à gauche
         grid[maxX][maxY - 1] = CellType.EMPTY; // Case au dessus
@@ -175,8 +189,8 @@ public class LevelEditorController {
      */
     private void handleCanvasClick(MouseEvent event) {
         // Convertir les coordonnées pixel en coordonnées de grille
-        int x = (int) (event.getX() / Constants.CELL_SIZE);
-        int y = (int) (event.getY() / Constants.CELL_SIZE);
+        int x = (int) (event.getX() / cellSize);
+        int y = (int) (event.getY() / cellSize);
 
         // Vérifier que les coordonnées sont valides
         if (isValidPosition(x, y)) {
@@ -212,9 +226,9 @@ public class LevelEditorController {
     private boolean isProtectedSpawnArea(int x, int y) {
         // Protection minimale des positions de spawn exactes
         return (x == 1 && y == 1) || // Joueur 1
-                (x == Constants.BOARD_WIDTH - 2 && y == Constants.BOARD_HEIGHT - 2) || // Joueur 2
-                (x == Constants.BOARD_WIDTH - 2 && y == 1) || // Bot 1
-                (x == 1 && y == Constants.BOARD_HEIGHT - 2); // Bot 2
+                (x == gridWidth - 2 && y == gridHeight - 2) || // Joueur 2
+                (x == gridWidth - 2 && y == 1) || // Bot 1
+                (x == 1 && y == gridHeight - 2); // Bot 2
     }
 
     /**
@@ -224,7 +238,7 @@ public class LevelEditorController {
      * @return true si les coordonnées sont valides
      */
     private boolean isValidPosition(int x, int y) {
-        return x >= 0 && x < Constants.BOARD_WIDTH && y >= 0 && y < Constants.BOARD_HEIGHT;
+        return x >= 0 && x < gridWidth && y >= 0 && y < gridHeight;
     }
 
     /**
@@ -235,11 +249,11 @@ public class LevelEditorController {
         gc.clearRect(0, 0, editorCanvas.getWidth(), editorCanvas.getHeight());
 
         // Parcourir toute la grille et dessiner chaque cellule
-        for (int x = 0; x < Constants.BOARD_WIDTH; x++) {
-            for (int y = 0; y < Constants.BOARD_HEIGHT; y++) {
+        for (int x = 0; x < gridWidth; x++) {
+            for (int y = 0; y < gridHeight; y++) {
                 // Calculer les coordonnées pixel de la cellule
-                double pixelX = x * Constants.CELL_SIZE;
-                double pixelY = y * Constants.CELL_SIZE;
+                double pixelX = x * cellSize;
+                double pixelY = y * cellSize;
 
                 // Choisir la couleur selon le type de cellule
                 switch (grid[x][y]) {
@@ -256,17 +270,17 @@ public class LevelEditorController {
                 }
 
                 // Dessiner le rectangle coloré
-                gc.fillRect(pixelX, pixelY, Constants.CELL_SIZE, Constants.CELL_SIZE);
+                gc.fillRect(pixelX, pixelY, cellSize, cellSize);
 
                 // Dessiner le contour noir
                 gc.setStroke(Color.BLACK);
                 gc.setLineWidth(1);
-                gc.strokeRect(pixelX, pixelY, Constants.CELL_SIZE, Constants.CELL_SIZE);
+                gc.strokeRect(pixelX, pixelY, cellSize, cellSize);
 
                 // Marquer les zones de spawn protégées avec un cercle bleu
                 if (isProtectedSpawnArea(x, y)) {
                     gc.setFill(Color.BLUE);
-                    gc.fillOval(pixelX + 5, pixelY + 5, Constants.CELL_SIZE - 10, Constants.CELL_SIZE - 10);
+                    gc.fillOval(pixelX + cellSize / 8, pixelY + cellSize / 8, cellSize * 3 / 4, cellSize * 3 / 4);
                 }
             }
         }
@@ -317,8 +331,11 @@ public class LevelEditorController {
             // Charger la map via le MapManager
             MapData mapData = mapManager.loadMap(selectedMap);
             if (mapData != null) {
-                // Remplacer la grille actuelle par celle de la map chargée
+                // Remplacer la grille actuelle par celle de la map chargée (avec ses dimensions)
                 grid = mapData.getGrid();
+                gridWidth = mapData.getWidth();
+                gridHeight = mapData.getHeight();
+                resizeCanvas();
 
                 // Redessiner la grille et remplir le champ de nom
                 render();
@@ -183,11 +183,12 @@ public class MapSelectionController {
         StringBuilder preview = new StringBuilder();
         preview.append("Aperçu de ").append(mapData.getName()).append("\n\n");
 
-        for (int y = 0; y < com.bomberman.utils.Constants.BOARD_HEIGHT; y++) {
-            for (int x = 0; x < com.bomberman.utils.Constants.BOARD_WIDTH; x++) {
+        int maxX = mapData.getWidth() - 2, maxY = mapData.getHeight() - 2;
+        for (int y = 0; y < mapData.getHeight(); y++) {
+            for (int x = 0; x < mapData.getWidth(); x++) {
                 // Marquage spécial des zones de spawn
-                if ((x == 1 && y == 1) || (x == 13 && y == 11) ||
-                        (x == 13 && y == 1) || (x == 1 && y == 11)) {
+                if ((x == 1 && y == 1) || (x == maxX && y == maxY) ||
+                        (x == maxX && y == 1) || (x == 1 && y == maxY)) {
                     preview.append("S");
                 } else {
                     // Représentation selon le type de cellule
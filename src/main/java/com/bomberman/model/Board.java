@@ -5,39 +5,78 @@
 package com.bomberman.model;
 
 import com.bomberman.controller.MapSelectionController;
+import com.bomberman.model.enums.BotDifficulty;
 import com.bomberman.model.enums.CellType;
-import com.bomberman.model.enums.Direction;
 import com.bomberman.utils.Constants;
 import com.bomberman.utils.MapManager;
 import java.util.*;
 
-public class Board {
-    private Cell[][] grid;               // Grille de jeu 15x13
+public class Board implements GameBoard {
+    private final int width, height;     // Dimensions de la partie en cellules
+    private final PackedGrid grid;       // Grille de jeu compacte
     private List<Bomb> bombs;            // Liste des bombes actives
-    private List<Explosion> explosions;  // Liste des explosions actives
+    private final ExplosionGrid explosions; // Cases en feu (index par case)
     private Player player;               // Joueur principal
+    private List<Player> players;        // Joueurs humains (1 en solo, jusqu'à 4 en multijoueur)
     private List<PlayerBot> bots;        // 3 bots IA
+    private final OccupancyIndex<Player> occupants; // Joueurs et bots par case
+    private final DistanceField chaseField; // Distances aux joueurs, partagées par les bots
+    private final GameClock clock = new GameClock(); // Horloge virtuelle de la partie
+    private final ChainReaction chain;   // Résolution itérative des réactions en chaîne
+    private final BombScheduler fuses;   // Roue de minuterie des mèches
+    private final DangerMap danger;   // Échéance des explosions prévues, par case
+    private BotPhase botPhase;           // Tour des bots (décision parallèle, validation ordonnée), créé au premier tour
+    private final TranspositionTable transpositions = new TranspositionTable(16); // Partagée par les recherches des bots
     private Music music = new Music();   // Gestionnaire audio
     private MapManager mapManager = new MapManager(); // Gestionnaire de cartes
 
     /**
-     * Constructeur - Initialise le plateau et les entités
+     * Constructeur - Plateau aux dimensions par défaut (15x13)
      */
     public Board() {
-        grid = new Cell[Constants.BOARD_WIDTH][Constants.BOARD_HEIGHT];
+        this(Constants.BOARD_WIDTH, Constants.BOARD_HEIGHT);
+    }
+
+    /**
+     * Constructeur - Initialise le plateau et les entités
+     * Une carte personnalisée sélectionnée impose ses propres dimensions
+     */
+    public Board(int width, int height) {
+        MapData customMap = loadCustomMap();
+        if (customMap != null) {
+            width = customMap.getWidth();
+            height = customMap.getHeight();
+        }
+        if (!MapData.isSupportedSize(width, height)) {
+            throw new IllegalArgumentException("Taille de plateau non supportée : " + width + "x" + height);
+        }
+
+        this.width = width;
+        this.height = height;
+        grid = new PackedGrid(width, height);
         bombs = new ArrayList<>();
-        explosions = new ArrayList<>();
+        explosions = new ExplosionGrid(width, height, Constants.EXPLOSION_DURATION);
         bots = new ArrayList<>();
-        initializeBoard();
+        occupants = new OccupancyIndex<>(width, height);
+        chain = new ChainReaction(grid);
+        chaseField = new DistanceField(grid);
+        danger = new DangerMap(grid, explosions);
+        fuses = new BombScheduler(Constants.GAME_SPEED, 512, clock.now());
+        initializeBoard(customMap);
     }
 
     /**
      * Initialisation complète du plateau
      */
-    private void initializeBoard() {
-        // Vérification de carte personnalisée
-        if (MapSelectionController.CustomMapHolder.hasCustomMap()) {
-            loadCustomMap();
+    private void initializeBoard(MapData customMap) {
+        if (customMap != null) {
+            // Copie de la grille personnalisée
+            CellType[][] customGrid = customMap.getGrid();
+            for (int x = 0; x < width; x++) {
+                for (int y = 0; y < height; y++) {
+                    grid.reset(x, y, customGrid[x][y]);
+                }
+            }
         } else {
             generateDefaultMap();
         }
@@ -45,26 +84,22 @@ public class Board {
     }
 
     /**
-     * Charge une carte personnalisée sélectionnée
+     * Charge la carte personnalisée sélectionnée
+     * @return La carte, ou null pour utiliser la carte par défaut
      */
-    private void loadCustomMap() {
+    private MapData loadCustomMap() {
+        // Vérification de carte personnalisée
+        if (!MapSelectionController.CustomMapHolder.hasCustomMap()) return null;
         try {
             String selectedMap = MapSelectionController.CustomMapHolder.getSelectedMap();
             MapData mapData = mapManager.loadMap(selectedMap);
-
-            // Copie de la grille personnalisée
-            CellType[][] customGrid = mapData.getGrid();
-            for (int x = 0; x < Constants.BOARD_WIDTH; x++) {
-                for (int y = 0; y < Constants.BOARD_HEIGHT; y++) {
-                    grid[x][y] = new Cell(customGrid[x][y]);
-                }
-            }
-
-            System.out.println("Carte personnalisée chargée : " + selectedMap);
+            System.out.println("Carte personnalisée chargée : " + selectedMap +
+                    " (" + mapData.getWidth() + "x" + mapData.getHeight() + ")");
+            return mapData;
 
         } catch (Exception e) {
             System.err.println("Erreur chargement carte personnalisée : " + e.getMessage());
-            generateDefaultMap(); // Retour vers la carte par défaut
+            return null; // Retour vers la carte par défaut
         }
     }
 
@@ -72,15 +107,15 @@ public class Board {
      * Génère la carte par défaut (style Bomberman classique)
      */
     private void generateDefaultMap() {
-        for (int x = 0; x < Constants.BOARD_WIDTH; x++) {
-            for (int y = 0; y < Constants.BOARD_HEIGHT; y++) {
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
                 // Bordures et damier de murs fixes
-                if (x == 0 || y == 0 || x == Constants.BOARD_WIDTH - 1 ||
-                        y == Constants.BOARD_HEIGHT - 1 || (x % 2 == 0 && y % 2 == 0)) {
-                    grid[x][y] = new Cell(CellType.WALL);
+                if (x == 0 || y == 0 || x == width - 1 ||
+                        y == height - 1 || (x % 2 == 0 && y % 2 == 0)) {
+                    grid.reset(x, y, CellType.WALL);
                 } else {
                     // 70% murs destructibles, 30% cases vides
-                    grid[x][y] = new Cell(Math.random() < 0.7 ? CellType.DESTRUCTIBLE_WALL : CellType.EMPTY);
+                    grid.reset(x, y, Math.random() < 0.7 ? CellType.DESTRUCTIBLE_WALL : CellType.EMPTY);
                 }
             }
         }
@@ -94,25 +129,25 @@ public class Board {
      */
     private void ensureSpawnAreasAreFree() {
         // Coin haut-gauche (joueur principal)
-        grid[1][1] = new Cell(CellType.EMPTY);
-        grid[1][2] = new Cell(CellType.EMPTY);
-        grid[2][1] = new Cell(CellType.EMPTY);
+        grid.reset(1, 1, CellType.EMPTY);
+        grid.reset(1, 2, CellType.EMPTY);
+        grid.reset(2, 1, CellType.EMPTY);
 
         // Coin bas-droite (bot 1)
-        int xMax = Constants.BOARD_WIDTH - 2, yMax = Constants.BOARD_HEIGHT - 2;
-        grid[xMax][yMax] = new Cell(CellType.EMPTY);
-        grid[xMax - 1][yMax] = new Cell(CellType.EMPTY);
-        grid[xMax][yMax - 1] = new Cell(CellType.EMPTY);
+        int xMax = width - 2, yMax = height - 2;
+        grid.reset(xMax, yMax, CellType.EMPTY);
+        grid.reset(xMax - 1, yMax, CellType.EMPTY);
+        grid.reset(xMax, yMax - 1, CellType.EMPTY);
 
         // Coin haut-droite (bot 2)
-        grid[xMax][1] = new Cell(CellType.EMPTY);
-        grid[xMax - 1][1] = new Cell(CellType.EMPTY);
-        grid[xMax][2] = new Cell(CellType.EMPTY);
+        grid.reset(xMax, 1, CellType.EMPTY);
+        grid.reset(xMax - 1, 1, CellType.EMPTY);
+        grid.reset(xMax, 2, CellType.EMPTY);
 
         // Coin bas-gauche (bot 3)
-        grid[1][yMax] = new Cell(CellType.EMPTY);
-        grid[2][yMax] = new Cell(CellType.EMPTY);
-        grid[1][yMax - 1] = new Cell(CellType.EMPTY);
+        grid.reset(1, yMax, CellType.EMPTY);
+        grid.reset(2, yMax, CellType.EMPTY);
+        grid.reset(1, yMax - 1, CellType.EMPTY);
     }
 
     /**
@@ -120,175 +155,247 @@ public class Board {
      */
     private void setupPlayers() {
         // Joueur principal en haut-gauche
-        player = new Player(1, 1);
-        grid[1][1].setHasPlayer(true);
+        player = new Player(1, 1, clock);
+        players = new ArrayList<>(List.of(player));
+        grid.setHasPlayer(1, 1, true);
+        occupants.place(player, 1, 1);
 
         // 3 bots dans les autres coins
-        int xMax = Constants.BOARD_WIDTH - 2, yMax = Constants.BOARD_HEIGHT - 2;
+        int xMax = width - 2, yMax = height - 2;
 
-        bots.add(new PlayerBot(xMax, yMax));       // bas-droite
-        grid[xMax][yMax].setHasPlayer(true);
-
-        bots.add(new PlayerBot(xMax, 1));          // haut-droite
-        grid[xMax][1].setHasPlayer(true);
-
-        bots.add(new PlayerBot(1, yMax));          // bas-gauche
-        grid[1][yMax].setHasPlayer(true);
+        bots.add(new PlayerBot(xMax, yMax, clock)); // bas-droite
+        bots.add(new PlayerBot(xMax, 1, clock));    // haut-droite
+        bots.add(new PlayerBot(1, yMax, clock));    // bas-gauche
+        for (PlayerBot bot : bots) {
+            grid.setHasPlayer(bot.getX(), bot.getY(), true);
+            occupants.place(bot, bot.getX(), bot.getY());
+        }
     }
 
     /**
-     * Mise à jour principale du plateau (appelée à chaque frame)
+     * Mise à jour principale du plateau (appelée à chaque tick)
+     * Un seul passage sur le monde, quel que soit le nombre de joueurs humains
      */
-    public void update(Player player) {
-        this.player = player;
+    public void update() {
         updateBombs();
         updateBots();
         updateExplosions();
     }
 
+    /**
+     * Remplace les joueurs humains (mode multijoueur)
+     * Le premier joueur devient le joueur principal
+     */
+    public void setPlayers(List<Player> humans) {
+        for (Player p : players) {
+            grid.setHasPlayer(p.getX(), p.getY(), false);
+            occupants.remove(p);
+        }
+        players = new ArrayList<>(humans);
+        player = players.get(0);
+        for (Player p : players) {
+            grid.setHasPlayer(p.getX(), p.getY(), true);
+            occupants.place(p, p.getX(), p.getY());
+        }
+    }
+
+    /**
+     * Tient l'index d'occupation à jour après un déplacement
+     */
+    @Override
+    public void playerMoved(Player p) {
+        occupants.place(p, p.getX(), p.getY());
+    }
+
+    /**
+     * Joueur humain vivant le plus proche (cible des bots)
+     */
+    public Player getNearestPlayer(int x, int y) {
+        Player nearest = player;
+        int best = Integer.MAX_VALUE;
+        for (Player p : players) {
+            if (!p.isAlive()) continue;
+            int distance = Math.abs(p.getX() - x) + Math.abs(p.getY() - y);
+            if (distance < best) {
+                best = distance;
+                nearest = p;
+            }
+        }
+        return nearest;
+    }
+
     /**
      * Gestion des bombes : explosions et nettoyage
+     * Les bombes emportées par une réaction en chaîne sont retirées dans le même passage
      */
     private void updateBombs() {
-        Iterator<Bomb> bombIterator = bombs.iterator();
-        while (bombIterator.hasNext()) {
-            Bomb bomb = bombIterator.next();
-            if (bomb.shouldExplode()) {
-                explodeBomb(bomb);
-                bombIterator.remove();
-                // Notification aux joueurs qu'une bombe a explosé
-                player.onBombExploded();
-                for (PlayerBot bot : bots) {
-                    bot.onBombExploded();
-                }
+        int detonations = 0;
+        // OPTIMISATION: seules les mèches échues sont visitées (roue de minuterie)
+        for (Bomb bomb : fuses.drainDue(clock.now())) {
+            if (!bomb.hasExploded()) {
+                detonations += explodeBomb(bomb);
             }
         }
+        if (detonations > 0) {
+            bombs.removeIf(Bomb::hasExploded);
+        }
+    }
+
+    /**
+     * Rend une bombe à celui qui l'a posée
+     * Bombe sans poseur connu : notification à tous (comportement historique)
+     */
+    private void refundBomb(Bomb bomb) {
+        Player owner = bomb.getPlacedBy();
+        if (owner != null) {
+            owner.onBombExploded();
+            return;
+        }
+        for (Player p : players) p.onBombExploded();
+        for (PlayerBot bot : bots) bot.onBombExploded();
     }
 
     /**
      * Mise à jour de l'IA des bots
+     * OPTIMISATION: un seul BFS par tick (et seulement si la grille ou un joueur a bougé),
+     * décisions calculées en parallèle sur un instantané puis validées dans l'ordre
      */
     private void updateBots() {
-        for (PlayerBot bot : bots) {
-            if (bot.isAlive()) {
-                bot.playTurn(this);
-            }
-        }
+        chaseField.update(players);
+        // Créé ici plutôt qu'au constructeur : l'instantané lit un plateau entièrement construit
+        if (botPhase == null) botPhase = new BotPhase(this);
+        botPhase.run(this, bots);
+    }
+
+    /**
+     * Applique un niveau de difficulté à tous les bots
+     */
+    public void setBotDifficulty(BotDifficulty difficulty) {
+        for (PlayerBot bot : bots) bot.setDifficulty(difficulty);
     }
 
     /**
      * Nettoyage des explosions expirées
+     * OPTIMISATION: seules les cases arrivées à échéance sont dépilées
      */
     private void updateExplosions() {
-        long now = System.currentTimeMillis();
-        Iterator<Explosion> it = explosions.iterator();
-        while (it.hasNext()) {
-            Explosion e = it.next();
-            if (e.isExpired(now, Constants.EXPLOSION_DURATION)) {
-                it.remove();
-            }
-        }
+        explosions.expire(clock.now());
     }
 
     /**
      * Gestion complète de l'explosion d'une bombe
-     * Propagation en croix avec gestion des collisions
+     * OPTIMISATION: la chaîne entière est résolue par une file de détonation (sans récursion),
+     * puis murs détruits, points, bonus et dégâts sont appliqués en un seul lot
+     * @return Nombre de bombes ayant explosé (déclencheur + chaîne)
      */
-    private void explodeBomb(Bomb bomb) {
-        bomb.explode();
-        int bombX = bomb.getX();
-        int bombY = bomb.getY();
-
-        // Libère la cellule de la bombe
-        grid[bombX][bombY].setBomb(null);
-        createExplosion(bombX, bombY, bomb.getOwner());
+    private int explodeBomb(Bomb bomb) {
+        int detonations = chain.resolve(bomb);
+        // Les bombes emportées par la chaîne quittent la roue et reviennent à leur poseur
+        for (Bomb chained : chain.getDetonated()) {
+            fuses.cancel(chained);
+            refundBomb(chained);
+        }
 
-        // Son d'explosion
+        // Son d'explosion (un seul par chaîne)
         music.jouerExplosion();
 
-        // Propagation dans les 4 directions
-        for (Direction direction : Direction.values()) {
-            for (int i = 1; i <= bomb.getExplosionRange(); i++) {
-                int x = bombX + direction.getDx() * i;
-                int y = bombY + direction.getDy() * i;
-
-                if (!isValidPosition(x, y)) break;
-
-                Cell cell = grid[x][y];
-
-                // Mur fixe : arrêt de la propagation
-                if (cell.getType() == CellType.WALL) break;
-
-                // Mur destructible : destruction et arrêt
-                if (cell.getType() == CellType.DESTRUCTIBLE_WALL) {
-                    // Points pour destruction (uniquement joueur humain)
-                    if (bomb.getOwner() != 0) {
-                        player.addScore(50);
-                    }
-                    createExplosion(x, y, bomb.getOwner());
-                    cell.setType(CellType.EMPTY);
-                    // 25% de chance d'apparition de bonus
-                    if (Math.random() < 0.25) {
-                        cell.setPowerUp(PowerUp.random());
-                    }
-                    break;
-                }
+        // Murs destructibles détruits
+        for (int i = 0; i < chain.getDestroyedCount(); i++) {
+            int x = chain.getDestroyedX(i), y = chain.getDestroyedY(i);
+            // Points pour destruction (au joueur humain qui a posé la bombe)
+            Player scorer = scorerOf(chain.getDestroyedBy(i));
+            if (scorer != null) {
+                scorer.addScore(50);
+            }
+            grid.setType(x, y, CellType.EMPTY);
+            // 25% de chance d'apparition de bonus
+            if (Math.random() < 0.25) {
+                grid.setPowerUp(x, y, PowerUp.random().getType());
+            }
+        }
 
-                // Case vide : explosion continue
-                createExplosion(x, y, bomb.getOwner());
+        danger.blastResolved(chain);
 
-                // Réaction en chaîne : autres bombes
-                if (cell.getBomb() != null && !cell.getBomb().hasExploded()) {
-                    explodeBomb(cell.getBomb());
-                }
-            }
+        // Dégâts : une seule explosion par case touchée
+        for (int i = 0; i < chain.getBurnedCount(); i++) {
+            createExplosion(chain.getBurnedX(i), chain.getBurnedY(i), scorerOf(chain.getBurnedBy(i)));
         }
+        return detonations;
+    }
+
+    /**
+     * Joueur humain crédité pour une bombe (null pour une bombe de bot)
+     */
+    private Player scorerOf(Bomb bomb) {
+        if (bomb.getOwner() == 0) return null;
+        return bomb.getPlacedBy() != null ? bomb.getPlacedBy() : player;
     }
 
     /**
      * Crée une explosion à une position donnée
-     * Gère les dégâts aux joueurs et bots
+     * OPTIMISATION: les victimes sont lues dans l'index d'occupation de la case
+     * @param scorer Joueur crédité des éliminations (null si aucun)
      */
-    private void createExplosion(int x, int y, int owner) {
-        explosions.add(new Explosion(x, y));
-        Cell cell = grid[x][y];
-
-        // Dégâts au joueur humain
-        if (cell.hasPlayer() && player != null && player.getX() == x && player.getY() == y) {
-            player.takeDamage();
-            player.respawnAtStart(this);
-        }
+    private void createExplosion(int x, int y, Player scorer) {
+        explosions.ignite(x, y, clock.now());
 
-        // Dégâts aux bots
-        for (PlayerBot bot : bots) {
-            if (bot.isAlive() && bot.getX() == x && bot.getY() == y) {
-                boolean botWasAlive = bot.isAlive();
+        // Parcours à rebours : un respawn ou une mort retire l'occupant de la case
+        List<Player> here = occupants.at(x, y);
+        for (int i = here.size() - 1; i >= 0; i--) {
+            Player victim = here.get(i);
+            if (!victim.isAlive()) continue;
+
+            if (victim instanceof PlayerBot bot) {
+                // Dégâts aux bots
                 bot.takeDamage(this);
                 if (bot.isAlive()) {
                     bot.respawnAtStart(this);
-                } else if (botWasAlive && owner != 0) {
+                } else {
+                    occupants.remove(bot);
                     // Points pour élimination de bot (joueur humain seulement)
-                    player.addScore(300);
+                    if (scorer != null) scorer.addScore(300);
                 }
+            } else {
+                // Dégâts aux joueurs humains
+                victim.takeDamage();
+                if (victim.isAlive()) victim.respawnAtStart(this);
+                else occupants.remove(victim);
             }
         }
     }
 
+    /**
+     * Vérifie s'il y a une explosion à une position donnée (O(1))
+     */
+    public boolean isExplosionAt(int x, int y) {
+        return isValidPosition(x, y) && explosions.isBurning(x, y, clock.now());
+    }
+
     /**
      * Vérifie si une position est valide sur le plateau
      */
+    @Override
     public boolean isValidPosition(int x, int y) {
-        return x >= 0 && x < Constants.BOARD_WIDTH &&
-                y >= 0 && y < Constants.BOARD_HEIGHT;
+        return x >= 0 && x < width && y >= 0 && y < height;
     }
 
     // --------- Accesseurs publics ----------
-    public void addBomb(Bomb bomb) { bombs.add(bomb); }
-    public Cell getCell(int x, int y) { return grid[x][y]; }
+    @Override public void addBomb(Bomb bomb) {
+        bombs.add(bomb);
+        fuses.schedule(bomb);
+        danger.bombAdded(bomb);
+    }
+    @Override public Cell getCell(int x, int y) { return grid.cellAt(x, y); }
+    public PackedGrid getGrid() { return grid; }
+    public DangerMap getDanger() { return danger; }
+    public TranspositionTable getTranspositions() { return transpositions; }
+    public DistanceField getChaseField() { return chaseField; }
     public List<PlayerBot> getBots() { return bots; }
     public List<Bomb> getBombs() { return bombs; }
-    public List<Explosion> getExplosions() { return explosions; }
+    public ExplosionGrid getExplosions() { return explosions; }
     public Player getPlayer() { return player; }
-    public int getWidth() { return Constants.BOARD_WIDTH; }
-    public int getHeight() { return Constants.BOARD_HEIGHT; }
+    public List<Player> getPlayers() { return players; }
+    @Override public GameClock getClock() { return clock; }
+    @Override public int getWidth() { return width; }
+    @Override public int getHeight() { return height; }
 }
\ No newline at end of file
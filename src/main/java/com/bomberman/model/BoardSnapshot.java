@@ -0,0 +1,114 @@
+/**
+ * Instantané figé du plateau pour la phase de décision des bots
+ * Lu en parallèle par tous les bots, recopié par le plateau avant chaque décision
+ */
+package com.bomberman.model;
+
+import java.util.List;
+
+public class BoardSnapshot {
+    private final PackedGrid grid;       // Copie de la grille
+    private final DangerMap danger;      // Carte des dangers (non modifiée pendant la décision)
+    private final DistanceField chaseField; // Distances aux joueurs (non modifiées pendant la décision)
+    private final ExplosionGrid explosions; // Flammes actuelles (non modifiées pendant la décision)
+    private final TranspositionTable transpositions; // Partagée par les bots du plateau
+    private int[] playerX = new int[4], playerY = new int[4], playerRange = new int[4];
+    private boolean[] playerAlive = new boolean[4];
+    private int playerCount;
+    private long now;                    // Instant virtuel de la décision
+
+    /**
+     * Crée un instantané aux dimensions du plateau
+     */
+    public BoardSnapshot(Board board) {
+        this.grid = new PackedGrid(board.getWidth(), board.getHeight());
+        this.danger = board.getDanger();
+        this.chaseField = board.getChaseField();
+        this.explosions = board.getExplosions();
+        this.transpositions = board.getTranspositions();
+    }
+
+    /**
+     * Recopie l'état courant du plateau (à appeler hors de la phase parallèle)
+     */
+    public void capture(Board board) {
+        grid.copyFrom(board.getGrid());
+        List<Player> players = board.getPlayers();
+        playerCount = players.size();
+        if (playerX.length < playerCount) {
+            playerX = new int[playerCount];
+            playerY = new int[playerCount];
+            playerRange = new int[playerCount];
+            playerAlive = new boolean[playerCount];
+        }
+        for (int i = 0; i < playerCount; i++) {
+            Player p = players.get(i);
+            playerX[i] = p.getX();
+            playerY[i] = p.getY();
+            playerRange[i] = p.getExplosionRange();
+            playerAlive[i] = p.isAlive();
+        }
+        now = board.getClock().now();
+    }
+
+    /**
+     * Joueur humain vivant le plus proche (le premier joueur si aucun n'est vivant)
+     * @return Indice du joueur dans l'instantané
+     */
+    public int nearestPlayer(int x, int y) {
+        int nearest = 0;
+        int best = Integer.MAX_VALUE;
+        for (int i = 0; i < playerCount; i++) {
+            if (!playerAlive[i]) continue;
+            int distance = Math.abs(playerX[i] - x) + Math.abs(playerY[i] - y);
+            if (distance < best) {
+                best = distance;
+                nearest = i;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Premier pas du plus court chemin vers le joueur le plus proche
+     */
+    public com.bomberman.model.enums.Direction chaseStep(int x, int y) {
+        return chaseField.stepFrom(x, y);
+    }
+
+    /**
+     * Distance au joueur le plus proche (DistanceField.UNREACHABLE si aucun chemin)
+     */
+    public int chaseDistance(int x, int y) {
+        return chaseField.distanceAt(x, y);
+    }
+
+    public boolean isValidPosition(int x, int y) {
+        return x >= 0 && y >= 0 && x < grid.getWidth() && y < grid.getHeight();
+    }
+
+    // Lecture de la grille figée
+    public boolean isWalkable(int x, int y) { return grid.isWalkable(x, y); }
+    public boolean hasPlayer(int x, int y) { return grid.hasPlayer(x, y); }
+    public boolean hasBomb(int x, int y) { return grid.hasBomb(x, y); }
+    public boolean isDestructible(int x, int y) {
+        return grid.getType(x, y) == com.bomberman.model.enums.CellType.DESTRUCTIBLE_WALL;
+    }
+    public com.bomberman.model.enums.CellType getType(int x, int y) { return grid.getType(x, y); }
+    public Bomb getBomb(int x, int y) { return grid.getBomb(x, y); }
+    public long getBurningUntil(int x, int y) { return explosions.getBurningUntil(x, y); }
+    public long getExplosionDuration() { return explosions.getDuration(); }
+
+    // Accesseurs
+    public int getPlayerX(int i) { return playerX[i]; }
+    public int getPlayerY(int i) { return playerY[i]; }
+    public int getPlayerRange(int i) { return playerRange[i]; }
+    public boolean isPlayerAlive(int i) { return playerAlive[i]; }
+    public int getPlayerCount() { return playerCount; }
+    public int getWidth() { return grid.getWidth(); }
+    public int getHeight() { return grid.getHeight(); }
+    public DangerMap getDanger() { return danger; }
+    public long getNow() { return now; }
+    public long getHash() { return grid.getHash(); }
+    public TranspositionTable getTranspositions() { return transpositions; }
+}
@@ -11,29 +11,45 @@ public class Bomb {
     private final int explosionRange;    // Portée de l'explosion
     private final long plantTime;        // Moment où la bombe a été posée
     private boolean hasExploded;         // État d'explosion
-    private final int owner;             // Propriétaire de la bombe (pour les points)
+    private final int owner;             // Propriétaire de la bombe (0 = bot, pour les points)
+    private final Player placedBy;       // Joueur ayant posé la bombe (null si inconnu)
+    private final GameClock clock;       // Horloge virtuelle de la partie
 
     // OPTIMISATION: Pré-calcul du moment d'explosion
-    private final long explosionTime;
+    private long explosionTime;
+
+    // Chaînage intrusif dans la roue de minuterie (BombScheduler), sans allocation
+    Bomb wheelPrev, wheelNext;
+    int wheelSlot = -1;                  // Case de la roue, -1 si non planifiée
+    long wheelTick;                      // Tick absolu d'échéance
 
     /**
-     * Constructeur complet avec propriétaire
+     * Constructeur complet avec propriétaire et poseur
      */
-    public Bomb(int x, int y, int explosionRange, int owner) {
+    public Bomb(int x, int y, int explosionRange, int owner, Player placedBy, GameClock clock) {
         this.x = x;
         this.y = y;
         this.explosionRange = explosionRange;
-        this.plantTime = System.currentTimeMillis();
+        this.clock = clock;
+        this.plantTime = clock.now();
         this.explosionTime = plantTime + Constants.BOMB_TIMER; // Pré-calculé
         this.hasExploded = false;
         this.owner = owner;
+        this.placedBy = placedBy;
+    }
+
+    /**
+     * Constructeur avec propriétaire
+     */
+    public Bomb(int x, int y, int explosionRange, int owner, GameClock clock) {
+        this(x, y, explosionRange, owner, null, clock);
     }
 
     /**
      * Constructeur simplifié sans propriétaire
      */
-    public Bomb(int x, int y, int explosionRange) {
-        this(x, y, explosionRange, 0);
+    public Bomb(int x, int y, int explosionRange, GameClock clock) {
+        this(x, y, explosionRange, 0, clock);
     }
 
     /**
@@ -41,7 +57,7 @@ public class Bomb {
      * OPTIMISATION: Évite les calculs répétés
      */
     public void update() {
-        if (!hasExploded && System.currentTimeMillis() >= explosionTime) {
+        if (!hasExploded && clock.now() >= explosionTime) {
             hasExploded = true;
         }
     }
@@ -50,7 +66,7 @@ public class Bomb {
      * Vérifie si la bombe doit exploser
      */
     public boolean shouldExplode() {
-        return !hasExploded && System.currentTimeMillis() >= explosionTime;
+        return !hasExploded && clock.now() >= explosionTime;
     }
 
     /**
@@ -66,14 +82,17 @@ public class Bomb {
     public int getExplosionRange() { return explosionRange; }
     public boolean hasExploded() { return hasExploded; }
     public int getOwner() { return owner; }
+    public Player getPlacedBy() { return placedBy; }
     public long getPlantTime() { return plantTime; }
+    public long getExplosionTime() { return explosionTime; }
+    void setExplosionTime(long time) { this.explosionTime = time; } // Via PackedGrid.rescheduleBomb
 
     /**
      * OPTIMISATION: Calcule le temps restant avant explosion
      */
     public long getTimeRemaining() {
         if (hasExploded) return 0;
-        long remaining = explosionTime - System.currentTimeMillis();
+        long remaining = explosionTime - clock.now();
         return Math.max(0, remaining);
     }
 
@@ -82,7 +101,7 @@ public class Bomb {
      */
     public float getProgress() {
         if (hasExploded) return 1.0f;
-        long elapsed = System.currentTimeMillis() - plantTime;
+        long elapsed = clock.now() - plantTime;
         return Math.min(1.0f, (float) elapsed / Constants.BOMB_TIMER);
     }
 }
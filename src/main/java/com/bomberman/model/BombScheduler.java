@@ -0,0 +1,114 @@
+/**
+ * Roue de minuterie hachée pour les mèches de bombes
+ * Chaque tick ne visite que la case de la roue arrivée à échéance au lieu d'interroger
+ * toutes les bombes ; planification, replanification et annulation en O(1)
+ */
+package com.bomberman.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BombScheduler {
+    private final long resolution;       // Durée d'une case de la roue (ms)
+    private final Bomb[] slots;          // Têtes des listes doublement chaînées par case
+    private final int mask;              // Nombre de cases - 1 (puissance de 2)
+    private long lastTick;               // Dernier tick traité
+    private int size;                    // Bombes planifiées
+    private final List<Bomb> due = new ArrayList<>(); // Lot réutilisé des bombes échues
+
+    /**
+     * Crée une roue
+     * @param resolution Granularité en ms (typiquement le pas de simulation)
+     * @param slotCount  Nombre de cases, arrondi à la puissance de 2 supérieure
+     * @param now        Temps virtuel courant
+     */
+    public BombScheduler(long resolution, int slotCount, long now) {
+        if (resolution <= 0) throw new IllegalArgumentException("Résolution invalide : " + resolution);
+        this.resolution = resolution;
+        int n = Integer.highestOneBit(Math.max(2, slotCount - 1)) << 1;
+        this.slots = new Bomb[n];
+        this.mask = n - 1;
+        this.lastTick = Math.floorDiv(now, resolution);
+    }
+
+    /**
+     * Planifie une bombe à son moment d'explosion
+     */
+    public void schedule(Bomb bomb) {
+        if (bomb.wheelSlot >= 0) unlink(bomb);
+        // Tick arrondi au supérieur : la bombe part au premier tick où now >= explosionTime
+        long tick = Math.max(lastTick + 1, Math.floorDiv(bomb.getExplosionTime() + resolution - 1, resolution));
+        bomb.wheelTick = tick;
+        link(bomb, (int) (tick & mask));
+    }
+
+    /**
+     * Replanifie une bombe à un nouveau moment (ex. détonation retardée par une chaîne)
+     * L'échéance passe par la grille, dont l'empreinte en dépend
+     */
+    public void reschedule(PackedGrid grid, Bomb bomb, long explosionTime) {
+        grid.rescheduleBomb(bomb, explosionTime);
+        schedule(bomb);
+    }
+
+    /**
+     * Retire une bombe de la roue (explosée par réaction en chaîne, ramassée...)
+     */
+    public void cancel(Bomb bomb) {
+        if (bomb.wheelSlot >= 0) unlink(bomb);
+    }
+
+    /**
+     * Avance la roue jusqu'à l'instant donné et retourne les bombes échues,
+     * de la plus ancienne échéance à la plus récente
+     * La liste retournée est réutilisée à l'appel suivant
+     */
+    public List<Bomb> drainDue(long now) {
+        due.clear();
+        long nowTick = Math.floorDiv(now, resolution);
+        if (nowTick <= lastTick || size == 0) {
+            lastTick = Math.max(lastTick, nowTick);
+            return due;
+        }
+
+        // Saut de plus d'un tour : chaque case n'est visitée qu'une fois
+        long from = Math.max(lastTick + 1, nowTick - mask);
+        for (long tick = from; tick <= nowTick && size > 0; tick++) {
+            Bomb bomb = slots[(int) (tick & mask)];
+            while (bomb != null) {
+                Bomb next = bomb.wheelNext;
+                if (bomb.wheelTick <= nowTick) {
+                    unlink(bomb);
+                    due.add(bomb);
+                }
+                bomb = next;
+            }
+        }
+        lastTick = nowTick;
+        // Après un saut de plusieurs tours, l'ordre par case ne suffit plus
+        if (nowTick - from >= mask) due.sort((a, b) -> Long.compare(a.getExplosionTime(), b.getExplosionTime()));
+        return due;
+    }
+
+    private void link(Bomb bomb, int slot) {
+        bomb.wheelSlot = slot;
+        bomb.wheelPrev = null;
+        bomb.wheelNext = slots[slot];
+        if (slots[slot] != null) slots[slot].wheelPrev = bomb;
+        slots[slot] = bomb;
+        size++;
+    }
+
+    private void unlink(Bomb bomb) {
+        if (bomb.wheelPrev != null) bomb.wheelPrev.wheelNext = bomb.wheelNext;
+        else slots[bomb.wheelSlot] = bomb.wheelNext;
+        if (bomb.wheelNext != null) bomb.wheelNext.wheelPrev = bomb.wheelPrev;
+        bomb.wheelPrev = bomb.wheelNext = null;
+        bomb.wheelSlot = -1;
+        size--;
+    }
+
+    // Accesseurs
+    public int size() { return size; }
+    public long getResolution() { return resolution; }
+}
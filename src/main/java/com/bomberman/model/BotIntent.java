@@ -0,0 +1,30 @@
+/**
+ * Intention d'un bot pour le tick courant
+ * Calculée pendant la phase de décision, appliquée par le plateau lors de la validation
+ */
+package com.bomberman.model;
+
+import com.bomberman.model.enums.Direction;
+
+public class BotIntent {
+    private Direction move;              // Déplacement voulu (null : rester sur place)
+    private boolean dropBomb;            // Pose d'une bombe sur la case de départ
+
+    /**
+     * Aucune action
+     */
+    public void clear() {
+        move = null;
+        dropBomb = false;
+    }
+
+    public void set(Direction move, boolean dropBomb) {
+        this.move = move;
+        this.dropBomb = dropBomb;
+    }
+
+    // Accesseurs
+    public Direction getMove() { return move; }
+    public boolean dropsBomb() { return dropBomb; }
+    public boolean isIdle() { return move == null && !dropBomb; }
+}
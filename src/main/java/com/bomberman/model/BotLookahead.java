@@ -0,0 +1,155 @@
+/**
+ * Recherche anticipée à approfondissement itératif pour les bots
+ * Explore les suites de déplacements sur l'instantané du plateau en tenant compte
+ * des échéances d'explosion ; à l'échéance de temps, renvoie le meilleur coup
+ * de la dernière profondeur terminée (recherche interruptible)
+ * Les positions déjà évaluées (même case, même pas, même profondeur) sont lues dans la
+ * table de transposition du plateau, partagée par tous les bots qui décident en parallèle
+ */
+package com.bomberman.model;
+
+import com.bomberman.model.enums.BotDifficulty;
+import com.bomberman.model.enums.Direction;
+
+public class BotLookahead {
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final int DEAD = Integer.MIN_VALUE / 2;   // Suite de coups mortelle
+    private static final int UNREACHABLE_PENALTY = 1000;     // Aucun chemin vers un joueur
+    private static final int CALM_BONUS = 5;                 // Case sans explosion prévue
+    private static final int DIG_BONUS = 20;                 // Mur destructible à portée (sans chemin)
+    private static final int DEADLINE_CHECK_MASK = 63;       // Lecture de l'horloge tous les 64 nœuds
+
+    // État de la recherche en cours
+    private BoardSnapshot board;
+    private TranspositionTable table;
+    private long rootKey;                // Empreinte de la grille, de l'instant et du pas
+    private long now, stepMs, deadline;
+    private boolean timedOut;
+    private int nodes;
+
+    // Diagnostic du dernier appel
+    private int completedDepth;
+    private int lastNodes;
+    private int hits, lastHits;
+
+    /**
+     * Meilleur déplacement trouvé dans le budget de temps du niveau
+     * La profondeur 1 est toujours terminée : un coup sûr est toujours proposé si possible
+     * @return La direction, ou null pour rester sur place
+     */
+    public Direction bestMove(BoardSnapshot board, int x, int y, long stepMs, BotDifficulty difficulty) {
+        this.board = board;
+        this.now = board.getNow();
+        this.stepMs = stepMs;
+        this.deadline = System.nanoTime() + difficulty.getSearchBudgetNanos();
+        this.timedOut = false;
+        this.nodes = 0;
+        this.hits = 0;
+        this.table = board.getTranspositions();
+        // L'instant fixe les flammes et les échéances, absentes de l'empreinte de la grille
+        this.rootKey = Zobrist.mix(board.getHash() ^ Zobrist.mix(now * 31 + stepMs));
+        completedDepth = 0;
+
+        Direction best = null;
+        for (int depth = 1; depth <= difficulty.getMaxDepth(); depth++) {
+            Direction bestAtDepth = null;
+            int bestScore = DEAD - 1;
+            for (int a = -1; a < DIRECTIONS.length; a++) {
+                int nx = x, ny = y;
+                if (a >= 0) {
+                    nx += DIRECTIONS[a].getDx();
+                    ny += DIRECTIONS[a].getDy();
+                    // Au premier pas, les autres joueurs et bots occupent encore leur case
+                    if (!board.isValidPosition(nx, ny) || !board.isWalkable(nx, ny) || board.hasPlayer(nx, ny)) continue;
+                }
+                int score = search(nx, ny, 1, depth);
+                if (timedOut) break;
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestAtDepth = a >= 0 ? DIRECTIONS[a] : null;
+                }
+            }
+            if (timedOut) break;
+            best = bestAtDepth;
+            completedDepth = depth;
+        }
+        lastNodes = nodes;
+        lastHits = hits;
+        return best;
+    }
+
+    /**
+     * Meilleur score cumulé atteignable depuis une case occupée au pas ply
+     * Chaque case du trajet est évaluée : atteindre une bonne case plus tôt rapporte plus
+     */
+    private int search(int x, int y, int ply, int depth) {
+        if ((++nodes & DEADLINE_CHECK_MASK) == 0 && depth > 1 && System.nanoTime() > deadline) {
+            timedOut = true;
+        }
+        if (timedOut) return 0;
+        if (!survives(x, y, ply)) return DEAD;
+        int score = evaluate(x, y);
+        if (ply == depth) return score;
+
+        // OPTIMISATION: une même position atteinte par plusieurs chemins n'est explorée qu'une fois
+        long key = rootKey ^ Zobrist.key(x + y * 256, (long) ply << 16 | depth);
+        long cached = table.get(key);
+        if (cached != TranspositionTable.MISS) {
+            hits++;
+            return (int) cached;
+        }
+
+        int best = DEAD;
+        for (int a = -1; a < DIRECTIONS.length; a++) {
+            int nx = x, ny = y;
+            if (a >= 0) {
+                nx += DIRECTIONS[a].getDx();
+                ny += DIRECTIONS[a].getDy();
+                if (!board.isValidPosition(nx, ny) || !board.isWalkable(nx, ny)) continue;
+            }
+            best = Math.max(best, search(nx, ny, ply + 1, depth));
+            if (timedOut) return 0;
+        }
+        int result = best == DEAD ? DEAD : score + best;
+        table.put(key, result);
+        return result;
+    }
+
+    /**
+     * Le bot survit s'il occupe la case pendant [now + (ply-1) pas, now + ply pas)
+     * sans flammes actuelles ni souffle prévu sur cet intervalle
+     */
+    private boolean survives(int x, int y, int ply) {
+        long enter = now + (ply - 1) * stepMs;
+        long leave = enter + stepMs;
+        if (board.getBurningUntil(x, y) > enter) return false;
+        long blast = board.getDanger().getBlastTime(x, y);
+        return blast == DangerMap.SAFE || leave <= blast || enter >= blast + board.getExplosionDuration();
+    }
+
+    /**
+     * Évaluation d'une case : proximité du joueur le plus proche, puis calme de la case
+     * Sans chemin vers un joueur, on vise les murs destructibles à faire sauter
+     */
+    private int evaluate(int x, int y) {
+        int distance = board.chaseDistance(x, y);
+        int score;
+        if (distance == DistanceField.UNREACHABLE) {
+            score = -UNREACHABLE_PENALTY;
+            for (Direction dir : DIRECTIONS) {
+                int nx = x + dir.getDx();
+                int ny = y + dir.getDy();
+                if (board.isValidPosition(nx, ny) && board.isDestructible(nx, ny)) score += DIG_BONUS;
+            }
+        } else {
+            score = -distance * 10;
+        }
+        if (board.getDanger().isSafe(x, y)) score += CALM_BONUS;
+        return score;
+    }
+
+    // Accesseurs (diagnostic)
+    public int getCompletedDepth() { return completedDepth; }
+    public int getLastNodes() { return lastNodes; }
+    public int getLastHits() { return lastHits; }
+}
@@ -0,0 +1,230 @@
+/**
+ * Recherche arborescente Monte-Carlo pour les bots (UCT en boucle ouverte)
+ * Chaque itération repart de l'instantané : descente dans l'arbre des actions du bot
+ * (UCB1), puis partie aléatoire jusqu'à l'horizon, les adversaires jouant au hasard
+ * Parallélisation à la racine : un arbre et un état par fil, visites fusionnées à la fin
+ */
+package com.bomberman.model;
+
+import com.bomberman.model.enums.BotDifficulty;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+public class BotMonteCarlo {
+    private static final double EXPLORATION = 1.4;    // Constante d'exploration UCB1
+    private static final int MIN_ITERATIONS = 64;     // Itérations garanties sur le fil appelant
+    private static final int MAX_AGENTS = 5;          // Le bot et au plus 4 joueurs
+    private static final int PROXIMITY_RANGE = 10;    // Distance au-delà de laquelle la proximité ne compte plus
+    private static final int TREE_CAPACITY = 1 + SimState.ACTIONS * 4096;
+
+    private final ForkJoinPool pool;
+    private final Worker[] workers;
+    private final ForkJoinTask<?>[] tasks;
+    private final int[] rootVisits = new int[SimState.ACTIONS];
+    private int lastIterations;                       // Diagnostic du dernier appel
+
+    /**
+     * Recherche sur le pool commun, un arbre par fil disponible
+     */
+    public BotMonteCarlo() {
+        this(ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    public BotMonteCarlo(ForkJoinPool pool, int threads) {
+        this.pool = pool;
+        this.workers = new Worker[Math.max(1, threads)];
+        this.tasks = new ForkJoinTask<?>[workers.length];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Worker(System.nanoTime() * 31 + i * 0x9E3779B97F4A7C15L);
+        }
+    }
+
+    /**
+     * Action la plus visitée à la racine dans le budget de temps du niveau
+     * @param bombsLeft Bombes encore disponibles pour le bot
+     * @return Une action de SimState (STAY, direction ou BOMB)
+     */
+    public int bestAction(BoardSnapshot board, Player self, int bombsLeft, long stepMs, BotDifficulty difficulty) {
+        long deadline = System.nanoTime() + difficulty.getSearchBudgetNanos();
+        int horizon = difficulty.getMaxDepth();
+        for (Worker worker : workers) worker.load(board, self, bombsLeft);
+
+        // Les fils du pool ne cherchent que jusqu'à l'échéance ; le fil appelant garantit un minimum
+        for (int i = 1; i < workers.length; i++) {
+            Worker worker = workers[i];
+            tasks[i] = pool.submit(() -> worker.search(deadline, horizon, (int) stepMs, 0));
+        }
+        workers[0].search(deadline, horizon, (int) stepMs, MIN_ITERATIONS);
+        for (int i = 1; i < workers.length; i++) {
+            tasks[i].join();
+            tasks[i] = null;
+        }
+
+        java.util.Arrays.fill(rootVisits, 0);
+        lastIterations = 0;
+        for (Worker worker : workers) {
+            worker.addRootVisits(rootVisits);
+            lastIterations += worker.iterations;
+        }
+        int best = SimState.STAY;
+        for (int a = 0; a < SimState.ACTIONS; a++) {
+            if (rootVisits[a] > rootVisits[best]) best = a;
+        }
+        return best;
+    }
+
+    // Accesseurs (diagnostic)
+    public int getLastIterations() { return lastIterations; }
+    public int getRootVisits(int action) { return rootVisits[action]; }
+
+    /**
+     * Arbre et état de simulation propres à un fil
+     * Les enfants d'un nœud sont contigus : une action par enfant
+     */
+    private static final class Worker {
+        private SimState state;
+        private final int[] visits = new int[TREE_CAPACITY];
+        private final float[] value = new float[TREE_CAPACITY];
+        private final int[] firstChild = new int[TREE_CAPACITY];
+        private int nodeCount;
+        private int[] path = new int[32];
+        private final int[] actions = new int[MAX_AGENTS];
+        private long seed;
+        private int iterations;
+
+        Worker(long seed) {
+            this.seed = seed == 0 ? 1 : seed;
+        }
+
+        void load(BoardSnapshot board, Player self, int bombsLeft) {
+            if (state == null || state.getWidth() != board.getWidth() || state.getHeight() != board.getHeight()) {
+                state = new SimState(board.getWidth(), board.getHeight(), MAX_AGENTS);
+            }
+            state.load(board, self, bombsLeft);
+        }
+
+        void search(long deadline, int horizon, int stepMs, int minIterations) {
+            if (path.length < horizon + 1) path = new int[horizon + 1];
+            nodeCount = 1;
+            visits[0] = 0;
+            value[0] = 0;
+            firstChild[0] = -1;
+            iterations = 0;
+            while (iterations < minIterations || System.nanoTime() < deadline) {
+                iterate(horizon, stepMs);
+                iterations++;
+            }
+        }
+
+        /**
+         * Une itération : sélection, expansion, partie aléatoire, rétropropagation
+         */
+        private void iterate(int horizon, int stepMs) {
+            state.rewind();
+            int node = 0, depth = 0, length = 0;
+            path[length++] = 0;
+
+            while (depth < horizon && state.isAlive(0)) {
+                if (firstChild[node] < 0) {
+                    // Un nœud n'est développé qu'après sa première visite
+                    if (node != 0 && visits[node] == 0) break;
+                    if (nodeCount + SimState.ACTIONS > TREE_CAPACITY) break;
+                    expand(node);
+                }
+                int action = select(node);
+                play(action, stepMs);
+                node = firstChild[node] + action;
+                path[length++] = node;
+                depth++;
+                if (visits[node] == 0) break;
+            }
+
+            // Hors de l'arbre, le bot ne pose pas de bombe : ses poses au hasard
+            // le tueraient bien plus souvent qu'elles n'informeraient la recherche
+            while (depth < horizon && state.isAlive(0) && state.getOpponentsAlive() > 0) {
+                play(nextInt(5), stepMs);
+                depth++;
+            }
+
+            float reward = reward();
+            for (int i = 0; i < length; i++) {
+                visits[path[i]]++;
+                value[path[i]] += reward;
+            }
+        }
+
+        private void expand(int node) {
+            firstChild[node] = nodeCount;
+            for (int a = 0; a < SimState.ACTIONS; a++) {
+                visits[nodeCount + a] = 0;
+                value[nodeCount + a] = 0;
+                firstChild[nodeCount + a] = -1;
+            }
+            nodeCount += SimState.ACTIONS;
+        }
+
+        /**
+         * UCB1 parmi les actions possibles dans l'état courant (les non visitées d'abord)
+         */
+        private int select(int node) {
+            int base = firstChild[node];
+            double logParent = Math.log(visits[node] + 1);
+            int best = SimState.STAY;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int a = 0; a < SimState.ACTIONS; a++) {
+                if (!state.canAct(0, a)) continue;
+                int n = visits[base + a];
+                if (n == 0) return a;
+                double score = value[base + a] / n + EXPLORATION * Math.sqrt(logParent / n);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = a;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Joue l'action du bot, les adversaires jouent au hasard
+         */
+        private void play(int action, int stepMs) {
+            actions[0] = action;
+            for (int a = 1; a < state.getAgentCount(); a++) actions[a] = randomAction();
+            state.step(actions, stepMs);
+        }
+
+        /**
+         * Politique aléatoire : déplacements ou attente, bombe une fois sur seize
+         */
+        private int randomAction() {
+            int r = nextInt(16);
+            return r == 15 ? SimState.BOMB : r % 5;
+        }
+
+        /**
+         * Récompense dans [0, 1] : survie, adversaires éliminés, puis proximité
+         */
+        private float reward() {
+            if (!state.isAlive(0)) return 0f;
+            int opponents = state.getAgentCount() - 1;
+            if (opponents == 0) return 0.5f;
+            int killed = opponents - state.getOpponentsAlive();
+            int distance = Math.min(state.nearestOpponentDistance(), PROXIMITY_RANGE);
+            return 0.4f + 0.3f * killed / opponents + 0.3f * (1f - (float) distance / PROXIMITY_RANGE);
+        }
+
+        void addRootVisits(int[] totals) {
+            int base = firstChild[0];
+            if (base < 0) return;
+            for (int a = 0; a < SimState.ACTIONS; a++) totals[a] += visits[base + a];
+        }
+
+        // Générateur xorshift (propre au fil, sans allocation)
+        private int nextInt(int bound) {
+            seed ^= seed << 13;
+            seed ^= seed >>> 7;
+            seed ^= seed << 17;
+            return (int) ((seed >>> 33) % bound);
+        }
+    }
+}
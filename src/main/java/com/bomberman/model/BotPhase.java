@@ -0,0 +1,71 @@
+/**
+ * Tour des bots en deux phases
+ * 1. Décision : chaque bot calcule son intention sur un instantané figé,
+ *    en parallèle sur un ForkJoinPool au-delà d'un certain nombre de bots
+ * 2. Validation : les intentions sont appliquées dans l'ordre de la liste des bots,
+ *    les conflits (même case visée, bombe posée sur le passage) sont donc résolus
+ *    de façon déterministe
+ */
+package com.bomberman.model;
+
+import com.bomberman.utils.Constants;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+public class BotPhase {
+    private final ForkJoinPool pool;
+    private final BoardSnapshot snapshot;
+    private final DangerMap danger;
+    private final DangerMap.Probe[] probes;   // Une sonde par tranche de bots (créées à la demande)
+    private final ForkJoinTask<?>[] tasks;
+
+    /**
+     * Phase liée à un plateau, exécutée sur le pool commun
+     */
+    public BotPhase(Board board) {
+        this(board, ForkJoinPool.commonPool());
+    }
+
+    public BotPhase(Board board, ForkJoinPool pool) {
+        this.pool = pool;
+        this.snapshot = new BoardSnapshot(board);
+        this.danger = board.getDanger();
+        int slices = Math.max(1, pool.getParallelism());
+        this.probes = new DangerMap.Probe[slices];
+        this.tasks = new ForkJoinTask<?>[slices];
+    }
+
+    /**
+     * Joue un tick pour tous les bots
+     */
+    public void run(Board board, List<PlayerBot> bots) {
+        snapshot.capture(board);
+        int count = bots.size();
+        int slices = count < Constants.PARALLEL_BOT_THRESHOLD ? 1 : Math.min(probes.length, count);
+
+        // Phase 1 : décisions (la première tranche reste sur le fil appelant)
+        for (int s = 1; s < slices; s++) {
+            int from = count * s / slices, to = count * (s + 1) / slices, slice = s;
+            tasks[s] = pool.submit(() -> decide(bots, from, to, slice));
+        }
+        decide(bots, 0, count / slices, 0);
+        for (int s = 1; s < slices; s++) {
+            tasks[s].join();
+            tasks[s] = null;
+        }
+
+        // Phase 2 : validation séquentielle, dans l'ordre de la liste
+        for (PlayerBot bot : bots) {
+            bot.applyIntent(board);
+        }
+    }
+
+    private void decide(List<PlayerBot> bots, int from, int to, int slice) {
+        if (probes[slice] == null) probes[slice] = danger.newProbe();
+        DangerMap.Probe probe = probes[slice];
+        for (int i = from; i < to; i++) {
+            bots.get(i).decide(snapshot, probe);
+        }
+    }
+}
@@ -1,53 +1,52 @@
 /**
  * Représente une cellule individuelle du plateau de jeu
- * Contient toutes les informations d'état d'une case
+ * Vue légère sur une case de la PackedGrid : aucune donnée n'est dupliquée
  */
 package com.bomberman.model;
 
 import com.bomberman.model.enums.CellType;
 
 public class Cell {
-    private CellType type;          // Type de la cellule
-    private boolean hasPlayer;      // Présence d'un joueur
-    private boolean hasEnemy;       // Présence d'un ennemi
-    private Bomb bomb;              // Bombe présente (null si aucune)
-    private PowerUp powerUp;        // Bonus présent (null si aucun)
+    private final PackedGrid grid;  // Grille compacte sous-jacente
+    private final int index;        // Index plat de la case
 
     /**
-     * Constructeur avec type de cellule
+     * Constructeur de vue (obtenue via PackedGrid.cellAt)
      */
-    public Cell(CellType type) {
-        this.type = type;
-        this.hasPlayer = false;
-        this.hasEnemy = false;
+    Cell(PackedGrid grid, int index) {
+        this.grid = grid;
+        this.index = index;
     }
 
     // Accesseurs pour le type de cellule
-    public CellType getType() { return type; }
-    public void setType(CellType type) { this.type = type; }
+    public CellType getType() { return grid.getType(index); }
+    public void setType(CellType type) { grid.setType(index, type); }
 
     // Gestion de la présence de joueur
-    public boolean hasPlayer() { return hasPlayer; }
-    public void setHasPlayer(boolean hasPlayer) { this.hasPlayer = hasPlayer; }
+    public boolean hasPlayer() { return grid.hasFlag(index, PackedGrid.PLAYER_BIT); }
+    public void setHasPlayer(boolean hasPlayer) { grid.setFlag(index, PackedGrid.PLAYER_BIT, hasPlayer); }
 
     // Gestion de la présence d'ennemi
-    public boolean hasEnemy() { return hasEnemy; }
-    public void setHasEnemy(boolean hasEnemy) { this.hasEnemy = hasEnemy; }
+    public boolean hasEnemy() { return grid.hasFlag(index, PackedGrid.ENEMY_BIT); }
+    public void setHasEnemy(boolean hasEnemy) { grid.setFlag(index, PackedGrid.ENEMY_BIT, hasEnemy); }
 
     // Gestion des bombes
-    public Bomb getBomb() { return bomb; }
-    public void setBomb(Bomb bomb) { this.bomb = bomb; }
+    public Bomb getBomb() { return grid.getBomb(index); }
+    public void setBomb(Bomb bomb) { grid.setBomb(index, bomb); }
 
     // Gestion des bonus
-    public PowerUp getPowerUp() { return powerUp; }
-    public void setPowerUp(PowerUp powerUp) { this.powerUp = powerUp; }
-    public boolean hasPowerUp() { return powerUp != null; }
+    public PowerUp getPowerUp() {
+        var type = grid.getPowerUpType(index);
+        return type == null ? null : PowerUp.of(type);
+    }
+    public void setPowerUp(PowerUp powerUp) { grid.setPowerUp(index, powerUp == null ? null : powerUp.getType()); }
+    public boolean hasPowerUp() { return grid.getPowerUpType(index) != null; }
 
     /**
      * Détermine si la cellule est marchable
      * Une cellule est marchable si elle est vide et sans bombe
      */
     public boolean isWalkable() {
-        return type == CellType.EMPTY && bomb == null;
+        return grid.isWalkable(index);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,134 @@
+/**
+ * Résolution itérative des réactions en chaîne
+ * File de détonation en largeur : une chaîne complète est résolue en un seul passage,
+ * chaque case n'est brûlée qu'une fois et les effets sont rendus en un seul lot
+ */
+package com.bomberman.model;
+
+import com.bomberman.model.enums.CellType;
+import com.bomberman.model.enums.Direction;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ChainReaction {
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final PackedGrid grid;
+    private final ArrayDeque<Bomb> queue = new ArrayDeque<>();  // File de détonation
+    private final int[] visitStamp;      // Marque de passage par case (évite les doublons)
+    private int stamp;                   // Marque du passage courant
+
+    // Lot de résultats du dernier passage (tableaux réutilisés)
+    private final List<Bomb> detonated = new ArrayList<>();
+    private final int[] burnedCells;     // Cases touchées (index plat)
+    private final Bomb[] burnedBy;       // Bombe ayant atteint chaque case en premier
+    private int burnedCount;
+    private final int[] destroyedWalls;  // Murs destructibles détruits (index plat)
+    private final Bomb[] destroyedBy;
+    private int destroyedCount;
+
+    /**
+     * Constructeur lié à la grille d'un plateau
+     */
+    public ChainReaction(PackedGrid grid) {
+        this.grid = grid;
+        int size = grid.getWidth() * grid.getHeight();
+        this.visitStamp = new int[size];
+        this.burnedCells = new int[size];
+        this.burnedBy = new Bomb[size];
+        this.destroyedWalls = new int[size];
+        this.destroyedBy = new Bomb[size];
+    }
+
+    /**
+     * Résout toute la chaîne déclenchée par une bombe
+     * Les murs ne sont pas modifiés ici : ils bloquent toutes les bombes de la chaîne
+     * (explosion simultanée), le plateau applique ensuite le lot
+     * @return Nombre de bombes ayant explosé
+     */
+    public int resolve(Bomb trigger) {
+        begin();
+        trigger.explode();
+        queue.add(trigger);
+
+        while (!queue.isEmpty()) {
+            Bomb bomb = queue.poll();
+            detonated.add(bomb);
+            int bombX = bomb.getX(), bombY = bomb.getY();
+            grid.setBomb(bombX, bombY, null);
+            burn(grid.index(bombX, bombY), bomb);
+
+            // Propagation en croix
+            for (Direction direction : DIRECTIONS) {
+                for (int i = 1; i <= bomb.getExplosionRange(); i++) {
+                    int x = bombX + direction.getDx() * i;
+                    int y = bombY + direction.getDy() * i;
+                    if (x < 0 || y < 0 || x >= grid.getWidth() || y >= grid.getHeight()) break;
+
+                    int index = grid.index(x, y);
+                    CellType type = grid.getType(index);
+                    if (type == CellType.WALL) break;
+
+                    // Mur destructible : détruit une seule fois, arrête la propagation
+                    if (type == CellType.DESTRUCTIBLE_WALL) {
+                        if (burn(index, bomb)) {
+                            destroyedWalls[destroyedCount] = index;
+                            destroyedBy[destroyedCount++] = bomb;
+                        }
+                        break;
+                    }
+
+                    burn(index, bomb);
+
+                    // Réaction en chaîne : la bombe rejoint la file
+                    Bomb chained = grid.getBomb(index);
+                    if (chained != null && !chained.hasExploded()) {
+                        chained.explode();
+                        queue.add(chained);
+                    }
+                }
+            }
+        }
+        return detonated.size();
+    }
+
+    /**
+     * Réinitialise le lot pour un nouveau passage
+     */
+    private void begin() {
+        if (++stamp == 0) {
+            // Débordement du compteur : on repart de zéro
+            java.util.Arrays.fill(visitStamp, 0);
+            stamp = 1;
+        }
+        detonated.clear();
+        for (int i = 0; i < burnedCount; i++) burnedBy[i] = null;
+        for (int i = 0; i < destroyedCount; i++) destroyedBy[i] = null;
+        burnedCount = 0;
+        destroyedCount = 0;
+    }
+
+    /**
+     * Marque une case comme brûlée (une seule fois par passage)
+     * @return true si la case n'avait pas encore été atteinte
+     */
+    private boolean burn(int index, Bomb bomb) {
+        if (visitStamp[index] == stamp) return false;
+        visitStamp[index] = stamp;
+        burnedCells[burnedCount] = index;
+        burnedBy[burnedCount++] = bomb;
+        return true;
+    }
+
+    // ---- Lecture du lot ----
+    public List<Bomb> getDetonated() { return detonated; }
+    public int getBurnedCount() { return burnedCount; }
+    public int getBurnedX(int i) { return burnedCells[i] % grid.getWidth(); }
+    public int getBurnedY(int i) { return burnedCells[i] / grid.getWidth(); }
+    public Bomb getBurnedBy(int i) { return burnedBy[i]; }
+    public int getDestroyedCount() { return destroyedCount; }
+    public int getDestroyedX(int i) { return destroyedWalls[i] % grid.getWidth(); }
+    public int getDestroyedY(int i) { return destroyedWalls[i] / grid.getWidth(); }
+    public Bomb getDestroyedBy(int i) { return destroyedBy[i]; }
+}
@@ -0,0 +1,423 @@
+/**
+ * Recherche hiérarchique (HPA*) pour les grandes arènes
+ * La grille est découpée en blocs carrés ; chaque segment praticable d'une frontière
+ * entre deux blocs donne une transition, placée au milieu du segment
+ * A* parcourt le graphe des transitions (distances internes précalculées par bloc),
+ * puis le premier tronçon est affiné par Jump Point Search
+ * Quand une case change, seul son bloc (et le voisin si elle borde une frontière)
+ * est recalculé, à la prochaine requête
+ */
+package com.bomberman.model;
+
+import com.bomberman.model.enums.Direction;
+
+public class ClusterPathFinder implements PathFinder {
+    public static final int DEFAULT_CLUSTER_SIZE = 8;
+
+    // Frontières d'un bloc (ordre fixe : la transition t d'une frontière fait face
+    // à la transition t de la frontière opposée du bloc voisin)
+    private static final int TOP = 0, BOTTOM = 1, LEFT = 2, RIGHT = 3;
+    private static final int[] OPPOSITE = {BOTTOM, TOP, RIGHT, LEFT};
+
+    private final PackedGrid grid;
+    private final JumpPointSearch refiner;         // Recherche directe et affinage
+    private final int width, height, size;
+    private final int clustersX, clustersY;
+    private final int perBorder;                   // Transitions au plus par frontière
+    private final int perCluster;                  // Transitions au plus par bloc
+
+    // Graphe abstrait : nœud = bloc * perCluster + emplacement
+    private final int[] nodeCell;                  // Case de chaque nœud (-1 si absent)
+    private final int[] intra;                     // Distances internes (nœud * perCluster + emplacement)
+    private final boolean[] walkable;              // Marchabilité connue au dernier recalcul
+    private final boolean[] dirty;                 // Blocs à recalculer
+    private final int[] dirtyList;
+    private int dirtyCount;
+    private int rebuilds;                          // Blocs recalculés depuis la création (diagnostic)
+
+    // Parcours en largeur restreint à un bloc (coordonnées locales)
+    private final int[] localDist, localQueue;
+    private final int[] startDist, goalDist;       // Distances du départ/de la cible aux transitions
+
+    // A* abstrait (deux nœuds virtuels en fin de tableau : départ et cible)
+    private final int startNode, goalNode;
+    private final int[] cost, parent, openStamp, closedStamp, heap, heapScore, path;
+    private int stamp, heapSize, goalX, goalY;
+
+    public ClusterPathFinder(PackedGrid grid) {
+        this(grid, DEFAULT_CLUSTER_SIZE);
+    }
+
+    public ClusterPathFinder(PackedGrid grid, int clusterSize) {
+        this.grid = grid;
+        this.refiner = new JumpPointSearch(grid);
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+        this.size = clusterSize;
+        this.clustersX = (width + size - 1) / size;
+        this.clustersY = (height + size - 1) / size;
+        this.perBorder = (size + 1) / 2;
+        this.perCluster = 4 * perBorder;
+
+        int clusters = clustersX * clustersY;
+        int nodes = clusters * perCluster;
+        nodeCell = new int[nodes];
+        intra = new int[nodes * perCluster];
+        walkable = new boolean[width * height];
+        dirty = new boolean[clusters];
+        dirtyList = new int[clusters];
+        localDist = new int[size * size];
+        localQueue = new int[size * size];
+        startDist = new int[perCluster];
+        goalDist = new int[perCluster];
+
+        startNode = nodes;
+        goalNode = nodes + 1;
+        cost = new int[nodes + 2];
+        parent = new int[nodes + 2];
+        openStamp = new int[nodes + 2];
+        closedStamp = new int[nodes + 2];
+        heap = new int[(nodes + 2) * 4];
+        heapScore = new int[heap.length];
+        path = new int[nodes + 2];
+        resetWalkable();
+    }
+
+    @Override
+    public Direction next(int fromX, int fromY, int toX, int toY, CellFilter filter) {
+        if (fromX == toX && fromY == toY) return null;
+        // Cible proche : recherche directe limitée aux blocs du départ et de la cible,
+        // le graphe abstrait ne sert qu'en cas de détour hors de ces blocs
+        if (Math.abs(toX - fromX) + Math.abs(toY - fromY) <= size) {
+            Direction dir = refine(fromX, fromY, toX, toY, filter);
+            if (dir != null) return dir;
+        }
+        if (!search(fromX, fromY, toX, toY)) return null;
+
+        // Premier point de passage distinct du départ, puis affinage jusqu'à lui
+        int length = 0;
+        for (int node = goalNode; node != startNode; node = parent[node]) path[length++] = node;
+        int from = fromY * width + fromX;
+        int waypoint = toY * width + toX;
+        for (int k = length - 1; k >= 0; k--) {
+            int cell = path[k] == goalNode ? waypoint : nodeCell[path[k]];
+            if (cell != from) {
+                waypoint = cell;
+                break;
+            }
+        }
+        return refine(fromX, fromY, waypoint % width, waypoint / width, filter);
+    }
+
+    @Override
+    public int distance(int fromX, int fromY, int toX, int toY) {
+        if (fromX == toX && fromY == toY) return 0;
+        if (Math.abs(toX - fromX) + Math.abs(toY - fromY) <= size) {
+            int d = refiner.distanceWithin(fromX, fromY, toX, toY,
+                    low(fromX, toX), low(fromY, toY), high(fromX, toX), high(fromY, toY));
+            if (d != UNREACHABLE) return d;
+        }
+        return search(fromX, fromY, toX, toY) ? cost[goalNode] : UNREACHABLE;
+    }
+
+    /**
+     * JPS limité au rectangle couvrant le bloc du départ et celui de la cible
+     * OPTIMISATION: jamais d'inondation de toute la zone connexe (cible emmurée, couloir miné)
+     */
+    private Direction refine(int fromX, int fromY, int toX, int toY, CellFilter filter) {
+        return refiner.nextWithin(fromX, fromY, toX, toY, filter,
+                low(fromX, toX), low(fromY, toY), high(fromX, toX), high(fromY, toY));
+    }
+
+    // Bornes de la fenêtre : premier et dernier indice des blocs de a et b
+    private int low(int a, int b) { return Math.min(a, b) / size * size; }
+    private int high(int a, int b) { return (Math.max(a, b) / size + 1) * size - 1; }
+
+    /**
+     * Sans effet si la marchabilité n'a pas réellement changé
+     */
+    @Override
+    public void cellChanged(int x, int y) {
+        int cell = y * width + x;
+        boolean now = grid.isWalkable(cell);
+        if (walkable[cell] == now) return;
+        walkable[cell] = now;
+        int cx = x / size, cy = y / size;
+        markDirty(cx, cy);
+        // Case de bord : les transitions du bloc voisin en dépendent aussi
+        if (x % size == 0) markDirty(cx - 1, cy);
+        if (x % size == size - 1) markDirty(cx + 1, cy);
+        if (y % size == 0) markDirty(cx, cy - 1);
+        if (y % size == size - 1) markDirty(cx, cy + 1);
+    }
+
+    @Override
+    public void invalidateAll() {
+        resetWalkable();
+    }
+
+    private void resetWalkable() {
+        for (int i = 0; i < walkable.length; i++) walkable[i] = grid.isWalkable(i);
+        for (int cy = 0; cy < clustersY; cy++) {
+            for (int cx = 0; cx < clustersX; cx++) markDirty(cx, cy);
+        }
+    }
+
+    private void markDirty(int cx, int cy) {
+        if (cx < 0 || cy < 0 || cx >= clustersX || cy >= clustersY) return;
+        int c = cy * clustersX + cx;
+        if (dirty[c]) return;
+        dirty[c] = true;
+        dirtyList[dirtyCount++] = c;
+    }
+
+    // ---- Construction du graphe abstrait ----
+
+    private void rebuildDirty() {
+        for (int k = 0; k < dirtyCount; k++) {
+            int c = dirtyList[k];
+            dirty[c] = false;
+            rebuild(c);
+        }
+        dirtyCount = 0;
+    }
+
+    private void rebuild(int c) {
+        rebuilds++;
+        int cx = c % clustersX, cy = c / clustersX;
+        int x0 = cx * size, y0 = cy * size;
+        int x1 = Math.min(x0 + size, width) - 1, y1 = Math.min(y0 + size, height) - 1;
+        int base = c * perCluster;
+
+        scanBorder(base + TOP * perBorder, cy > 0, x0, y0, 1, 0, x1 - x0 + 1, 0, -1);
+        scanBorder(base + BOTTOM * perBorder, cy < clustersY - 1, x0, y1, 1, 0, x1 - x0 + 1, 0, 1);
+        scanBorder(base + LEFT * perBorder, cx > 0, x0, y0, 0, 1, y1 - y0 + 1, -1, 0);
+        scanBorder(base + RIGHT * perBorder, cx < clustersX - 1, x1, y0, 0, 1, y1 - y0 + 1, 1, 0);
+
+        for (int i = 0; i < perCluster; i++) {
+            int row = (base + i) * perCluster;
+            if (nodeCell[base + i] < 0) continue;
+            localSearch(nodeCell[base + i], x0, y0, x1, y1);
+            for (int j = 0; j < perCluster; j++) {
+                int target = nodeCell[base + j];
+                intra[row + j] = target < 0 ? UNREACHABLE : localDistance(target, x0, y0);
+            }
+        }
+    }
+
+    /**
+     * Transitions d'une frontière : un nœud au milieu de chaque segment praticable des deux côtés
+     * @param (sx, sy) Première case de la frontière côté bloc, (dx, dy) pas le long de la frontière
+     * @param (ox, oy) Décalage vers la case en vis-à-vis dans le bloc voisin
+     */
+    private void scanBorder(int first, boolean exists, int sx, int sy, int dx, int dy, int length, int ox, int oy) {
+        int t = 0;
+        if (exists) {
+            int runStart = -1;
+            for (int k = 0; k <= length; k++) {
+                boolean open = k < length && crossable(sx + k * dx, sy + k * dy, ox, oy);
+                if (open && runStart < 0) runStart = k;
+                if (!open && runStart >= 0) {
+                    int mid = (runStart + k - 1) / 2;
+                    nodeCell[first + t++] = (sy + mid * dy) * width + sx + mid * dx;
+                    runStart = -1;
+                }
+            }
+        }
+        while (t < perBorder) nodeCell[first + t++] = -1;
+    }
+
+    private boolean crossable(int x, int y, int ox, int oy) {
+        return walkable[y * width + x] && walkable[(y + oy) * width + x + ox];
+    }
+
+    /**
+     * Parcours en largeur depuis une case, limité au bloc [x0..x1] x [y0..y1]
+     */
+    private void localSearch(int from, int x0, int y0, int x1, int y1) {
+        int w = x1 - x0 + 1;
+        java.util.Arrays.fill(localDist, -1);
+        int head = 0, tail = 0;
+        int first = (from / width - y0) * w + from % width - x0;
+        localDist[first] = 0;
+        localQueue[tail++] = first;
+        while (head < tail) {
+            int local = localQueue[head++];
+            int lx = local % w, ly = local / w;
+            int d = localDist[local] + 1;
+            if (lx > 0) tail = visit(local - 1, x0 + lx - 1, y0 + ly, d, tail);
+            if (lx < w - 1) tail = visit(local + 1, x0 + lx + 1, y0 + ly, d, tail);
+            if (ly > 0) tail = visit(local - w, x0 + lx, y0 + ly - 1, d, tail);
+            if (y0 + ly < y1) tail = visit(local + w, x0 + lx, y0 + ly + 1, d, tail);
+        }
+    }
+
+    private int visit(int local, int x, int y, int d, int tail) {
+        if (localDist[local] >= 0 || !walkable[y * width + x]) return tail;
+        localDist[local] = d;
+        localQueue[tail] = local;
+        return tail + 1;
+    }
+
+    private int localDistance(int cell, int x0, int y0) {
+        int w = Math.min(x0 + size, width) - x0;
+        int d = localDist[(cell / width - y0) * w + cell % width - x0];
+        return d < 0 ? UNREACHABLE : d;
+    }
+
+    // ---- Recherche abstraite ----
+
+    /**
+     * A* sur les transitions, du départ vers la cible
+     * @return true si la cible est atteinte (parent[] remonte alors jusqu'au nœud de départ)
+     */
+    private boolean search(int fromX, int fromY, int toX, int toY) {
+        rebuildDirty();
+        int sc = clusterOf(fromX, fromY), tc = clusterOf(toX, toY);
+        int from = fromY * width + fromX, to = toY * width + toX;
+        goalX = toX;
+        goalY = toY;
+
+        // Raccordement du départ et de la cible aux transitions de leurs blocs
+        // (ces deux cases restent praticables même occupées par une bombe)
+        boolean fromOpen = walkable[from], toOpen = walkable[to];
+        walkable[from] = true;
+        walkable[to] = true;
+        int direct = connect(sc, from, startDist, to);
+        connect(tc, to, goalDist, -1);
+        walkable[from] = fromOpen;
+        walkable[to] = toOpen;
+
+        begin();
+        cost[startNode] = 0;
+        push(startNode, heuristic(from));
+        while (heapSize > 0) {
+            int node = pop();
+            if (closedStamp[node] == stamp) continue;
+            closedStamp[node] = stamp;
+            if (node == goalNode) return true;
+
+            if (node == startNode) {
+                int base = sc * perCluster;
+                for (int i = 0; i < perCluster; i++) {
+                    if (startDist[i] != UNREACHABLE) relax(node, base + i, startDist[i]);
+                }
+                if (direct != UNREACHABLE) relax(node, goalNode, direct);
+                continue;
+            }
+
+            int c = node / perCluster, slot = node % perCluster, base = c * perCluster;
+            int row = node * perCluster;
+            for (int j = 0; j < perCluster; j++) {
+                if (j != slot && intra[row + j] != UNREACHABLE) relax(node, base + j, intra[row + j]);
+            }
+            int peer = peerOf(c, slot);
+            if (peer >= 0 && nodeCell[peer] >= 0) relax(node, peer, 1);
+            if (c == tc && goalDist[slot] != UNREACHABLE) relax(node, goalNode, goalDist[slot]);
+        }
+        return false;
+    }
+
+    /**
+     * Distances d'une case aux transitions de son bloc
+     * @param other Case dont la distance interne est retournée (-1 si aucune)
+     */
+    private int connect(int c, int cell, int[] distances, int other) {
+        int cx = c % clustersX, cy = c / clustersX;
+        int x0 = cx * size, y0 = cy * size;
+        int x1 = Math.min(x0 + size, width) - 1, y1 = Math.min(y0 + size, height) - 1;
+        localSearch(cell, x0, y0, x1, y1);
+        int base = c * perCluster;
+        for (int i = 0; i < perCluster; i++) {
+            distances[i] = nodeCell[base + i] < 0 ? UNREACHABLE : localDistance(nodeCell[base + i], x0, y0);
+        }
+        if (other < 0 || clusterOf(other % width, other / width) != c) return UNREACHABLE;
+        return localDistance(other, x0, y0);
+    }
+
+    /**
+     * Transition en vis-à-vis dans le bloc voisin (-1 si bord de carte)
+     */
+    private int peerOf(int c, int slot) {
+        int border = slot / perBorder, t = slot % perBorder;
+        int cx = c % clustersX, cy = c / clustersX;
+        switch (border) {
+            case TOP: cy--; break;
+            case BOTTOM: cy++; break;
+            case LEFT: cx--; break;
+            default: cx++; break;
+        }
+        if (cx < 0 || cy < 0 || cx >= clustersX || cy >= clustersY) return -1;
+        return (cy * clustersX + cx) * perCluster + OPPOSITE[border] * perBorder + t;
+    }
+
+    private void relax(int node, int next, int step) {
+        if (closedStamp[next] == stamp) return;
+        int g = cost[node] + step;
+        if (openStamp[next] == stamp && cost[next] <= g) return;
+        openStamp[next] = stamp;
+        cost[next] = g;
+        parent[next] = node;
+        push(next, g + (next == goalNode ? 0 : heuristic(nodeCell[next])));
+    }
+
+    private int clusterOf(int x, int y) {
+        return (y / size) * clustersX + x / size;
+    }
+
+    private int heuristic(int cell) {
+        return Math.abs(cell % width - goalX) + Math.abs(cell / width - goalY);
+    }
+
+    private void begin() {
+        heapSize = 0;
+        if (++stamp == 0) {
+            java.util.Arrays.fill(openStamp, 0);
+            java.util.Arrays.fill(closedStamp, 0);
+            stamp = 1;
+        }
+        openStamp[startNode] = stamp;
+    }
+
+    // ---- Tas binaire ----
+
+    // Score figé à l'insertion : une entrée périmée garde sa place dans le tas
+    private void push(int node, int value) {
+        if (heapSize == heap.length) return;     // File pleine : entrée ignorée
+        int i = heapSize++;
+        while (i > 0) {
+            int up = (i - 1) >> 1;
+            if (heapScore[up] <= value) break;
+            heap[i] = heap[up];
+            heapScore[i] = heapScore[up];
+            i = up;
+        }
+        heap[i] = node;
+        heapScore[i] = value;
+    }
+
+    private int pop() {
+        int top = heap[0];
+        int last = --heapSize;
+        int value = heapScore[last];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && heapScore[child + 1] < heapScore[child]) child++;
+            if (heapScore[child] >= value) break;
+            heap[i] = heap[child];
+            heapScore[i] = heapScore[child];
+            i = child;
+        }
+        if (heapSize > 0) {
+            heap[i] = heap[last];
+            heapScore[i] = value;
+        }
+        return top;
+    }
+
+    // Accesseurs (diagnostic)
+    public int getClusterSize() { return size; }
+    public int getClusterRebuilds() { return rebuilds; }
+}
@@ -0,0 +1,294 @@
+/**
+ * Carte des dangers : instant de la première explosion prévue sur chaque case
+ * Tient compte des réactions en chaîne ; mise à jour incrémentale à la pose
+ * et à l'explosion des bombes, avec une requête de fuite pour les IA
+ * Les explosions en cours (ExplosionGrid) bloquent aussi la fuite tant qu'elles brûlent
+ */
+package com.bomberman.model;
+
+import com.bomberman.model.enums.CellType;
+import com.bomberman.model.enums.Direction;
+import java.util.Arrays;
+
+public class DangerMap {
+    public static final long SAFE = Long.MAX_VALUE;   // Aucune explosion prévue
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final PackedGrid grid;
+    private final ExplosionGrid explosions;  // Cases encore en feu après leur explosion
+    private final int width, height;
+    private final long[] blastAt;        // Instant de la première explosion prévue, par case
+    private int maxRange;                // Plus grande portée posée (recherche inverse des bombes)
+    private final Probe shared;          // Tableaux de travail des appels non concurrents
+
+    /**
+     * Tableaux de travail d'une requête (calque hypothétique, file des chaînes, parcours de fuite)
+     * Une sonde par fil d'exécution permet des requêtes concurrentes sur une carte figée
+     */
+    public static final class Probe {
+        private final long[] overlay;
+        private final int[] overlayStamp;
+        private int stamp;
+        private boolean hypothetical;
+        private final int[] chainQueue;
+        private final int[] bfsQueue;
+        private final int[] bfsDepth;
+        private final Direction[] bfsFirst;  // Premier pas du chemin menant à chaque case
+        private final int[] bfsStamp;
+        private int bfsRun;
+
+        private Probe(int size) {
+            overlay = new long[size];
+            overlayStamp = new int[size];
+            chainQueue = new int[size];
+            bfsQueue = new int[size];
+            bfsDepth = new int[size];
+            bfsFirst = new Direction[size];
+            bfsStamp = new int[size];
+        }
+    }
+
+    /**
+     * Crée une carte vide liée à la grille et aux explosions d'un plateau
+     */
+    public DangerMap(PackedGrid grid, ExplosionGrid explosions) {
+        this.grid = grid;
+        this.explosions = explosions;
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+        this.blastAt = new long[width * height];
+        this.shared = new Probe(width * height);
+        Arrays.fill(blastAt, SAFE);
+    }
+
+    /**
+     * Nouvelle sonde pour des requêtes depuis un autre fil d'exécution
+     */
+    public Probe newProbe() {
+        return new Probe(width * height);
+    }
+
+    // ===========================
+    // MISE À JOUR INCRÉMENTALE
+    // ===========================
+
+    /**
+     * Bombe posée : peint son souffle et avance les bombes qu'elle déclenchera
+     */
+    public void bombAdded(Bomb bomb) {
+        maxRange = Math.max(maxRange, bomb.getExplosionRange());
+        int cell = grid.index(bomb.getX(), bomb.getY());
+        long time = Math.min(bomb.getExplosionTime(), blastAt[cell]);
+        spread(shared, cell, bomb.getExplosionRange(), time);
+    }
+
+    /**
+     * Chaîne résolue : les cases brûlées sont recalculées à partir des bombes restantes
+     * et les bombes dont le souffle était arrêté par un mur détruit sont repeintes
+     * (à appeler une fois les murs détruits remis à vide)
+     */
+    public void blastResolved(ChainReaction chain) {
+        for (int i = 0; i < chain.getBurnedCount(); i++) {
+            blastAt[grid.index(chain.getBurnedX(i), chain.getBurnedY(i))] = SAFE;
+        }
+        for (int i = 0; i < chain.getBurnedCount(); i++) {
+            int cell = grid.index(chain.getBurnedX(i), chain.getBurnedY(i));
+            blastAt[cell] = earliestReaching(cell);
+        }
+
+        // Le souffle des bombes restantes peut désormais passer les murs détruits
+        for (int i = 0; i < chain.getDestroyedCount(); i++) {
+            int x = chain.getDestroyedX(i), y = chain.getDestroyedY(i);
+            for (Direction dir : DIRECTIONS) {
+                for (int d = 1; d <= maxRange; d++) {
+                    int nx = x + dir.getDx() * d, ny = y + dir.getDy() * d;
+                    if (nx < 0 || ny < 0 || nx >= width || ny >= height) break;
+                    CellType type = grid.getType(nx, ny);
+                    if (type == CellType.WALL || type == CellType.DESTRUCTIBLE_WALL) break;
+                    Bomb bomb = grid.getBomb(nx, ny);
+                    if (bomb != null && !bomb.hasExploded() && bomb.getExplosionRange() >= d) {
+                        int cell = grid.index(nx, ny);
+                        spread(shared, cell, bomb.getExplosionRange(), blastAt[cell]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Plus tôt instant auquel une bombe en attente atteint la case (recherche inverse en croix)
+     */
+    private long earliestReaching(int cell) {
+        int x = cell % width, y = cell / width;
+        long earliest = SAFE;
+        for (Direction dir : DIRECTIONS) {
+            for (int d = 1; d <= maxRange; d++) {
+                int nx = x + dir.getDx() * d, ny = y + dir.getDy() * d;
+                if (nx < 0 || ny < 0 || nx >= width || ny >= height) break;
+                CellType type = grid.getType(nx, ny);
+                if (type == CellType.WALL || type == CellType.DESTRUCTIBLE_WALL) break;
+                Bomb bomb = grid.getBomb(nx, ny);
+                if (bomb != null && !bomb.hasExploded() && bomb.getExplosionRange() >= d) {
+                    earliest = Math.min(earliest, blastAt[grid.index(nx, ny)]);
+                }
+            }
+        }
+        return earliest;
+    }
+
+    /**
+     * Peint le souffle d'une bombe à un instant donné, puis celui des bombes
+     * qu'il fait exploser plus tôt que prévu (file, sans récursion)
+     */
+    private void spread(Probe probe, int origin, int range, long time) {
+        set(probe, origin, time);
+        int head = 0;
+        int tail = paint(probe, origin, range, time, 0);
+        while (head < tail) {
+            int cell = probe.chainQueue[head++];
+            tail = paint(probe, cell, grid.getBomb(cell).getExplosionRange(), time, tail);
+        }
+    }
+
+    /**
+     * Abaisse à time l'instant d'explosion des cases du souffle (croix bornée par les murs)
+     * Une bombe dont la case est abaissée rejoint la file : elle explosera avec la chaîne
+     * @return Nouvelle fin de file
+     */
+    private int paint(Probe probe, int origin, int range, long time, int tail) {
+        int x = origin % width, y = origin / width;
+        for (Direction dir : DIRECTIONS) {
+            for (int d = 1; d <= range; d++) {
+                int nx = x + dir.getDx() * d, ny = y + dir.getDy() * d;
+                if (nx < 0 || ny < 0 || nx >= width || ny >= height) break;
+                CellType type = grid.getType(nx, ny);
+                if (type == CellType.WALL) break;
+                int cell = ny * width + nx;
+                if (time < value(probe, cell)) {
+                    set(probe, cell, time);
+                    Bomb bomb = grid.getBomb(cell);
+                    if (bomb != null && !bomb.hasExploded()) probe.chainQueue[tail++] = cell;
+                }
+                if (type == CellType.DESTRUCTIBLE_WALL) break;
+            }
+        }
+        return tail;
+    }
+
+    // ===========================
+    // REQUÊTES
+    // ===========================
+
+    /**
+     * Instant de la première explosion prévue sur une case (SAFE si aucune)
+     */
+    public long getBlastTime(int x, int y) { return blastAt[grid.index(x, y)]; }
+
+    /**
+     * Vérifie qu'aucune explosion n'est prévue sur une case ni en cours
+     * (case éteinte à la dernière extinction de l'ExplosionGrid)
+     */
+    public boolean isSafe(int x, int y) {
+        return blastAt[grid.index(x, y)] == SAFE && explosions.getBurningUntil(x, y) == GameClock.NEVER;
+    }
+
+    /**
+     * Premier pas vers la case sûre la plus proche atteignable avant les explosions
+     * @param stepMs Temps nécessaire pour franchir une case
+     * @return La direction, ou null si la case est sûre ou si aucune fuite n'existe
+     */
+    public Direction escapeStep(int x, int y, long stepMs, long now) {
+        return escapeStep(x, y, stepMs, now, shared);
+    }
+
+    public Direction escapeStep(int x, int y, long stepMs, long now, Probe probe) {
+        if (isSafe(x, y)) return null;
+        return findEscape(probe, x, y, stepMs, now);
+    }
+
+    /**
+     * Vérifie qu'une bombe posée en (x, y) laisserait une route de fuite
+     * @param range Portée de la bombe envisagée
+     * @param fuseMs Délai avant explosion de cette bombe
+     * @param stepMs Temps nécessaire pour franchir une case
+     */
+    public boolean canEscape(int x, int y, int range, long fuseMs, long stepMs, long now) {
+        return canEscape(x, y, range, fuseMs, stepMs, now, shared);
+    }
+
+    public boolean canEscape(int x, int y, int range, long fuseMs, long stepMs, long now, Probe probe) {
+        if (++probe.stamp == 0) {
+            Arrays.fill(probe.overlayStamp, 0);
+            probe.stamp = 1;
+        }
+        probe.hypothetical = true;
+        try {
+            int cell = grid.index(x, y);
+            spread(probe, cell, range, Math.min(now + fuseMs, value(probe, cell)));
+            return findEscape(probe, x, y, stepMs, now) != null;
+        } finally {
+            probe.hypothetical = false;
+        }
+    }
+
+    /**
+     * Parcours en largeur : chaque case doit être atteinte avant son explosion et
+     * après l'extinction d'une explosion en cours ; la destination est la première
+     * case sans explosion prévue
+     */
+    private Direction findEscape(Probe probe, int startX, int startY, long stepMs, long now) {
+        if (++probe.bfsRun == 0) {
+            Arrays.fill(probe.bfsStamp, 0);
+            probe.bfsRun = 1;
+        }
+        int run = probe.bfsRun;
+        int[] queue = probe.bfsQueue, depths = probe.bfsDepth, stamps = probe.bfsStamp;
+        Direction[] firsts = probe.bfsFirst;
+
+        int start = grid.index(startX, startY);
+        int head = 0, tail = 0;
+        queue[tail++] = start;
+        stamps[start] = run;
+        depths[start] = 0;
+        firsts[start] = null;
+
+        while (head < tail) {
+            int cell = queue[head++];
+            int x = cell % width, y = cell / width;
+            int depth = depths[cell] + 1;
+            long enter = now + (depth - 1) * stepMs;  // Instant du pas vers la case voisine
+            long arrival = now + depth * stepMs;
+            for (Direction dir : DIRECTIONS) {
+                int nx = x + dir.getDx(), ny = y + dir.getDy();
+                if (nx < 0 || ny < 0 || nx >= width || ny >= height) continue;
+                int neighbor = ny * width + nx;
+                if (stamps[neighbor] == run || !grid.isWalkable(neighbor)) continue;
+                long blast = value(probe, neighbor);
+                if (arrival >= blast) continue;        // Arrivée trop tardive : la case brûle déjà
+                if (explosions.getBurningUntil(nx, ny) > enter) continue; // Encore en feu au moment du pas
+
+                Direction first = cell == start ? dir : firsts[cell];
+                if (blast == SAFE) return first;
+                stamps[neighbor] = run;
+                depths[neighbor] = depth;
+                firsts[neighbor] = first;
+                queue[tail++] = neighbor;
+            }
+        }
+        return null;
+    }
+
+    // Lecture/écriture selon le mode (carte réelle ou calque hypothétique de la sonde)
+    private long value(Probe probe, int cell) {
+        return probe.hypothetical && probe.overlayStamp[cell] == probe.stamp ? probe.overlay[cell] : blastAt[cell];
+    }
+
+    private void set(Probe probe, int cell, long time) {
+        if (probe.hypothetical) {
+            probe.overlay[cell] = time;
+            probe.overlayStamp[cell] = probe.stamp;
+        } else {
+            blastAt[cell] = time;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Ensemble de cases à redessiner, un bit par case
+ * La grille y signale chaque écriture (déplacement, bombe, mur détruit, bonus) ;
+ * la vue le parcourt puis le vide après chaque image
+ */
+package com.bomberman.model;
+
+public class DirtyCells {
+    private final long[] words;          // Bit (i & 63) du mot (i >>> 6) : case i marquée
+    private final int size;              // Nombre de cases
+    private boolean all;                 // Tout le plateau est à redessiner
+
+    public DirtyCells(int size) {
+        this.size = size;
+        this.words = new long[(size + 63) >>> 6];
+    }
+
+    public void mark(int cell) {
+        words[cell >>> 6] |= 1L << cell;
+    }
+
+    /**
+     * Marque tout le plateau (chargement de carte, recopie d'instantané)
+     */
+    public void markAll() {
+        all = true;
+    }
+
+    /**
+     * Ajoute les cases d'un autre ensemble de même taille
+     */
+    public void addAll(DirtyCells other) {
+        if (other.all) all = true;
+        for (int w = 0; w < words.length; w++) words[w] |= other.words[w];
+    }
+
+    public boolean isMarked(int cell) {
+        return all || (words[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    /**
+     * Première case marquée à partir de from (-1 si aucune)
+     * OPTIMISATION: saute 64 cases propres par mot nul
+     */
+    public int nextMarked(int from) {
+        if (from >= size) return -1;
+        if (all) return from;
+        int w = from >>> 6;
+        long word = words[w] & (-1L << from);
+        while (word == 0) {
+            if (++w == words.length) return -1;
+            word = words[w];
+        }
+        int cell = (w << 6) + Long.numberOfTrailingZeros(word);
+        return cell < size ? cell : -1;
+    }
+
+    public void clear() {
+        java.util.Arrays.fill(words, 0);
+        all = false;
+    }
+
+    // Accesseurs
+    public boolean isAllMarked() { return all; }
+    public int getSize() { return size; }
+}
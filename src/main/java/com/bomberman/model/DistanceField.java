@@ -0,0 +1,122 @@
+/**
+ * Champ de distances BFS partagé par tous les bots
+ * Distance de chaque case au joueur humain vivant le plus proche ;
+ * recalculé uniquement quand la grille ou la position d'un joueur change
+ */
+package com.bomberman.model;
+
+import com.bomberman.model.enums.Direction;
+import java.util.Arrays;
+import java.util.List;
+
+public class DistanceField {
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final PackedGrid grid;
+    private final int[] distances;       // Distance au joueur le plus proche, par case
+    private final int[] queue;           // File BFS réutilisée
+    private int[] sources = new int[4];  // Cases des joueurs lors du dernier calcul
+    private int[] current = new int[4];  // Cases des joueurs à ce tick (échangé avec sources)
+    private int sourceCount;             // Joueurs vivants lors du dernier calcul
+    private int builtVersion = -1;       // Version de grille du dernier calcul
+    private int rebuildCount;            // Nombre de recalculs (diagnostic)
+
+    /**
+     * Crée un champ lié à la grille d'un plateau
+     */
+    public DistanceField(PackedGrid grid) {
+        this.grid = grid;
+        this.distances = new int[grid.getWidth() * grid.getHeight()];
+        this.queue = new int[distances.length];
+        Arrays.fill(distances, UNREACHABLE);
+    }
+
+    /**
+     * Met à jour le champ vers les joueurs vivants si nécessaire
+     * @return true si le champ a été recalculé
+     */
+    public boolean update(List<Player> targets) {
+        // OPTIMISATION: tableaux réutilisés, aucune allocation tant que le nombre de joueurs ne croît pas
+        if (current.length < targets.size()) {
+            current = new int[targets.size()];
+            sources = Arrays.copyOf(sources, targets.size());
+        }
+        int count = 0;
+        for (Player p : targets) {
+            if (p.isAlive()) current[count++] = grid.index(p.getX(), p.getY());
+        }
+
+        if (builtVersion == grid.getVersion() && count == sourceCount &&
+                Arrays.equals(current, 0, count, sources, 0, count)) return false;
+        int[] previous = sources;
+        sources = current;
+        current = previous;
+        sourceCount = count;
+        builtVersion = grid.getVersion();
+        rebuild();
+        return true;
+    }
+
+    /**
+     * BFS multi-sources depuis les cases des joueurs
+     * Les cases non marchables (murs, bombes) ne sont pas traversées
+     */
+    private void rebuild() {
+        Arrays.fill(distances, UNREACHABLE);
+        int head = 0, tail = 0;
+        for (int k = 0; k < sourceCount; k++) {
+            int source = sources[k];
+            if (distances[source] != 0) {
+                distances[source] = 0;
+                queue[tail++] = source;
+            }
+        }
+
+        int width = grid.getWidth(), height = grid.getHeight();
+        while (head < tail) {
+            int cell = queue[head++];
+            int x = cell % width, y = cell / width;
+            int next = distances[cell] + 1;
+            for (Direction dir : DIRECTIONS) {
+                int nx = x + dir.getDx(), ny = y + dir.getDy();
+                if (nx < 0 || ny < 0 || nx >= width || ny >= height) continue;
+                int neighbor = ny * width + nx;
+                if (distances[neighbor] != UNREACHABLE || !grid.isWalkable(neighbor)) continue;
+                distances[neighbor] = next;
+                queue[tail++] = neighbor;
+            }
+        }
+        rebuildCount++;
+    }
+
+    /**
+     * Distance d'une case au joueur le plus proche (UNREACHABLE si aucun chemin)
+     */
+    public int distanceAt(int x, int y) {
+        return distances[grid.index(x, y)];
+    }
+
+    /**
+     * Premier pas du plus court chemin depuis une case, en O(1)
+     * Ignore les cases occupées par un autre joueur ou bot
+     * @return La direction, ou null si aucun voisin ne rapproche de la cible
+     */
+    public Direction stepFrom(int x, int y) {
+        int best = distanceAt(x, y);
+        Direction bestDir = null;
+        for (Direction dir : DIRECTIONS) {
+            int nx = x + dir.getDx(), ny = y + dir.getDy();
+            if (nx < 0 || ny < 0 || nx >= grid.getWidth() || ny >= grid.getHeight()) continue;
+            int d = distanceAt(nx, ny);
+            if (d < best && !grid.hasPlayer(nx, ny)) {
+                best = d;
+                bestDir = dir;
+            }
+        }
+        return bestDir;
+    }
+
+    // Accesseurs
+    public int getRebuildCount() { return rebuildCount; }
+}
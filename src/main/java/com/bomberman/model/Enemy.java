@@ -30,7 +30,7 @@ public class Enemy {
         this.random = new Random();
         // Direction initiale aléatoire
         this.currentDirection = Direction.values()[random.nextInt(4)];
-        this.lastMoveTime = System.currentTimeMillis();
+        this.lastMoveTime = GameClock.NEVER; // Initialisé au premier update()
     }
 
     /**
@@ -41,7 +41,10 @@ public class Enemy {
     public void update(Board board) {
         if (!isAlive) return;
 
-        long currentTime = System.currentTimeMillis();
+        long currentTime = board.getClock().now();
+        if (lastMoveTime == GameClock.NEVER) {
+            lastMoveTime = currentTime;
+        }
         // Vérifie si assez de temps s'est écoulé depuis le dernier mouvement
         if (currentTime - lastMoveTime >= MOVE_DELAY) {
             move(board);
@@ -0,0 +1,129 @@
+/**
+ * Index des explosions par case : un horodatage "brûle jusqu'à" par cellule
+ * Consultation en O(1) et fusion des explosions superposées ;
+ * une file FIFO d'extinction pilote le nettoyage sans parcourir toute la grille
+ */
+package com.bomberman.model;
+
+import java.util.Arrays;
+
+public class ExplosionGrid {
+    private final int width, height;     // Dimensions en cellules
+    private final long duration;         // Durée commune des explosions (ms)
+    private final long[] burningUntil;   // Fin d'explosion par case, GameClock.NEVER si éteinte
+    private int activeCount;             // Nombre de cases en feu
+
+    // File FIFO d'extinction (anneau extensible) : les échéances y sont croissantes
+    // car toutes les explosions ont la même durée et le temps virtuel est monotone
+    private int[] ringCells;
+    private long[] ringExpiry;
+    private int head, size;
+
+    /**
+     * Crée un index vide pour une grille donnée
+     */
+    public ExplosionGrid(int width, int height, long duration) {
+        this.width = width;
+        this.height = height;
+        this.duration = duration;
+        this.burningUntil = new long[width * height];
+        Arrays.fill(burningUntil, GameClock.NEVER);
+        this.ringCells = new int[Math.max(16, width * height)];
+        this.ringExpiry = new long[ringCells.length];
+    }
+
+    /**
+     * Allume (ou ravive) une case : une explosion superposée prolonge simplement l'échéance
+     * @return true si la case n'était pas déjà en feu
+     */
+    public boolean ignite(int x, int y, long now) {
+        expire(now); // Garde activeCount cohérent si l'échéance est déjà passée
+        int i = y * width + x;
+        long until = now + duration;
+        boolean wasBurning = burningUntil[i] > now;
+        if (burningUntil[i] == until) return false; // Même passage : déjà en file
+        if (!wasBurning) activeCount++;
+        burningUntil[i] = until;
+        enqueue(i, until);
+        return !wasBurning;
+    }
+
+    /**
+     * Vérifie si une case est en feu à l'instant donné
+     */
+    public boolean isBurning(int x, int y, long now) {
+        return burningUntil[y * width + x] > now;
+    }
+
+    /**
+     * Éteint les cases arrivées à échéance (dépile uniquement les entrées expirées)
+     */
+    public void expire(long now) {
+        while (size > 0 && ringExpiry[head] <= now) {
+            int i = ringCells[head];
+            // Entrée obsolète si la case a été ravivée depuis
+            if (burningUntil[i] == ringExpiry[head]) {
+                burningUntil[i] = GameClock.NEVER;
+                activeCount--;
+            }
+            head = (head + 1) % ringCells.length;
+            size--;
+        }
+    }
+
+    /**
+     * Éteint toutes les cases
+     */
+    public void clear() {
+        Arrays.fill(burningUntil, GameClock.NEVER);
+        activeCount = 0;
+        head = 0;
+        size = 0;
+    }
+
+    private void enqueue(int cell, long until) {
+        if (size == ringCells.length) grow();
+        int tail = (head + size) % ringCells.length;
+        ringCells[tail] = cell;
+        ringExpiry[tail] = until;
+        size++;
+    }
+
+    private void grow() {
+        int[] cells = new int[ringCells.length * 2];
+        long[] expiry = new long[cells.length];
+        for (int k = 0; k < size; k++) {
+            int from = (head + k) % ringCells.length;
+            cells[k] = ringCells[from];
+            expiry[k] = ringExpiry[from];
+        }
+        ringCells = cells;
+        ringExpiry = expiry;
+        head = 0;
+    }
+
+    /**
+     * Case de la k-ième entrée de la file d'extinction (0 : la plus ancienne)
+     * La file couvre toutes les cases en feu ; une case ravivée peut y figurer deux fois
+     * et une entrée échue reste jusqu'au prochain expire (filtrer avec isBurning)
+     */
+    public int getQueuedCell(int k) { return ringCells[(head + k) % ringCells.length]; }
+    public long getQueuedExpiry(int k) { return ringExpiry[(head + k) % ringCells.length]; }
+
+    /**
+     * Entrée k à jour : la case brûle encore et c'est sa dernière entrée en file
+     * (une seule entrée par case en feu, même ravivée)
+     */
+    public boolean isQueuedLive(int k, long now) {
+        long expiry = getQueuedExpiry(k);
+        return expiry > now && burningUntil[getQueuedCell(k)] == expiry;
+    }
+    public int getQueuedCount() { return size; }
+
+    // Accesseurs
+    public long getBurningUntil(int x, int y) { return burningUntil[y * width + x]; }
+    public int getActiveCount() { return activeCount; }
+    public long getDuration() { return duration; }
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+}
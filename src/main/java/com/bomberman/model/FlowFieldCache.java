@@ -0,0 +1,267 @@
+/**
+ * Cache de champs de flux (un champ BFS par case cible)
+ * Les ennemis descendent le champ de leur cible sans allocation ;
+ * les champs sont corrigés localement quand une case s'ouvre ou se bloque
+ */
+package com.bomberman.model;
+
+import com.bomberman.model.enums.Direction;
+import java.util.Arrays;
+
+public class FlowFieldCache implements PathFinder {
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /**
+     * Champ de distances vers une case cible
+     */
+    private static final class Field {
+        int target = -1;                 // Index de la case cible (-1 : emplacement libre)
+        final int[] distances;           // Distance de chaque case à la cible
+        long lastUsed;                   // Horodatage d'utilisation (éviction LRU)
+
+        Field(int size) { distances = new int[size]; }
+    }
+
+    private final PackedGrid grid;
+    private final int width, height;
+    private final Field[] fields;        // Emplacements fixes, réutilisés à l'éviction
+    private final boolean[] walkable;    // Marchabilité connue des champs
+    private final int[] queue;           // File circulaire partagée (BFS et relaxation)
+    private final boolean[] queued;      // Case déjà présente dans la file
+    private final int[] invalidated;     // Cases ayant perdu leur chemin lors d'un blocage
+    private long useCounter;
+    private int fullBuilds;              // Calculs complets (diagnostic)
+    private int incrementalUpdates;      // Corrections locales (diagnostic)
+
+    /**
+     * Crée un cache lié à la grille, avec un nombre fixe de champs
+     */
+    public FlowFieldCache(PackedGrid grid, int capacity) {
+        this.grid = grid;
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+        int size = width * height;
+        this.fields = new Field[capacity];
+        this.walkable = new boolean[size];
+        this.queue = new int[size];
+        this.queued = new boolean[size];
+        this.invalidated = new int[size];
+        resetWalkable();
+    }
+
+    /**
+     * Oublie tous les champs et relit la grille (chargement de carte)
+     */
+    @Override
+    public void invalidateAll() {
+        resetWalkable();
+        for (Field field : fields) {
+            if (field != null) field.target = -1;
+        }
+    }
+
+    private void resetWalkable() {
+        for (int i = 0; i < walkable.length; i++) walkable[i] = grid.isWalkable(i);
+    }
+
+    /**
+     * Direction du plus court chemin de (fromX, fromY) vers (toX, toY)
+     * @return La direction, ou null si aucune case voisine ne rapproche de la cible
+     */
+    @Override
+    public Direction next(int fromX, int fromY, int toX, int toY, CellFilter filter) {
+        int[] distances = fieldFor(toY * width + toX).distances;
+        int best = distances[fromY * width + fromX];
+        Direction bestDir = null;
+        for (Direction dir : DIRECTIONS) {
+            int nx = fromX + dir.getDx(), ny = fromY + dir.getDy();
+            if (nx < 0 || ny < 0 || nx >= width || ny >= height) continue;
+            int neighbor = ny * width + nx;
+            int d = distances[neighbor];
+            if (d < best && walkable[neighbor] && !filter.isBlocked(nx, ny)) {
+                best = d;
+                bestDir = dir;
+            }
+        }
+        return bestDir;
+    }
+
+    /**
+     * Distance d'une case vers une cible (calcule le champ au besoin)
+     */
+    @Override
+    public int distance(int fromX, int fromY, int toX, int toY) {
+        return fieldFor(toY * width + toX).distances[fromY * width + fromX];
+    }
+
+    /**
+     * Signale qu'une case a pu changer de marchabilité (bombe posée, mur détruit...)
+     * Sans effet si la marchabilité n'a pas réellement changé
+     */
+    @Override
+    public void cellChanged(int x, int y) {
+        int cell = y * width + x;
+        boolean now = grid.isWalkable(cell);
+        if (walkable[cell] == now) return;
+        walkable[cell] = now;
+
+        for (Field field : fields) {
+            if (field == null || field.target < 0 || field.target == cell) continue;
+            if (now) opened(field.distances, cell);
+            else blocked(field.distances, cell);
+            incrementalUpdates++;
+        }
+    }
+
+    /**
+     * Retrouve le champ d'une cible ou le calcule dans l'emplacement le moins récent
+     */
+    private Field fieldFor(int target) {
+        int victim = 0;
+        for (int i = 0; i < fields.length; i++) {
+            Field field = fields[i];
+            if (field != null && field.target == target) {
+                field.lastUsed = ++useCounter;
+                return field;
+            }
+            if (rank(field) < rank(fields[victim])) victim = i;
+        }
+        if (fields[victim] == null) fields[victim] = new Field(walkable.length);
+        Field slot = fields[victim];
+        build(slot, target);
+        slot.lastUsed = ++useCounter;
+        return slot;
+    }
+
+    // Priorité d'éviction : emplacement vide, puis champ oublié, puis le moins récent
+    private static long rank(Field field) {
+        if (field == null) return -2;
+        return field.target < 0 ? -1 : field.lastUsed;
+    }
+
+    /**
+     * Calcul complet par BFS depuis la cible
+     */
+    private void build(Field field, int target) {
+        int[] distances = field.distances;
+        Arrays.fill(distances, UNREACHABLE);
+        field.target = target;
+        distances[target] = 0;
+        int head = 0, tail = 0;
+        queue[tail++] = target;
+        while (head < tail) {
+            int cell = queue[head++];
+            int x = cell % width, y = cell / width;
+            int next = distances[cell] + 1;
+            for (Direction dir : DIRECTIONS) {
+                int nx = x + dir.getDx(), ny = y + dir.getDy();
+                if (nx < 0 || ny < 0 || nx >= width || ny >= height) continue;
+                int neighbor = ny * width + nx;
+                if (distances[neighbor] != UNREACHABLE || !walkable[neighbor]) continue;
+                distances[neighbor] = next;
+                queue[tail++] = neighbor;
+            }
+        }
+        fullBuilds++;
+    }
+
+    /**
+     * Case devenue marchable : les distances ne peuvent que diminuer
+     */
+    private void opened(int[] distances, int cell) {
+        int best = bestNeighbor(distances, cell);
+        if (best == UNREACHABLE) return;
+        distances[cell] = best + 1;
+        queue[0] = cell;
+        queued[cell] = true;
+        relax(distances, 1);
+    }
+
+    /**
+     * Case devenue bloquante : seules les cases dont tous les plus courts chemins
+     * passaient par elle sont invalidées, puis recalculées depuis leur bordure
+     */
+    private void blocked(int[] distances, int cell) {
+        if (distances[cell] == UNREACHABLE) return;
+        distances[cell] = UNREACHABLE;
+        int count = 0;
+        invalidated[count++] = cell;
+
+        // Parcours par couches croissantes : les appuis de la couche précédente sont fixés
+        for (int k = 0; k < count; k++) {
+            int current = invalidated[k];
+            int x = current % width, y = current / width;
+            for (Direction dir : DIRECTIONS) {
+                int nx = x + dir.getDx(), ny = y + dir.getDy();
+                if (nx < 0 || ny < 0 || nx >= width || ny >= height) continue;
+                int neighbor = ny * width + nx;
+                int d = distances[neighbor];
+                if (d == UNREACHABLE || d == 0) continue;
+                if (bestNeighbor(distances, neighbor) != d - 1) {
+                    distances[neighbor] = UNREACHABLE;
+                    invalidated[count++] = neighbor;
+                }
+            }
+        }
+
+        // Réamorçage depuis les cases voisines encore valides
+        int seeds = 0;
+        for (int k = 1; k < count; k++) {
+            int current = invalidated[k];
+            int best = bestNeighbor(distances, current);
+            if (best == UNREACHABLE) continue;
+            distances[current] = best + 1;
+            queue[seeds++] = current;
+            queued[current] = true;
+        }
+        relax(distances, seeds);
+    }
+
+    /**
+     * Plus petite distance parmi les voisins d'une case
+     */
+    private int bestNeighbor(int[] distances, int cell) {
+        int x = cell % width, y = cell / width;
+        int best = UNREACHABLE;
+        for (Direction dir : DIRECTIONS) {
+            int nx = x + dir.getDx(), ny = y + dir.getDy();
+            if (nx < 0 || ny < 0 || nx >= width || ny >= height) continue;
+            best = Math.min(best, distances[ny * width + nx]);
+        }
+        return best;
+    }
+
+    /**
+     * Relaxation à partir des cases placées en tête de file (file circulaire sans doublon)
+     */
+    private void relax(int[] distances, int pending) {
+        int head = 0, tail = pending % queue.length;
+        while (pending > 0) {
+            int cell = queue[head];
+            head = (head + 1) % queue.length;
+            pending--;
+            queued[cell] = false;
+
+            int x = cell % width, y = cell / width;
+            int next = distances[cell] + 1;
+            for (Direction dir : DIRECTIONS) {
+                int nx = x + dir.getDx(), ny = y + dir.getDy();
+                if (nx < 0 || ny < 0 || nx >= width || ny >= height) continue;
+                int neighbor = ny * width + nx;
+                if (!walkable[neighbor] || distances[neighbor] <= next) continue;
+                distances[neighbor] = next;
+                if (!queued[neighbor]) {
+                    queue[tail] = neighbor;
+                    queued[neighbor] = true;
+                    tail = (tail + 1) % queue.length;
+                    pending++;
+                }
+            }
+        }
+    }
+
+    // Accesseurs
+    public int getFullBuilds() { return fullBuilds; }
+    public int getIncrementalUpdates() { return incrementalUpdates; }
+    public int getCapacity() { return fields.length; }
+}
@@ -1,12 +1,11 @@
 /**
  * Gestionnaire principal de partie pour le mode classique
- * Boucle de jeu avec AnimationTimer et gestion des états
+ * Boucle de jeu à pas fixe (SimulationEngine) et gestion des états
  */
 package com.bomberman.model;
 
+import com.bomberman.model.enums.BotDifficulty;
 import com.bomberman.model.enums.GameState;
-import com.bomberman.utils.Constants;
-import javafx.animation.AnimationTimer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -15,11 +14,7 @@ public class Game {
     private Player player;               // Joueur principal
     private List<Player> players;        // Liste des joueurs (mode multijoueur)
     private GameState gameState;         // État actuel du jeu
-    private AnimationTimer gameLoop;     // Boucle de jeu principale
-    private long lastUpdate;             // Dernière mise à jour
-
-    // OPTIMISATION: Réduction de la fréquence de mise à jour
-    private static final long UPDATE_INTERVAL = Constants.GAME_SPEED * 1_000_000L;
+    private SimulationEngine engine;     // Boucle de jeu à pas fixe (indépendante de JavaFX)
 
     /**
      * Constructeur par défaut (mode solo)
@@ -48,15 +43,14 @@ public class Game {
         gameState = GameState.PLAYING;
 
         // Positions de départ des 4 joueurs
-        players.add(new Player(1, 1));
-        players.add(new Player(board.getWidth() - 2, 1));
-        players.add(new Player(1, board.getHeight() - 2));
-        players.add(new Player(board.getWidth() - 2, board.getHeight() - 2));
-
-        // Placement sur le plateau
-        for (Player p : players) {
-            board.getCell(p.getX(), p.getY()).setHasPlayer(true);
-        }
+        GameClock clock = board.getClock();
+        players.add(new Player(1, 1, clock));
+        players.add(new Player(board.getWidth() - 2, 1, clock));
+        players.add(new Player(1, board.getHeight() - 2, clock));
+        players.add(new Player(board.getWidth() - 2, board.getHeight() - 2, clock));
+
+        // Placement sur le plateau : tous les humains sont traités dans le même tick
+        board.setPlayers(players);
 
         startGameLoopMultiplayer();
     }
@@ -73,35 +67,26 @@ public class Game {
     }
 
     /**
-     * OPTIMISATION: Boucle de jeu avec limitation de fréquence
+     * Boucle de jeu solo à pas fixe
+     * Pilotée par advance() (client FX) ou directement via getEngine()
      */
     private void startGameLoop() {
-        gameLoop = new AnimationTimer() {
-            @Override
-            public void handle(long now) {
-                if (now - lastUpdate >= UPDATE_INTERVAL) {
-                    update();
-                    lastUpdate = now;
-                }
-            }
-        };
-        gameLoop.start();
+        engine = new SimulationEngine(this::update, board.getClock());
     }
 
     /**
-     * Boucle de jeu multijoueur
+     * Boucle de jeu multijoueur à pas fixe
      */
     private void startGameLoopMultiplayer() {
-        gameLoop = new AnimationTimer() {
-            @Override
-            public void handle(long now) {
-                if (now - lastUpdate >= UPDATE_INTERVAL) {
-                    updateMultiplayer();
-                    lastUpdate = now;
-                }
-            }
-        };
-        gameLoop.start();
+        engine = new SimulationEngine(this::updateMultiplayer, board.getClock());
+    }
+
+    /**
+     * Fait avancer la simulation jusqu'à l'instant donné (pilote temps réel)
+     * @param nowNanos Instant courant en nanosecondes (ex: AnimationTimer)
+     */
+    public void advance(long nowNanos) {
+        engine.advanceTo(nowNanos);
     }
 
     /**
@@ -109,22 +94,17 @@ public class Game {
      */
     private void update() {
         if (gameState != GameState.PLAYING) return;
-        board.update(player);
+        board.update();
         checkGameState();
     }
 
     /**
      * Mise à jour du mode multijoueur
+     * OPTIMISATION: un seul passage sur le plateau pour tous les joueurs
      */
     private void updateMultiplayer() {
         if (gameState != GameState.PLAYING) return;
-
-        for (Player p : players) {
-            if (p.isAlive()) {
-                board.update(p);
-            }
-        }
-
+        board.update();
         checkGameStateMultiplayer();
     }
 
@@ -134,14 +114,12 @@ public class Game {
     private void checkGameState() {
         if (!player.isAlive()) {
             gameState = GameState.GAME_OVER;
-            gameLoop.stop();
+            engine.stop();
         } else if (board.getBots().stream().noneMatch(PlayerBot::isAlive)) {
             // Victoire : tous les bots sont morts
             gameState = GameState.VICTORY;
-            gameLoop.stop();
-            player.addScore(1000); // Bonus de victoire
-            com.bomberman.controller.VictoryController.LAST_SCORE = player.getScore();
-            com.bomberman.utils.SceneManager.switchScene("Victory");
+            engine.stop();
+            player.addScore(1000); // Bonus de victoire (l'écran de victoire est affiché par la vue)
         }
     }
 
@@ -153,32 +131,43 @@ public class Game {
 
         if (!anyAlive) {
             gameState = GameState.GAME_OVER;
-            gameLoop.stop();
+            engine.stop();
         }
     }
 
     /**
      * Basculement pause/jeu
+     * L'horloge est figée : les mèches et explosions ne s'écoulent plus
      */
     public void pause() {
         if (gameState == GameState.PLAYING) {
             gameState = GameState.PAUSED;
+            board.getClock().pause();
         } else if (gameState == GameState.PAUSED) {
             gameState = GameState.PLAYING;
+            board.getClock().resume();
         }
     }
 
+    /**
+     * Niveau de difficulté des bots (EASY par défaut)
+     */
+    public void setBotDifficulty(BotDifficulty difficulty) {
+        board.setBotDifficulty(difficulty);
+    }
+
     /**
      * Arrêt du jeu
      */
     public void stop() {
-        if (gameLoop != null) {
-            gameLoop.stop();
+        if (engine != null) {
+            engine.stop();
         }
     }
 
     // Accesseurs
     public List<Player> getPlayers() { return players; }
+    public SimulationEngine getEngine() { return engine; }
     public Board getBoard() { return board; }
     public Player getPlayer() { return player; }
     public GameState getGameState() { return gameState; }
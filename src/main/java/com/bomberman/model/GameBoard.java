@@ -0,0 +1,37 @@
+/**
+ * Interface commune des plateaux de jeu (Board, Legend1v1Board, ...)
+ * Utilisée par Player pour se déplacer et poser des bombes sans connaître le mode
+ */
+package com.bomberman.model;
+
+public interface GameBoard {
+    /**
+     * Vérifie si une position est dans les limites du plateau
+     */
+    boolean isValidPosition(int x, int y);
+
+    /**
+     * Accès à une cellule du plateau
+     */
+    Cell getCell(int x, int y);
+
+    /**
+     * Enregistre une bombe posée sur le plateau
+     */
+    void addBomb(Bomb bomb);
+
+    /**
+     * Notification après un déplacement ou un respawn de joueur
+     * Permet au plateau de tenir son index d'occupation à jour
+     */
+    default void playerMoved(Player player) { }
+
+    /**
+     * Horloge virtuelle de la partie
+     */
+    GameClock getClock();
+
+    // Dimensions du plateau en cellules
+    int getWidth();
+    int getHeight();
+}
@@ -0,0 +1,72 @@
+/**
+ * Horloge virtuelle de partie
+ * Seule source de temps des entités (bombes, explosions, joueurs, IA) :
+ * avance uniquement avec la simulation, gère pause, ralenti et accéléré
+ */
+package com.bomberman.model;
+
+public class GameClock {
+    /** Horodatage "jamais" pour les entités qui n'ont encore rien fait */
+    public static final long NEVER = Long.MIN_VALUE / 4;
+
+    private volatile long time;            // Temps virtuel courant (ms)
+    private volatile double timeScale = 1.0; // Facteur de vitesse (1 = temps réel)
+    private volatile boolean paused;       // Horloge figée
+
+    /**
+     * Temps virtuel courant en millisecondes
+     */
+    public long now() {
+        return time;
+    }
+
+    /**
+     * Fait avancer le temps virtuel (appelé par le moteur à chaque pas)
+     * Sans effet pendant la pause
+     */
+    public void advance(long millis) {
+        if (!paused) {
+            time += millis;
+        }
+    }
+
+    // ---- Pause ----
+    public void pause() { paused = true; }
+    public void resume() { paused = false; }
+    public boolean isPaused() { return paused; }
+
+    // ---- Vitesse ----
+
+    /**
+     * Définit le facteur de vitesse (0.5 = ralenti, 100 = x100)
+     */
+    public void setTimeScale(double scale) {
+        if (scale <= 0) {
+            throw new IllegalArgumentException("Facteur de vitesse invalide : " + scale);
+        }
+        this.timeScale = scale;
+    }
+
+    /**
+     * Ralenti : le temps s'écoule 'factor' fois moins vite
+     */
+    public void slowMotion(double factor) {
+        setTimeScale(1.0 / factor);
+    }
+
+    /**
+     * Accéléré : le temps s'écoule n fois plus vite (ex: matchs de bots x100)
+     */
+    public void fastForward(int n) {
+        setTimeScale(n);
+    }
+
+    /**
+     * Retour à la vitesse normale
+     */
+    public void resetSpeed() {
+        timeScale = 1.0;
+    }
+
+    public double getTimeScale() { return timeScale; }
+}
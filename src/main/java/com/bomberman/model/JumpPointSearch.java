@@ -0,0 +1,270 @@
+/**
+ * Jump Point Search sur grille 4-connexe à coût uniforme
+ * A* qui saute les lignes droites sans embranchement : seuls les points de saut
+ * (voisin forcé, cible, croisement d'un balayage horizontal) entrent dans la file
+ * Aucun état dérivé de la grille : lit directement la marchabilité à chaque appel
+ */
+package com.bomberman.model;
+
+import com.bomberman.model.enums.Direction;
+
+public class JumpPointSearch implements PathFinder {
+    private final PackedGrid grid;
+    private final int width, height;
+
+    // État par case, réutilisé d'un appel à l'autre (marquage par estampille)
+    private final int[] cost, parent;
+    private final int[] openStamp, closedStamp;
+    private int stamp;
+
+    // File de priorité (tas binaire de cases avec score et coût figés à l'insertion,
+    // entrées périmées ignorées au retrait)
+    private final int[] heap, heapScore, heapCost;
+    private int heapSize;
+
+    // Requête en cours
+    private int start, goal, goalX, goalY, startX, startY;
+    private CellFilter filter;
+    private int minX, minY, maxX, maxY;  // Fenêtre de recherche (toute la grille par défaut)
+    private int lastExpanded;            // Points de saut développés (diagnostic)
+
+    public JumpPointSearch(PackedGrid grid) {
+        this.grid = grid;
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+        int size = width * height;
+        cost = new int[size];
+        parent = new int[size];
+        openStamp = new int[size];
+        closedStamp = new int[size];
+        heap = new int[size * 4];
+        heapScore = new int[heap.length];
+        heapCost = new int[heap.length];
+        maxX = width - 1;
+        maxY = height - 1;
+    }
+
+    @Override
+    public Direction next(int fromX, int fromY, int toX, int toY, CellFilter filter) {
+        if (!search(fromX, fromY, toX, toY, filter)) return null;
+        // Remontée jusqu'au premier point de saut : le premier tronçon est rectiligne
+        int first = goal;
+        while (parent[first] != start) first = parent[first];
+        int dx = Integer.signum(first % width - fromX), dy = Integer.signum(first / width - fromY);
+        for (Direction dir : Direction.values()) {
+            if (dir.getDx() == dx && dir.getDy() == dy) return dir;
+        }
+        return null;
+    }
+
+    @Override
+    public int distance(int fromX, int fromY, int toX, int toY) {
+        if (fromX == toX && fromY == toY) return 0;
+        return search(fromX, fromY, toX, toY, null) ? cost[goal] : UNREACHABLE;
+    }
+
+    /**
+     * Comme next, sans sortir du rectangle [x0..x1] x [y0..y1]
+     * Borne le coût d'une cible inaccessible à la taille de la fenêtre
+     */
+    public Direction nextWithin(int fromX, int fromY, int toX, int toY, CellFilter filter,
+                                int x0, int y0, int x1, int y1) {
+        setWindow(x0, y0, x1, y1);
+        Direction dir = next(fromX, fromY, toX, toY, filter);
+        setWindow(0, 0, width - 1, height - 1);
+        return dir;
+    }
+
+    /**
+     * Comme distance, sans sortir du rectangle [x0..x1] x [y0..y1]
+     */
+    public int distanceWithin(int fromX, int fromY, int toX, int toY, int x0, int y0, int x1, int y1) {
+        setWindow(x0, y0, x1, y1);
+        int d = distance(fromX, fromY, toX, toY);
+        setWindow(0, 0, width - 1, height - 1);
+        return d;
+    }
+
+    private void setWindow(int x0, int y0, int x1, int y1) {
+        minX = Math.max(0, x0);
+        minY = Math.max(0, y0);
+        maxX = Math.min(width - 1, x1);
+        maxY = Math.min(height - 1, y1);
+    }
+
+    @Override
+    public void cellChanged(int x, int y) {
+        // Rien à corriger : la grille est relue à chaque recherche
+    }
+
+    @Override
+    public void invalidateAll() {
+    }
+
+    /**
+     * A* sur les points de saut
+     * @return true si la cible est atteinte (parent[] remonte alors jusqu'au départ)
+     */
+    private boolean search(int fromX, int fromY, int toX, int toY, CellFilter filter) {
+        if (fromX == toX && fromY == toY) return false;
+        begin(fromX, fromY, toX, toY, filter);
+        cost[start] = 0;
+        parent[start] = -1;
+        push(start, heuristic(start), 0);
+
+        int expanded = 0;
+        boolean found = false;
+        while (heapSize > 0) {
+            int cell = pop();
+            if (closedStamp[cell] == stamp) continue;
+            closedStamp[cell] = stamp;
+            if (cell == goal) {
+                found = true;
+                break;
+            }
+            expanded++;
+
+            int x = cell % width, y = cell / width;
+            if (cell == start) {
+                expand(cell, x, y, 1, 0);
+                expand(cell, x, y, -1, 0);
+                expand(cell, x, y, 0, 1);
+                expand(cell, x, y, 0, -1);
+            } else {
+                int from = parent[cell];
+                int dx = Integer.signum(x - from % width), dy = Integer.signum(y - from / width);
+                // Voisins conservés après élagage (les autres ont un chemin aussi court ailleurs)
+                if (dx != 0) {
+                    expand(cell, x, y, dx, 0);
+                    expand(cell, x, y, 0, 1);
+                    expand(cell, x, y, 0, -1);
+                } else {
+                    expand(cell, x, y, 0, dy);
+                    expand(cell, x, y, 1, 0);
+                    expand(cell, x, y, -1, 0);
+                }
+            }
+        }
+        lastExpanded = expanded;
+        return found;
+    }
+
+    private void expand(int cell, int x, int y, int dx, int dy) {
+        int jump = jump(x + dx, y + dy, dx, dy);
+        if (jump < 0 || closedStamp[jump] == stamp) return;
+        int g = cost[cell] + Math.abs(jump % width - x) + Math.abs(jump / width - y);
+        if (openStamp[jump] == stamp && cost[jump] <= g) return;
+        openStamp[jump] = stamp;
+        cost[jump] = g;
+        parent[jump] = cell;
+        push(jump, g + heuristic(jump), g);
+    }
+
+    /**
+     * Avance en ligne droite jusqu'au prochain point de saut
+     * @return La case du point de saut, ou -1 si la ligne bute sur un obstacle
+     */
+    private int jump(int x, int y, int dx, int dy) {
+        while (passable(x, y)) {
+            int cell = y * width + x;
+            if (cell == goal) return cell;
+            if (dx != 0) {
+                // Voisin forcé : ouverture verticale que la case précédente n'offrait pas
+                if ((passable(x, y - 1) && !passable(x - dx, y - 1)) ||
+                        (passable(x, y + 1) && !passable(x - dx, y + 1))) return cell;
+            } else {
+                if ((passable(x - 1, y) && !passable(x - 1, y - dy)) ||
+                        (passable(x + 1, y) && !passable(x + 1, y - dy))) return cell;
+                // Un déplacement vertical s'arrête là où un balayage horizontal trouve un point de saut
+                if (jump(x + 1, y, 1, 0) >= 0 || jump(x - 1, y, -1, 0) >= 0) return cell;
+            }
+            x += dx;
+            y += dy;
+        }
+        return -1;
+    }
+
+    /**
+     * Case praticable : marchable, ou départ/cible ; le filtre ne vaut qu'au premier pas
+     */
+    private boolean passable(int x, int y) {
+        if (x < minX || y < minY || x > maxX || y > maxY) return false;
+        int cell = y * width + x;
+        if (cell == goal || cell == start) return true;
+        if (!grid.isWalkable(cell)) return false;
+        return filter == null || Math.abs(x - startX) + Math.abs(y - startY) != 1 || !filter.isBlocked(x, y);
+    }
+
+    private int heuristic(int cell) {
+        return Math.abs(cell % width - goalX) + Math.abs(cell / width - goalY);
+    }
+
+    private void begin(int fromX, int fromY, int toX, int toY, CellFilter filter) {
+        this.startX = fromX;
+        this.startY = fromY;
+        this.start = fromY * width + fromX;
+        this.goalX = toX;
+        this.goalY = toY;
+        this.goal = toY * width + toX;
+        this.filter = filter;
+        heapSize = 0;
+        if (++stamp == 0) {
+            java.util.Arrays.fill(openStamp, 0);
+            java.util.Arrays.fill(closedStamp, 0);
+            stamp = 1;
+        }
+        openStamp[start] = stamp;
+    }
+
+    // ---- Tas binaire ----
+
+    private void push(int cell, int value, int g) {
+        if (heapSize == heap.length) return;     // File pleine : entrée ignorée
+        int i = heapSize++;
+        while (i > 0) {
+            int up = (i - 1) >> 1;
+            if (!before(value, g, heapScore[up], heapCost[up])) break;
+            move(up, i);
+            i = up;
+        }
+        heap[i] = cell;
+        heapScore[i] = value;
+        heapCost[i] = g;
+    }
+
+    private int pop() {
+        int top = heap[0];
+        int last = --heapSize;
+        int value = heapScore[last], g = heapCost[last];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && before(heapScore[child + 1], heapCost[child + 1], heapScore[child], heapCost[child])) child++;
+            if (!before(heapScore[child], heapCost[child], value, g)) break;
+            move(child, i);
+            i = child;
+        }
+        if (heapSize > 0) {
+            heap[i] = heap[last];
+            heapScore[i] = value;
+            heapCost[i] = g;
+        }
+        return top;
+    }
+
+    private void move(int from, int to) {
+        heap[to] = heap[from];
+        heapScore[to] = heapScore[from];
+        heapCost[to] = heapCost[from];
+    }
+
+    // Ordre : plus petit score, puis plus grand coût déjà parcouru (départage vers la cible)
+    private static boolean before(int score, int g, int otherScore, int otherG) {
+        if (score != otherScore) return score < otherScore;
+        return g > otherG;
+    }
+
+    // Accesseurs (diagnostic)
+    public int getLastExpanded() { return lastExpanded; }
+}
@@ -11,36 +11,84 @@ import com.bomberman.utils.Constants;
 import com.bomberman.utils.MapManager;
 import java.util.*;
 
-public class Legend1v1Board {
-    private final Cell[][] grid;                    // Grille de jeu
+public class Legend1v1Board implements GameBoard {
+    private final int width, height;                // Dimensions de la partie en cellules
+    private final PackedGrid grid;                  // Grille de jeu compacte
     private final List<Bomb> bombs;                 // Bombes actives
-    private final List<Explosion> explosions;       // Explosions actives
+    private final ExplosionGrid explosions;         // Cases en feu (index par case)
     private Player player1;                         // Joueur 1 (Blanc, haut-gauche)
     private Player player2;                         // Joueur 2 (Noir, bas-droite)
     private final List<LegendEnemyBomber> bomberEnemies;  // Ennemis Bomber
     private final List<LegendEnemyYellow> yellowEnemies;  // Ennemis Yellow
+    private final OccupancyIndex<LegendEnemyBomber> bomberIndex;  // Bombers par case
+    private final OccupancyIndex<LegendEnemyYellow> yellowIndex;  // Yellows par case
+    private final GameClock clock = new GameClock();      // Horloge virtuelle de la partie
+    private final ChainReaction chain;                    // Résolution itérative des réactions en chaîne
+    private final BombScheduler fuses;                    // Roue de minuterie des mèches
+    private final DangerMap danger;                   // Échéance des explosions prévues, par case
+    private final SpaceTimePlanner planner;           // A* espace-temps partagé par les ennemis
+    private final ReservationTable reservations = new ReservationTable(8); // Plans coopératifs des ennemis
+    private final PathFinder pathFinder;                  // Recherche de chemin des ennemis (selon la taille)
+    private final PathFinder.CellFilter enemyFilter = this::hasEnemyAt;
     private final Music music = new Music();
     private final MapManager mapManager = new MapManager();
 
     /**
-     * Constructeur - Initialise le plateau Legend
+     * Constructeur - Plateau Legend aux dimensions par défaut (15x13)
      */
     public Legend1v1Board() {
-        grid = new Cell[Constants.BOARD_WIDTH][Constants.BOARD_HEIGHT];
+        this(Constants.BOARD_WIDTH, Constants.BOARD_HEIGHT);
+    }
+
+    /**
+     * Constructeur - Initialise le plateau Legend
+     * Une carte personnalisée sélectionnée impose ses propres dimensions
+     */
+    public Legend1v1Board(int width, int height) {
+        MapData customMap = loadCustomMap();
+        if (customMap != null) {
+            width = customMap.getWidth();
+            height = customMap.getHeight();
+        }
+        if (!MapData.isSupportedSize(width, height)) {
+            throw new IllegalArgumentException("Taille de plateau non supportée : " + width + "x" + height);
+        }
+
+        this.width = width;
+        this.height = height;
+        grid = new PackedGrid(width, height);
         bombs = new ArrayList<>();
-        explosions = new ArrayList<>();
+        explosions = new ExplosionGrid(width, height, Constants.EXPLOSION_DURATION);
         bomberEnemies = new ArrayList<>();
         yellowEnemies = new ArrayList<>();
-        initializeBoard();
+        bomberIndex = new OccupancyIndex<>(width, height);
+        yellowIndex = new OccupancyIndex<>(width, height);
+        chain = new ChainReaction(grid);
+        danger = new DangerMap(grid, explosions);
+        planner = new SpaceTimePlanner(grid, danger, explosions, 48, 512);
+        fuses = new BombScheduler(Constants.GAME_SPEED, 512, clock.now());
+        initializeBoard(customMap);
+        // Grande arène : un champ de flux par cible coûterait width*height par champ,
+        // l'abstraction hiérarchique borne la recherche aux transitions entre blocs
+        if (width * height > Constants.BOARD_WIDTH * Constants.BOARD_HEIGHT) {
+            pathFinder = new ClusterPathFinder(grid);
+        } else {
+            pathFinder = new FlowFieldCache(grid, 16);
+        }
     }
 
     /**
      * Initialisation complète du plateau Legend
      */
-    private void initializeBoard() {
+    private void initializeBoard(MapData customMap) {
         // Chargement de carte (personnalisée ou par défaut)
-        if (MapSelectionController.CustomMapHolder.hasCustomMap()) {
-            loadCustomMap();
+        if (customMap != null) {
+            CellType[][] customGrid = customMap.getGrid();
+            for (int x = 0; x < width; x++) {
+                for (int y = 0; y < height; y++) {
+                    grid.reset(x, y, customGrid[x][y]);
+                }
+            }
         } else {
             generateDefaultLegendMap();
         }
@@ -49,25 +97,19 @@ public class Legend1v1Board {
 
     /**
      * Charge une carte personnalisée pour le mode Legend
+     * @return La carte, ou null pour utiliser la carte par défaut
      */
-    private void loadCustomMap() {
+    private MapData loadCustomMap() {
+        if (!MapSelectionController.CustomMapHolder.hasCustomMap()) return null;
         try {
             String selectedMap = MapSelectionController.CustomMapHolder.getSelectedMap();
             MapData mapData = mapManager.loadMap(selectedMap);
-
-            // Copie de la grille personnalisée
-            CellType[][] customGrid = mapData.getGrid();
-            for (int x = 0; x < Constants.BOARD_WIDTH; x++) {
-                for (int y = 0; y < Constants.BOARD_HEIGHT; y++) {
-                    grid[x][y] = new Cell(customGrid[x][y]);
-                }
-            }
-
             System.out.println("Carte personnalisée chargée pour le mode Legend : " + selectedMap);
+            return mapData;
 
         } catch (Exception e) {
             System.err.println("Erreur chargement carte Legend : " + e.getMessage());
-            generateDefaultLegendMap();
+            return null;
         }
     }
 
@@ -75,14 +117,14 @@ public class Legend1v1Board {
      * Génère la carte par défaut du mode Legend
      */
     private void generateDefaultLegendMap() {
-        for (int x = 0; x < Constants.BOARD_WIDTH; x++) {
-            for (int y = 0; y < Constants.BOARD_HEIGHT; y++) {
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
                 // Structure classique Bomberman
-                if (x == 0 || y == 0 || x == Constants.BOARD_WIDTH - 1 ||
-                        y == Constants.BOARD_HEIGHT - 1 || (x % 2 == 0 && y % 2 == 0)) {
-                    grid[x][y] = new Cell(CellType.WALL);
+                if (x == 0 || y == 0 || x == width - 1 ||
+                        y == height - 1 || (x % 2 == 0 && y % 2 == 0)) {
+                    grid.reset(x, y, CellType.WALL);
                 } else {
-                    grid[x][y] = new Cell(Math.random() < 0.7 ? CellType.DESTRUCTIBLE_WALL : CellType.EMPTY);
+                    grid.reset(x, y, Math.random() < 0.7 ? CellType.DESTRUCTIBLE_WALL : CellType.EMPTY);
                 }
             }
         }
@@ -94,16 +136,16 @@ public class Legend1v1Board {
      */
     private void ensureLegendSpawnAreasAreFree() {
         // Coin haut-gauche (Joueur 1)
-        grid[1][1].setType(CellType.EMPTY);
-        grid[1][2].setType(CellType.EMPTY);
-        grid[2][1].setType(CellType.EMPTY);
+        grid.setType(1, 1, CellType.EMPTY);
+        grid.setType(1, 2, CellType.EMPTY);
+        grid.setType(2, 1, CellType.EMPTY);
 
         // Coin bas-droite (Joueur 2)
-        int xMax = Constants.BOARD_WIDTH - 2;
-        int yMax = Constants.BOARD_HEIGHT - 2;
-        grid[xMax][yMax].setType(CellType.EMPTY);
-        grid[xMax - 1][yMax].setType(CellType.EMPTY);
-        grid[xMax][yMax - 1].setType(CellType.EMPTY);
+        int xMax = width - 2;
+        int yMax = height - 2;
+        grid.setType(xMax, yMax, CellType.EMPTY);
+        grid.setType(xMax - 1, yMax, CellType.EMPTY);
+        grid.setType(xMax, yMax - 1, CellType.EMPTY);
     }
 
     /**
@@ -111,34 +153,38 @@ public class Legend1v1Board {
      * Configuration : 2 joueurs humains (6 vies) + 1 Bomber + 2 Yellow
      */
     private void setupPlayersAndEnemies() {
-        int xMax = Constants.BOARD_WIDTH - 2;
-        int yMax = Constants.BOARD_HEIGHT - 2;
+        int xMax = width - 2;
+        int yMax = height - 2;
 
         // JOUEURS HUMAINS avec 6 vies garanties
-        player1 = new Player(1, 1);          // Joueur 1 : haut-gauche
-        player2 = new Player(xMax, yMax);    // Joueur 2 : bas-droite
+        player1 = new Player(1, 1, clock);          // Joueur 1 : haut-gauche
+        player2 = new Player(xMax, yMax, clock);    // Joueur 2 : bas-droite
 
         // Configuration des vies
         player1.setLives(6);
         player2.setLives(6);
 
         // Marquage des cellules
-        grid[1][1].setHasPlayer(true);
-        grid[xMax][yMax].setHasPlayer(true);
+        grid.setHasPlayer(1, 1, true);
+        grid.setHasPlayer(xMax, yMax, true);
 
         // ENNEMIS IA Legend - Positionnement stratégique
         // 1 Bomber au centre pour contrôler le milieu
-        int centerX = Constants.BOARD_WIDTH / 2;
-        int centerY = Constants.BOARD_HEIGHT / 2;
+        int centerX = width / 2;
+        int centerY = height / 2;
+        if (grid.getType(centerX, centerY) == CellType.WALL) centerX--; // Centre sur un pilier (dimensions paires)
         bomberEnemies.add(new LegendEnemyBomber(centerX, centerY));
-        grid[centerX][centerY].setHasEnemy(true);
+        grid.setHasEnemy(centerX, centerY, true);
 
         // 2 Yellow ennemis dans les coins libres
         yellowEnemies.add(new LegendEnemyYellow(xMax, 1));     // haut-droite
-        grid[xMax][1].setHasEnemy(true);
+        grid.setHasEnemy(xMax, 1, true);
 
         yellowEnemies.add(new LegendEnemyYellow(1, yMax));     // bas-gauche
-        grid[1][yMax].setHasEnemy(true);
+        grid.setHasEnemy(1, yMax, true);
+
+        for (LegendEnemyBomber b : bomberEnemies) bomberIndex.place(b, b.getX(), b.getY());
+        for (LegendEnemyYellow y : yellowEnemies) yellowIndex.place(y, y.getX(), y.getY());
 
         System.out.println("Mode Legend 1v1 initialisé :");
         System.out.println("- Joueur 1 (Blanc) : 6 vies à (" + player1.getX() + "," + player1.getY() + ")");
@@ -161,31 +207,45 @@ public class Legend1v1Board {
      * Gestion des explosions de bombes
      */
     private void updateBombs() {
-        Iterator<Bomb> it = bombs.iterator();
-        while (it.hasNext()) {
-            Bomb bomb = it.next();
-            if (bomb.shouldExplode()) {
-                explodeBomb(bomb);
-                it.remove();
-                // Notification aux joueurs
-                player1.onBombExploded();
-                player2.onBombExploded();
+        int detonations = 0;
+        // OPTIMISATION: seules les mèches échues sont visitées (roue de minuterie)
+        for (Bomb bomb : fuses.drainDue(clock.now())) {
+            if (!bomb.hasExploded()) {
+                detonations += explodeBomb(bomb);
             }
         }
+        if (detonations > 0) {
+            bombs.removeIf(Bomb::hasExploded);
+        }
+    }
+
+    /**
+     * Rend une bombe à celui qui l'a posée (aux deux joueurs si inconnu)
+     */
+    private void refundBomb(Bomb bomb) {
+        if (bomb.getPlacedBy() != null) {
+            bomb.getPlacedBy().onBombExploded();
+        } else {
+            player1.onBombExploded();
+            player2.onBombExploded();
+        }
     }
 
     /**
      * Nettoyage des explosions expirées
      */
     private void updateExplosions() {
-        long now = System.currentTimeMillis();
-        explosions.removeIf(e -> e.isExpired(now, Constants.EXPLOSION_DURATION));
+        explosions.expire(clock.now());
     }
 
     /**
      * Mise à jour de l'IA ennemie améliorée
      */
     private void updateEnemies() {
+        // Positions de tous les ennemis dans la table de réservation, puis plans
+        // coopératifs dans l'ordre des listes (chaque plan évite les précédents)
+        syncReservations();
+
         // IA Bomber avancée
         for (LegendEnemyBomber b : bomberEnemies) {
             if (b.isAlive()) {
@@ -201,6 +261,22 @@ public class Legend1v1Board {
         }
     }
 
+    /**
+     * Synchronise la table de réservation avec les ennemis vivants
+     * OPTIMISATION: un seul passage par tick pour tous les ennemis
+     */
+    private void syncReservations() {
+        long now = clock.now();
+        reservations.beginSync();
+        for (LegendEnemyBomber b : bomberEnemies) {
+            if (b.isAlive()) reservations.sync(b, grid.index(b.getX(), b.getY()), now, b.getMoveDelay());
+        }
+        for (LegendEnemyYellow y : yellowEnemies) {
+            if (y.isAlive()) reservations.sync(y, grid.index(y.getX(), y.getY()), now, y.getMoveDelay());
+        }
+        reservations.endSync();
+    }
+
     /**
      * Nettoyage des ennemis morts et attribution des points
      */
@@ -224,47 +300,49 @@ public class Legend1v1Board {
             }
         }
 
-        // Suppression des ennemis morts
-        bomberEnemies.removeIf(b -> !b.isAlive());
-        yellowEnemies.removeIf(y -> !y.isAlive());
+        // Suppression des ennemis morts (listes et index)
+        bomberEnemies.removeIf(b -> {
+            if (b.isAlive()) return false;
+            bomberIndex.remove(b);
+            return true;
+        });
+        yellowEnemies.removeIf(y -> {
+            if (y.isAlive()) return false;
+            yellowIndex.remove(y);
+            return true;
+        });
     }
 
     /**
      * Gestion complète de l'explosion d'une bombe (version Legend)
+     * OPTIMISATION: chaîne résolue sans récursion, effets appliqués en un seul lot
+     * @return Nombre de bombes ayant explosé
      */
-    private void explodeBomb(Bomb bomb) {
-        bomb.explode();
-        int bombX = bomb.getX(), bombY = bomb.getY();
-        grid[bombX][bombY].setBomb(null);
-        createExplosion(bombX, bombY);
+    private int explodeBomb(Bomb bomb) {
+        int detonations = chain.resolve(bomb);
+        // Les bombes emportées par la chaîne quittent la roue et reviennent à leur poseur
+        for (Bomb chained : chain.getDetonated()) {
+            fuses.cancel(chained);
+            refundBomb(chained);
+            pathFinder.cellChanged(chained.getX(), chained.getY());
+        }
         music.jouerExplosion();
 
-        // Propagation en croix
-        for (var direction : com.bomberman.model.enums.Direction.values()) {
-            for (int i = 1; i <= bomb.getExplosionRange(); i++) {
-                int x = bombX + direction.getDx() * i;
-                int y = bombY + direction.getDy() * i;
-                if (!isValidPosition(x, y)) break;
-
-                Cell cell = grid[x][y];
-                if (cell.getType() == CellType.WALL) break;
-
-                if (cell.getType() == CellType.DESTRUCTIBLE_WALL) {
-                    createExplosion(x, y);
-                    cell.setType(CellType.EMPTY);
-                    // Apparition de bonus
-                    if (Math.random() < 0.25) cell.setPowerUp(PowerUp.random());
-                    break;
-                }
+        // Murs détruits et apparition de bonus
+        for (int i = 0; i < chain.getDestroyedCount(); i++) {
+            int x = chain.getDestroyedX(i), y = chain.getDestroyedY(i);
+            grid.setType(x, y, CellType.EMPTY);
+            if (Math.random() < 0.25) grid.setPowerUp(x, y, PowerUp.random().getType());
+            pathFinder.cellChanged(x, y);
+        }
 
-                createExplosion(x, y);
+        danger.blastResolved(chain);
 
-                // Réaction en chaîne
-                if (cell.getBomb() != null && !cell.getBomb().hasExploded()) {
-                    explodeBomb(cell.getBomb());
-                }
-            }
+        // Dégâts sur chaque case touchée
+        for (int i = 0; i < chain.getBurnedCount(); i++) {
+            createExplosion(chain.getBurnedX(i), chain.getBurnedY(i));
         }
+        return detonations;
     }
 
     /**
@@ -272,8 +350,7 @@ public class Legend1v1Board {
      */
     public void createExplosion(int x, int y) {
         if (!isValidPosition(x, y)) return;
-        explosions.add(new Explosion(x, y));
-        Cell cell = grid[x][y];
+        explosions.ignite(x, y, clock.now());
 
         // Dégâts aux joueurs HUMAINS
         if (player1.isAlive() && player1.getX() == x && player1.getY() == y) {
@@ -285,99 +362,82 @@ public class Legend1v1Board {
             if (player2.isAlive()) player2.respawnAtStart(this);
         }
 
-        // Dégâts aux ennemis IA
-        for (LegendEnemyBomber b : bomberEnemies) {
-            if (b.getX() == x && b.getY() == y && b.isAlive()) b.kill();
+        // Dégâts aux ennemis IA (lecture directe de la case)
+        for (LegendEnemyBomber b : bomberIndex.at(x, y)) {
+            if (b.isAlive()) b.kill();
         }
-        for (LegendEnemyYellow yel : yellowEnemies) {
-            if (yel.getX() == x && yel.getY() == y && yel.isAlive()) yel.kill();
+        for (LegendEnemyYellow yel : yellowIndex.at(x, y)) {
+            if (yel.isAlive()) yel.kill();
         }
     }
 
     /**
      * Vérifie s'il y a une explosion à une position donnée
+     * OPTIMISATION: lecture directe de l'échéance de la case (O(1))
      */
     public boolean isExplosionAt(int x, int y) {
-        for (Explosion e : explosions) {
-            if (e.getX() == x && e.getY() == y) {
-                return true;
-            }
-        }
-        return false;
+        return isValidPosition(x, y) && explosions.isBurning(x, y, clock.now());
     }
 
     /**
      * Vérifie s'il y a un ennemi vivant à une position donnée
+     * OPTIMISATION: lecture de l'index d'occupation (O(occupants de la case))
      */
     public boolean hasEnemyAt(int x, int y) {
-        // Vérification des Bomber
-        for (LegendEnemyBomber b : bomberEnemies) {
-            if (b.getX() == x && b.getY() == y && b.isAlive()) {
-                return true;
-            }
+        if (!isValidPosition(x, y)) return false;
+        for (LegendEnemyBomber b : bomberIndex.at(x, y)) {
+            if (b.isAlive()) return true;
         }
-        // Vérification des Yellow
-        for (LegendEnemyYellow yel : yellowEnemies) {
-            if (yel.getX() == x && yel.getY() == y && yel.isAlive()) {
-                return true;
-            }
+        for (LegendEnemyYellow yel : yellowIndex.at(x, y)) {
+            if (yel.isAlive()) return true;
         }
         return false;
     }
 
     /**
-     * NOUVELLE MÉTHODE : Pathfinding simple pour les ennemis
-     * Retourne la direction optimale pour aller de (fromX, fromY) vers (toX, toY)
+     * Tient l'index d'occupation à jour après un déplacement d'ennemi
      */
-    public com.bomberman.model.enums.Direction getBestDirection(int fromX, int fromY, int toX, int toY) {
-        List<com.bomberman.model.enums.Direction> possibleMoves = new ArrayList<>();
-
-        // Trouve toutes les directions praticables
-        for (com.bomberman.model.enums.Direction dir : com.bomberman.model.enums.Direction.values()) {
-            int newX = fromX + dir.getDx();
-            int newY = fromY + dir.getDy();
-
-            if (isValidPosition(newX, newY) &&
-                    getCell(newX, newY).isWalkable() &&
-                    !hasEnemyAt(newX, newY)) {
-                possibleMoves.add(dir);
-            }
-        }
-
-        if (possibleMoves.isEmpty()) return null;
-
-        // Trouve la direction qui rapproche le plus de la cible
-        com.bomberman.model.enums.Direction bestDir = possibleMoves.get(0);
-        int bestDistance = Integer.MAX_VALUE;
-
-        for (com.bomberman.model.enums.Direction dir : possibleMoves) {
-            int newX = fromX + dir.getDx();
-            int newY = fromY + dir.getDy();
-            int distance = Math.abs(newX - toX) + Math.abs(newY - toY);
+    void enemyMoved(LegendEnemyBomber b) { bomberIndex.place(b, b.getX(), b.getY()); }
+    void enemyMoved(LegendEnemyYellow y) { yellowIndex.place(y, y.getX(), y.getY()); }
 
-            if (distance < bestDistance) {
-                bestDistance = distance;
-                bestDir = dir;
-            }
-        }
-
-        return bestDir;
+    /**
+     * Pathfinding des ennemis : plus court chemin vers la case cible
+     * OPTIMISATION: champ de flux mis en cache par cible (petit plateau) ou HPA* et
+     * Jump Point Search (grande arène), aucune allocation par appel
+     * @return La direction qui rapproche de la cible, ou null si aucune
+     */
+    public com.bomberman.model.enums.Direction getBestDirection(int fromX, int fromY, int toX, int toY) {
+        return pathFinder.next(fromX, fromY, toX, toY, enemyFilter);
     }
 
     // ===========================
     // ACCESSEURS ET MÉTHODES UTILITAIRES
     // ===========================
 
+    @Override
     public boolean isValidPosition(int x, int y) {
-        return x >= 0 && x < Constants.BOARD_WIDTH && y >= 0 && y < Constants.BOARD_HEIGHT;
+        return x >= 0 && x < width && y >= 0 && y < height;
     }
 
-    public void addBomb(Bomb bomb) { bombs.add(bomb); }
-    public Cell getCell(int x, int y) { return grid[x][y]; }
+    @Override public void addBomb(Bomb bomb) {
+        bombs.add(bomb);
+        fuses.schedule(bomb);
+        danger.bombAdded(bomb);
+        pathFinder.cellChanged(bomb.getX(), bomb.getY());
+    }
+    @Override public Cell getCell(int x, int y) { return grid.cellAt(x, y); }
+    public PackedGrid getGrid() { return grid; }
+    public DangerMap getDanger() { return danger; }
+    public SpaceTimePlanner getPlanner() { return planner; }
+    public ReservationTable getReservations() { return reservations; }
     public List<Bomb> getBombs() { return bombs; }
-    public List<Explosion> getExplosions() { return explosions; }
+    public ExplosionGrid getExplosions() { return explosions; }
+    public PathFinder getPathFinder() { return pathFinder; }
     public Player getPlayer1() { return player1; }
     public Player getPlayer2() { return player2; }
+    @Override public GameClock getClock() { return clock; }
+    @Override public int getWidth() { return width; }
+    @Override public int getHeight() { return height; }
     public List<LegendEnemyBomber> getBomberEnemies() { return bomberEnemies; }
     public List<LegendEnemyYellow> getYellowEnemies() { return yellowEnemies; }
 }
\ No newline at end of file
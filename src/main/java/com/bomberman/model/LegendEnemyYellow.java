@@ -13,8 +13,9 @@ public class LegendEnemyYellow {
     private final Random rand = new Random();
 
     // NOUVELLES VARIABLES pour IA améliorée
-    private long lastMoveTime = 0;
+    private long lastMoveTime = GameClock.NEVER;
     private static final int MOVE_DELAY = 300; // Plus rapide que Bomber
+    private static final int PLAN_BUDGET = 384; // Nœuds A* développés au plus par tour
     private int stuckCounter = 0;        // Compteur anti-blocage
     private int lastX = -1, lastY = -1;  // Position précédente
     private com.bomberman.model.enums.Direction lastDirection = null;
@@ -39,7 +40,7 @@ public class LegendEnemyYellow {
     public void playTurn(Legend1v1Board board, Player p1, Player p2) {
         if (!alive) return;
 
-        long now = System.currentTimeMillis();
+        long now = board.getClock().now();
 
         // Contrôle de fréquence (plus rapide que Bomber)
         if (now - lastMoveTime < MOVE_DELAY) return;
@@ -135,14 +136,33 @@ public class LegendEnemyYellow {
     private void performIntelligentMovement(Legend1v1Board board, Player target) {
         com.bomberman.model.enums.Direction bestDirection = null;
 
-        // Déblocage forcé si bloqué trop longtemps
-        if (stuckCounter >= 4) {
+        // Fuite prioritaire si une bombe va balayer la case
+        if (!board.getDanger().isSafe(x, y)) {
+            bestDirection = board.getDanger().escapeStep(x, y, MOVE_DELAY, board.getClock().now());
+        }
+
+        if (bestDirection != null) {
+            stuckCounter = 0; // La fuite n'est pas un blocage
+        } else if (stuckCounter >= 4) {
+            // Déblocage forcé si bloqué trop longtemps
             bestDirection = getRandomValidDirection(board);
             stuckCounter = 0;
             System.out.println("🔄 Yellow utilisne mouvement anti-blocage");
         } else {
-            // Pathfinding intelligent
-            bestDirection = board.getBestDirection(x, y, target.getX(), target.getY());
+            // Plan espace-temps coopératif : passe par les couloirs qui seront libres
+            // à l'arrivée, en contournant les cases réservées par les autres ennemis
+            SpaceTimePlanner planner = board.getPlanner();
+            bestDirection = planner.plan(x, y, target.getX(), target.getY(),
+                    board.getClock().now(), MOVE_DELAY, PLAN_BUDGET, board.getReservations(), this);
+            if (planner.isWaiting()) {
+                stuckCounter = 0; // Attente voulue : le passage se libère bientôt
+                return;
+            }
+
+            // Champ de flux si aucun plan sûr
+            if (bestDirection == null) {
+                bestDirection = board.getBestDirection(x, y, target.getX(), target.getY());
+            }
 
             // Mouvement tactique si pas de chemin direct
             if (bestDirection == null) {
@@ -227,7 +247,7 @@ public class LegendEnemyYellow {
         }
 
         // Évite les coins (malus léger)
-        if ((nx == 1 || nx == 13) && (ny == 1 || ny == 11)) {
+        if ((nx == 1 || nx == board.getWidth() - 2) && (ny == 1 || ny == board.getHeight() - 2)) {
             priority -= 10;
         }
 
@@ -296,6 +316,7 @@ public class LegendEnemyYellow {
                 !board.isExplosionAt(nx, ny)) { // Évite les explosions
             x = nx;
             y = ny;
+            board.enemyMoved(this);
         }
     }
 
@@ -317,6 +338,7 @@ public class LegendEnemyYellow {
     public boolean isAlive() { return alive; }
     public int getX() { return x; }
     public int getY() { return y; }
+    public int getMoveDelay() { return MOVE_DELAY; }
     public void kill() {
         alive = false;
         System.out.println("💀 Yellow éliminé à (" + x + "," + y + ")");
@@ -7,12 +7,14 @@ package com.bomberman.model;
 import com.bomberman.model.enums.CellType;
 import com.bomberman.utils.Constants;
 import java.io.Serializable;
+import java.util.Arrays;
 
 public class MapData implements Serializable {
     private static final long serialVersionUID = 1L;
 
     private String name;                 // Nom de la carte
-    private CellType[][] grid;           // Grille de la carte
+    private CellType[][] grid;           // Grille de la carte [x][y]
+    private int width, height;           // Dimensions en cellules (0 pour les anciens fichiers)
     private long creationTime;           // Timestamp de création
     private String description;          // Description de la carte
 
@@ -36,16 +38,30 @@ public class MapData implements Serializable {
         this.description = description;
     }
 
+    /**
+     * Vérifie qu'une taille de plateau est supportée
+     */
+    public static boolean isSupportedSize(int width, int height) {
+        return width >= Constants.MIN_BOARD_SIZE && width <= Constants.MAX_BOARD_SIZE &&
+                height >= Constants.MIN_BOARD_SIZE && height <= Constants.MAX_BOARD_SIZE;
+    }
+
     /**
      * Copie profonde de la grille pour éviter les références partagées
+     * Les dimensions de la carte sont celles de la grille fournie
      */
     private CellType[][] copyGrid(CellType[][] original) {
-        CellType[][] copy = new CellType[Constants.BOARD_WIDTH][Constants.BOARD_HEIGHT];
-        for (int x = 0; x < Constants.BOARD_WIDTH; x++) {
-            for (int y = 0; y < Constants.BOARD_HEIGHT; y++) {
-                copy[x][y] = original[x][y];
-            }
+        int w = original.length;
+        int h = w == 0 ? 0 : original[0].length;
+        if (!isSupportedSize(w, h)) {
+            throw new IllegalArgumentException("Taille de carte non supportée : " + w + "x" + h);
+        }
+        CellType[][] copy = new CellType[w][];
+        for (int x = 0; x < w; x++) {
+            copy[x] = Arrays.copyOf(original[x], h);
         }
+        this.width = w;
+        this.height = h;
         return copy;
     }
 
@@ -56,16 +72,16 @@ public class MapData implements Serializable {
         // Vérification des zones de spawn libres
         if (grid[1][1] != CellType.EMPTY) return false;
 
-        int maxX = Constants.BOARD_WIDTH - 2;
-        int maxY = Constants.BOARD_HEIGHT - 2;
+        int maxX = getWidth() - 2;
+        int maxY = getHeight() - 2;
         if (grid[maxX][maxY] != CellType.EMPTY) return false;
         if (grid[maxX][1] != CellType.EMPTY) return false;
         if (grid[1][maxY] != CellType.EMPTY) return false;
 
         // Vérification du nombre de cases jouables
         int emptyCells = 0;
-        for (int x = 1; x < Constants.BOARD_WIDTH - 1; x++) {
-            for (int y = 1; y < Constants.BOARD_HEIGHT - 1; y++) {
+        for (int x = 1; x < getWidth() - 1; x++) {
+            for (int y = 1; y < getHeight() - 1; y++) {
                 if (grid[x][y] == CellType.EMPTY || grid[x][y] == CellType.DESTRUCTIBLE_WALL) {
                     emptyCells++;
                 }
@@ -81,8 +97,8 @@ public class MapData implements Serializable {
     public String getStats() {
         int walls = 0, destructible = 0, empty = 0;
 
-        for (int x = 0; x < Constants.BOARD_WIDTH; x++) {
-            for (int y = 0; y < Constants.BOARD_HEIGHT; y++) {
+        for (int x = 0; x < getWidth(); x++) {
+            for (int y = 0; y < getHeight(); y++) {
                 switch (grid[x][y]) {
                     case WALL: walls++; break;
                     case DESTRUCTIBLE_WALL: destructible++; break;
@@ -99,6 +115,9 @@ public class MapData implements Serializable {
     public void setName(String name) { this.name = name; }
     public CellType[][] getGrid() { return grid; }
     public void setGrid(CellType[][] grid) { this.grid = copyGrid(grid); }
+    // Les cartes sauvegardées avant l'ajout des dimensions sont déduites de la grille
+    public int getWidth() { return width > 0 ? width : grid.length; }
+    public int getHeight() { return height > 0 ? height : grid[0].length; }
     public long getCreationTime() { return creationTime; }
     public void setCreationTime(long creationTime) { this.creationTime = creationTime; }
     public String getDescription() { return description; }
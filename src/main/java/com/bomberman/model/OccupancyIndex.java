@@ -0,0 +1,91 @@
+/**
+ * Index d'occupation des entités par case
+ * Une explosion retrouve ses victimes en lisant les cases touchées,
+ * sans parcourir toutes les entités du plateau
+ */
+package com.bomberman.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class OccupancyIndex<T> {
+    private final int width, height;               // Dimensions en cellules
+    private final List<List<T>> buckets;           // Occupants par case (créés à la demande)
+    private final Map<T, Integer> cellOf = new IdentityHashMap<>(); // Case courante de chaque entité
+
+    /**
+     * Crée un index vide pour une grille donnée
+     */
+    public OccupancyIndex(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.buckets = new ArrayList<>(Collections.nCopies(width * height, null));
+    }
+
+    /**
+     * Place (ou déplace) une entité sur une case
+     */
+    public void place(T entity, int x, int y) {
+        int index = y * width + x;
+        Integer previous = cellOf.put(entity, index);
+        if (previous != null) {
+            if (previous == index) return;
+            removeFrom(previous, entity);
+        }
+        List<T> bucket = buckets.get(index);
+        if (bucket == null) {
+            bucket = new ArrayList<>(2);
+            buckets.set(index, bucket);
+        }
+        bucket.add(entity);
+    }
+
+    /**
+     * Retire une entité de l'index (mort, sortie du plateau)
+     */
+    public void remove(T entity) {
+        Integer previous = cellOf.remove(entity);
+        if (previous != null) removeFrom(previous, entity);
+    }
+
+    private void removeFrom(int index, T entity) {
+        List<T> bucket = buckets.get(index);
+        for (int i = bucket.size() - 1; i >= 0; i--) {
+            if (bucket.get(i) == entity) {
+                bucket.remove(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Occupants d'une case (vue directe, à parcourir de la fin vers le début
+     * si des occupants sont déplacés ou retirés pendant le parcours)
+     */
+    public List<T> at(int x, int y) {
+        List<T> bucket = buckets.get(y * width + x);
+        return bucket == null ? Collections.emptyList() : bucket;
+    }
+
+    /**
+     * Vérifie si une case a au moins un occupant
+     */
+    public boolean isOccupied(int x, int y) {
+        return !at(x, y).isEmpty();
+    }
+
+    /**
+     * Vérifie si une entité est indexée
+     */
+    public boolean contains(T entity) {
+        return cellOf.containsKey(entity);
+    }
+
+    // Accesseurs
+    public int size() { return cellOf.size(); }
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+}
@@ -0,0 +1,186 @@
+/**
+ * Grille compacte du plateau : une case = un short dans un tableau plat
+ * Type, occupation, bombe et bonus sont empaquetés bit à bit ;
+ * les objets Bomb sont rangés dans une table annexe indexée par case
+ */
+package com.bomberman.model;
+
+import com.bomberman.model.enums.CellType;
+import com.bomberman.model.enums.PowerUpType;
+
+public class PackedGrid {
+    // Disposition des bits d'une case
+    private static final int TYPE_MASK = 0x07;              // bits 0-2 : CellType.ordinal()
+    static final int PLAYER_BIT = 1 << 3;                   // bit 3 : joueur présent
+    static final int ENEMY_BIT = 1 << 4;                    // bit 4 : ennemi présent
+    private static final int BOMB_BIT = 1 << 5;             // bit 5 : bombe présente
+    private static final int POWER_UP_SHIFT = 6;            // bits 6-8 : PowerUpType.ordinal() + 1
+    private static final int POWER_UP_MASK = 0x07 << POWER_UP_SHIFT;
+    private static final long BOMB_SALT = 0x2545F4914F6CDD1DL; // Sépare les clés de bombe des clés de contenu
+
+    // OPTIMISATION: évite l'allocation de values() à chaque lecture
+    private static final CellType[] CELL_TYPES = CellType.values();
+    private static final PowerUpType[] POWER_UP_TYPES = PowerUpType.values();
+
+    private final int width, height;     // Dimensions en cellules
+    private final short[] cells;         // État empaqueté, index = y * width + x
+    private final Bomb[] bombs;          // Table annexe des bombes posées
+    private int version;                 // Incrémenté à chaque changement de type ou de bombe
+    private long hash;                   // Empreinte de Zobrist (contenu des cases, bombes et échéances)
+    private final DirtyCells dirty;      // Cases écrites depuis la dernière image
+
+    /**
+     * Crée une grille vide (toutes les cases EMPTY)
+     */
+    public PackedGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.cells = new short[width * height];
+        this.bombs = new Bomb[width * height];
+        this.dirty = new DirtyCells(width * height);
+        dirty.markAll();
+    }
+
+    /**
+     * Index plat d'une position
+     */
+    public int index(int x, int y) {
+        return y * width + x;
+    }
+
+    /**
+     * Vue compatible Cell sur une case (aucune copie)
+     */
+    public Cell cellAt(int x, int y) {
+        return new Cell(this, index(x, y));
+    }
+
+    /**
+     * Réinitialise une case : nouveau type, sans occupant, bombe ni bonus
+     */
+    public void reset(int x, int y, CellType type) {
+        int i = index(x, y);
+        write(i, type.ordinal());
+        hash ^= bombKey(i, bombs[i]);
+        bombs[i] = null;
+        version++;
+    }
+
+    // ---- Type de case ----
+    public CellType getType(int x, int y) { return getType(index(x, y)); }
+    public void setType(int x, int y, CellType type) { setType(index(x, y), type); }
+
+    CellType getType(int i) {
+        return CELL_TYPES[cells[i] & TYPE_MASK];
+    }
+
+    void setType(int i, CellType type) {
+        write(i, (cells[i] & ~TYPE_MASK) | type.ordinal());
+        version++;
+    }
+
+    // ---- Occupation ----
+    public boolean hasPlayer(int x, int y) { return hasFlag(index(x, y), PLAYER_BIT); }
+    public void setHasPlayer(int x, int y, boolean value) { setFlag(index(x, y), PLAYER_BIT, value); }
+    public boolean hasEnemy(int x, int y) { return hasFlag(index(x, y), ENEMY_BIT); }
+    public void setHasEnemy(int x, int y, boolean value) { setFlag(index(x, y), ENEMY_BIT, value); }
+
+    boolean hasFlag(int i, int bit) {
+        return (cells[i] & bit) != 0;
+    }
+
+    void setFlag(int i, int bit, boolean value) {
+        write(i, value ? cells[i] | bit : cells[i] & ~bit);
+    }
+
+    // ---- Bombes (table annexe) ----
+    public boolean hasBomb(int x, int y) { return hasFlag(index(x, y), BOMB_BIT); }
+    public Bomb getBomb(int x, int y) { return getBomb(index(x, y)); }
+    public void setBomb(int x, int y, Bomb bomb) { setBomb(index(x, y), bomb); }
+
+    Bomb getBomb(int i) {
+        return (cells[i] & BOMB_BIT) != 0 ? bombs[i] : null;
+    }
+
+    void setBomb(int i, Bomb bomb) {
+        hash ^= bombKey(i, bombs[i]) ^ bombKey(i, bomb);
+        bombs[i] = bomb;
+        setFlag(i, BOMB_BIT, bomb != null);
+        version++;
+    }
+
+    /**
+     * Change l'échéance d'une bombe en gardant l'empreinte cohérente :
+     * la clé de la case dépend du moment d'explosion
+     */
+    public void rescheduleBomb(Bomb bomb, long explosionTime) {
+        int i = index(bomb.getX(), bomb.getY());
+        boolean onGrid = getBomb(i) == bomb;
+        if (onGrid) hash ^= bombKey(i, bomb);
+        bomb.setExplosionTime(explosionTime);
+        if (onGrid) hash ^= bombKey(i, bomb);
+    }
+
+    // ---- Bonus ----
+    public boolean hasPowerUp(int x, int y) { return (cells[index(x, y)] & POWER_UP_MASK) != 0; }
+    public PowerUpType getPowerUpType(int x, int y) { return getPowerUpType(index(x, y)); }
+    public void setPowerUp(int x, int y, PowerUpType type) { setPowerUp(index(x, y), type); }
+
+    PowerUpType getPowerUpType(int i) {
+        int code = (cells[i] & POWER_UP_MASK) >>> POWER_UP_SHIFT;
+        return code == 0 ? null : POWER_UP_TYPES[code - 1];
+    }
+
+    void setPowerUp(int i, PowerUpType type) {
+        int code = type == null ? 0 : type.ordinal() + 1;
+        write(i, (cells[i] & ~POWER_UP_MASK) | (code << POWER_UP_SHIFT));
+    }
+
+    /**
+     * Case marchable : vide et sans bombe
+     */
+    public boolean isWalkable(int x, int y) {
+        return isWalkable(index(x, y));
+    }
+
+    boolean isWalkable(int i) {
+        return (cells[i] & (TYPE_MASK | BOMB_BIT)) == CellType.EMPTY.ordinal();
+    }
+
+    /**
+     * Recopie l'état d'une grille de mêmes dimensions (instantané)
+     */
+    public void copyFrom(PackedGrid other) {
+        System.arraycopy(other.cells, 0, cells, 0, cells.length);
+        System.arraycopy(other.bombs, 0, bombs, 0, bombs.length);
+        version = other.version;
+        hash = other.hash;
+        dirty.markAll();
+    }
+
+    /**
+     * Écriture d'une case avec mise à jour incrémentale de l'empreinte
+     * OPTIMISATION: deux XOR par écriture, jamais de recalcul sur toute la grille ;
+     * la case est aussi marquée pour le rendu incrémental
+     */
+    private void write(int i, int value) {
+        hash ^= cellKey(i, cells[i]) ^ cellKey(i, value);
+        cells[i] = (short) value;
+        dirty.mark(i);
+    }
+
+    private static long cellKey(int i, int code) {
+        return code == 0 ? 0 : Zobrist.key(i, code);
+    }
+
+    private static long bombKey(int i, Bomb bomb) {
+        return bomb == null ? 0 : Zobrist.key(i, BOMB_SALT ^ bomb.getExplosionTime());
+    }
+
+    // Accesseurs
+    public int getVersion() { return version; } // Change quand la marchabilité peut changer
+    public long getHash() { return hash; }      // Identique pour deux grilles de même contenu
+    public DirtyCells getDirtyCells() { return dirty; } // Vidé par la vue après chaque image
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+}
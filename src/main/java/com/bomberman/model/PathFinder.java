@@ -0,0 +1,41 @@
+/**
+ * Recherche de chemin sur la grille, commune aux stratégies des ennemis :
+ * champs de flux (petits plateaux), Jump Point Search, abstraction hiérarchique
+ * Une case est praticable si elle est marchable ; le départ et la cible le sont toujours
+ */
+package com.bomberman.model;
+
+import com.bomberman.model.enums.Direction;
+
+public interface PathFinder {
+    int UNREACHABLE = Integer.MAX_VALUE;
+
+    /**
+     * Filtre des cases momentanément interdites (ennemi déjà présent, etc.)
+     * Appliqué au premier pas seulement
+     */
+    interface CellFilter {
+        boolean isBlocked(int x, int y);
+    }
+
+    /**
+     * Premier pas d'un plus court chemin de (fromX, fromY) vers (toX, toY)
+     * @return La direction, ou null si aucun pas ne rapproche de la cible
+     */
+    Direction next(int fromX, int fromY, int toX, int toY, CellFilter filter);
+
+    /**
+     * Longueur du chemin vers la cible (UNREACHABLE si aucun)
+     */
+    int distance(int fromX, int fromY, int toX, int toY);
+
+    /**
+     * Signale qu'une case a pu changer de marchabilité (bombe posée, mur détruit...)
+     */
+    void cellChanged(int x, int y);
+
+    /**
+     * Oublie tout l'état dérivé et relit la grille (chargement de carte)
+     */
+    void invalidateAll();
+}
@@ -16,53 +16,49 @@ public class Player {
     // Gestion du bonus SPEED
     private boolean speedBoost = false;
     private long speedEndTime = 0;
-    private long lastMoveTime = 0;
+    private long lastMoveTime = GameClock.NEVER;
 
     private int respawnDelay = 1000;
     protected long deathTime = -1;
 
+    // Horloge virtuelle de la partie (partagée avec le plateau)
+    private final GameClock clock;
+
     // Pour callback fin de partie
     private GameOverListener gameOverListener;
 
     public Player() {
-        this(0, 0); // Position par défaut
+        this(0, 0, new GameClock()); // Position par défaut
     }
 
-    public Player(int startX, int startY) {
+    public Player(int startX, int startY, GameClock clock) {
         this.x = startX;
         this.y = startY;
         this.startX = startX;
         this.startY = startY;
+        this.clock = clock;
     }
 
     public void setGameOverListener(GameOverListener listener) {
         this.gameOverListener = listener;
     }
 
-    // --- Supporte Board ET Legend1v1Board
-    public void respawnAtStart(Object board) {
-        if (board instanceof Legend1v1Board) {
-            Legend1v1Board b = (Legend1v1Board) board;
-            b.getCell(x, y).setHasPlayer(false);
-            x = startX;
-            y = startY;
-            b.getCell(x, y).setHasPlayer(true);
-        } else if (board instanceof Board) {
-            Board b = (Board) board;
-            b.getCell(x, y).setHasPlayer(false);
-            x = startX;
-            y = startY;
-            b.getCell(x, y).setHasPlayer(true);
-        }
+    // --- Respawn au point de départ (tout plateau)
+    public void respawnAtStart(GameBoard board) {
+        board.getCell(x, y).setHasPlayer(false);
+        x = startX;
+        y = startY;
+        board.getCell(x, y).setHasPlayer(true);
+        board.playerMoved(this);
         isAlive = true;
     }
 
-    // --- Move (Board ou Legend1v1Board)
-    public void move(Direction direction, Object board, GameState gameState) {
+    // --- Move (tout plateau)
+    public void move(Direction direction, GameBoard board, GameState gameState) {
         if (gameState != null && gameState != GameState.PLAYING) return;
         if (!isAlive) return;
 
-        long now = System.currentTimeMillis();
+        long now = clock.now();
         int delay = speedBoost ? 80 : 160;
         if (now - lastMoveTime < delay) return;
         lastMoveTime = now;
@@ -75,35 +71,15 @@ public class Player {
 
         int newX = x + direction.getDx();
         int newY = y + direction.getDy();
+        if (!board.isValidPosition(newX, newY)) return;
 
-        Cell cell = null;
-        boolean valid = false;
-
-        if (board instanceof Legend1v1Board) {
-            Legend1v1Board b = (Legend1v1Board) board;
-            valid = b.isValidPosition(newX, newY);
-            if (valid) cell = b.getCell(newX, newY);
-        } else if (board instanceof Board) {
-            Board b = (Board) board;
-            valid = b.isValidPosition(newX, newY);
-            if (valid) cell = b.getCell(newX, newY);
-        }
-        if (!valid || cell == null) return;
-
+        Cell cell = board.getCell(newX, newY);
         if (cell.isWalkable() && !cell.hasPlayer()) {
-            if (board instanceof Legend1v1Board) {
-                Legend1v1Board b = (Legend1v1Board) board;
-                b.getCell(x, y).setHasPlayer(false);
-                x = newX;
-                y = newY;
-                b.getCell(x, y).setHasPlayer(true);
-            } else if (board instanceof Board) {
-                Board b = (Board) board;
-                b.getCell(x, y).setHasPlayer(false);
-                x = newX;
-                y = newY;
-                b.getCell(x, y).setHasPlayer(true);
-            }
+            board.getCell(x, y).setHasPlayer(false);
+            x = newX;
+            y = newY;
+            cell.setHasPlayer(true);
+            board.playerMoved(this);
             if (cell.hasPowerUp()) {
                 addScore(300);
                 applyPowerUp(cell.getPowerUp());
@@ -112,28 +88,17 @@ public class Player {
         }
     }
 
-    public void placeBomb(Object board, GameState gameState) {
+    public void placeBomb(GameBoard board, GameState gameState) {
         if (!isAlive) return;
         if (bombsAvailable <= 0) return;
 
-        if (board instanceof Legend1v1Board) {
-            Legend1v1Board b = (Legend1v1Board) board;
-            if (b.getCell(x, y).getBomb() == null &&
-                    (gameState == null || gameState == GameState.PLAYING)) {
-                Bomb bomb = new Bomb(x, y, explosionRange, 1);
-                b.getCell(x, y).setBomb(bomb);
-                b.addBomb(bomb);
-                bombsAvailable--;
-            }
-        } else if (board instanceof Board) {
-            Board b = (Board) board;
-            if (b.getCell(x, y).getBomb() == null &&
-                    (gameState == null || gameState == GameState.PLAYING)) {
-                Bomb bomb = new Bomb(x, y, explosionRange, 1);
-                b.getCell(x, y).setBomb(bomb);
-                b.addBomb(bomb);
-                bombsAvailable--;
-            }
+        Cell cell = board.getCell(x, y);
+        if (cell.getBomb() == null &&
+                (gameState == null || gameState == GameState.PLAYING)) {
+            Bomb bomb = new Bomb(x, y, explosionRange, 1, this, clock);
+            cell.setBomb(bomb);
+            board.addBomb(bomb);
+            bombsAvailable--;
         }
     }
 
@@ -149,11 +114,11 @@ public class Player {
                 gameOverListener.onGameOver(score);
             }
         }
-        deathTime = System.currentTimeMillis();
+        deathTime = clock.now();
     }
 
     public void tryRespawn() {
-        if (!isAlive && deathTime > 0 && System.currentTimeMillis() - deathTime > respawnDelay) {
+        if (!isAlive && deathTime > 0 && clock.now() - deathTime > respawnDelay) {
             x = startX;
             y = startY;
             isAlive = (lives > 0);
@@ -170,17 +135,17 @@ public class Player {
             case LIFE: lives++; break;
             case SPEED:
                 speedBoost = true;
-                speedEndTime = System.currentTimeMillis() + 5000;
+                speedEndTime = clock.now() + 5000;
                 break;
         }
     }
 
     // --- Méthodes utilitaires pour le mode 1v1 Legend ---
-    public void moveUp(Object board)    { move(Direction.UP,    board, null); }
-    public void moveDown(Object board)  { move(Direction.DOWN,  board, null); }
-    public void moveLeft(Object board)  { move(Direction.LEFT,  board, null); }
-    public void moveRight(Object board) { move(Direction.RIGHT, board, null); }
-    public void placeBomb(Object board) { placeBomb(board, null); }
+    public void moveUp(GameBoard board)    { move(Direction.UP,    board, null); }
+    public void moveDown(GameBoard board)  { move(Direction.DOWN,  board, null); }
+    public void moveLeft(GameBoard board)  { move(Direction.LEFT,  board, null); }
+    public void moveRight(GameBoard board) { move(Direction.RIGHT, board, null); }
+    public void placeBomb(GameBoard board) { placeBomb(board, null); }
 
     // ----------- Getters & Setters complets -----------
     public int getX() { return x; }
@@ -204,5 +169,6 @@ public class Player {
     public boolean hasSpeedBoost() { return speedBoost; }
     public void setSpeedBoost(boolean s) { speedBoost = s; }
     public long getDeathTime() { return deathTime; }
+    public GameClock getClock() { return clock; }
     public void setDeathTime(long t) { deathTime = t; }
 }
@@ -4,6 +4,7 @@
  */
 package com.bomberman.model;
 
+import com.bomberman.model.enums.BotDifficulty;
 import com.bomberman.model.enums.Direction;
 import com.bomberman.model.enums.GameState;
 import com.bomberman.utils.Constants;
@@ -14,7 +15,11 @@ import java.util.Random;
 
 public class PlayerBot extends Player {
     private Random random = new Random();
-    private long lastMoveTime = 0;
+    private long lastMoveTime = GameClock.NEVER;
+    private final BotIntent intent = new BotIntent(); // Intention du tick courant
+    private BotDifficulty difficulty = BotDifficulty.EASY; // Niveau (recherche anticipée au-delà de EASY)
+    private final BotLookahead lookahead = new BotLookahead();
+    private BotMonteCarlo monteCarlo;    // Créée au passage en EXPERT (arbres volumineux)
 
     // OPTIMISATION: Utilise la constante globale optimisée
     private static final int BOT_MOVE_DELAY = Constants.BOT_MOVE_DELAY;
@@ -27,8 +32,8 @@ public class PlayerBot extends Player {
     /**
      * Constructeur avec position de départ
      */
-    public PlayerBot(int startX, int startY) {
-        super(startX, startY);
+    public PlayerBot(int startX, int startY, GameClock clock) {
+        super(startX, startY, clock);
         setLives(BOT_START_LIVES);
     }
 
@@ -46,6 +51,27 @@ public class PlayerBot extends Player {
         return bombsAvailableBot;
     }
 
+    public BotIntent getIntent() {
+        return intent;
+    }
+
+    public BotDifficulty getDifficulty() {
+        return difficulty;
+    }
+
+    public void setDifficulty(BotDifficulty difficulty) {
+        this.difficulty = difficulty;
+        if (difficulty.usesMonteCarlo() && monteCarlo == null) monteCarlo = new BotMonteCarlo();
+    }
+
+    public BotLookahead getLookahead() {
+        return lookahead;
+    }
+
+    public BotMonteCarlo getMonteCarlo() {
+        return monteCarlo;
+    }
+
     public int getMaxBombs() {
         return maxBombsBot;
     }
@@ -55,107 +81,158 @@ public class PlayerBot extends Player {
     }
 
     /**
-     * IA principale du bot - appelée à chaque tour
+     * IA principale du bot - phase de décision
      * Stratégie : poursuite du joueur humain avec pose de bombes tactiques
+     * Ne lit que l'instantané : plusieurs bots peuvent décider en parallèle
+     * @param probe Tableaux de travail propres au fil d'exécution appelant
      */
-    public void playTurn(Board board) {
+    public void decide(BoardSnapshot board, DangerMap.Probe probe) {
+        intent.clear();
         if (!isAlive()) return;
 
         // Contrôle de la fréquence des actions
-        long now = System.currentTimeMillis();
+        long now = board.getNow();
         if (now - lastMoveTime < BOT_MOVE_DELAY) return;
 
-        Player human = board.getPlayer();
         int px = getX();
         int py = getY();
+        int human = board.nearestPlayer(px, py);
+        DangerMap danger = board.getDanger();
 
-        // Stratégie prioritaire : poser une bombe si adjacent au joueur
-        if (isNextTo(px, py, human.getX(), human.getY()) &&
-                bombsAvailableBot > 0 &&
-                board.getCell(px, py).getBomb() == null) {
+        // Survie avant tout : quitter une case qu'une bombe va balayer
+        if (!danger.isSafe(px, py)) {
+            Direction escape = danger.escapeStep(px, py, BOT_MOVE_DELAY, now, probe);
+            if (escape != null) {
+                intent.set(escape, false);
+                lastMoveTime = now;
+                return;
+            }
+        }
 
-            Bomb bomb = new Bomb(px, py, getExplosionRange());
-            board.getCell(px, py).setBomb(bomb);
-            board.addBomb(bomb);
-            bombsAvailableBot--;
+        // Stratégie prioritaire : poser une bombe si adjacent au joueur (et si la fuite reste possible)
+        if (isNextTo(px, py, board.getPlayerX(human), board.getPlayerY(human)) &&
+                bombsAvailableBot > 0 &&
+                !board.hasBomb(px, py) &&
+                canEscapeAfterBomb(danger, probe, px, py, now)) {
+            intent.set(null, true);
             lastMoveTime = now;
             return;
         }
 
-        // Mouvement intelligent vers le joueur
-        Direction bestDir = getDirectionTowards(px, py, human.getX(), human.getY(), board);
-        if (bestDir != null) {
-            int nx = px + bestDir.getDx();
-            int ny = py + bestDir.getDy();
-            if (board.isValidPosition(nx, ny) &&
-                    board.getCell(nx, ny).isWalkable() &&
-                    !board.getCell(nx, ny).hasPlayer()) {
-                move(bestDir, board, GameState.PLAYING);
-            }
+        Direction move = null;
+        boolean plannedBomb = false;
+        if (difficulty.usesMonteCarlo()) {
+            // Parties aléatoires sur un état compact, bornées par le budget de temps du niveau
+            int action = monteCarlo.bestAction(board, this, bombsAvailableBot, BOT_MOVE_DELAY, difficulty);
+            move = SimState.directionOf(action);
+            plannedBomb = action == SimState.BOMB;
+        } else if (difficulty.usesSearch()) {
+            // Recherche anticipée bornée par le budget de temps du niveau
+            move = lookahead.bestMove(board, px, py, BOT_MOVE_DELAY, difficulty);
         } else {
-            // Mouvement aléatoire si pas de chemin direct
-            List<Direction> dirs = new ArrayList<>();
-            Collections.addAll(dirs, Direction.values());
-            Collections.shuffle(dirs, random);
-
-            for (Direction dir : dirs) {
-                int nx = px + dir.getDx();
-                int ny = py + dir.getDy();
-                if (board.isValidPosition(nx, ny) &&
-                        board.getCell(nx, ny).isWalkable() &&
-                        !board.getCell(nx, ny).hasPlayer()) {
-                    move(dir, board, GameState.PLAYING);
-                    break;
+            // Plus court chemin vers le joueur le plus proche (champ de distances partagé)
+            Direction bestDir = board.chaseStep(px, py);
+            if (bestDir != null) {
+                // On attend plutôt que d'entrer dans un souffle annoncé
+                if (danger.isSafe(px + bestDir.getDx(), py + bestDir.getDy())) {
+                    move = bestDir;
+                }
+            } else {
+                // Mouvement aléatoire si aucun chemin vers un joueur
+                List<Direction> dirs = new ArrayList<>();
+                Collections.addAll(dirs, Direction.values());
+                Collections.shuffle(dirs, random);
+
+                for (Direction dir : dirs) {
+                    int nx = px + dir.getDx();
+                    int ny = py + dir.getDy();
+                    if (board.isValidPosition(nx, ny) &&
+                            board.isWalkable(nx, ny) &&
+                            !board.hasPlayer(nx, ny) &&
+                            danger.isSafe(nx, ny)) {
+                        move = dir;
+                        break;
+                    }
                 }
             }
         }
 
-        // Pose de bombe aléatoire (15% de chance)
-        if (random.nextDouble() < 0.15 &&
+        // Pose de bombe sur la case de départ : aléatoire (15%) en EASY, choisie par
+        // les simulations en EXPERT, sinon pour creuser un passage quand aucun chemin
+        // ne mène à un joueur
+        boolean wantsBomb;
+        if (difficulty.usesMonteCarlo()) {
+            wantsBomb = plannedBomb;
+        } else if (difficulty.usesSearch()) {
+            wantsBomb = board.chaseStep(px, py) == null && isNextToDestructible(board, px, py);
+        } else {
+            wantsBomb = random.nextDouble() < 0.15;
+        }
+        boolean dropBomb = wantsBomb &&
                 bombsAvailableBot > 0 &&
-                board.getCell(px, py).getBomb() == null) {
+                !board.hasBomb(px, py) &&
+                canEscapeAfterBomb(danger, probe, px, py, now);
+
+        intent.set(move, dropBomb);
+        lastMoveTime = now;
+    }
 
-            Bomb bomb = new Bomb(px, py, getExplosionRange());
+    /**
+     * Phase de validation : applique l'intention sur le vrai plateau
+     * Appelée séquentiellement ; une case prise entre-temps par un autre bot
+     * (ou une bombe posée sur le passage) annule simplement le déplacement
+     */
+    public void applyIntent(Board board) {
+        if (!isAlive() || intent.isIdle()) return;
+        int px = getX();
+        int py = getY();
+
+        if (intent.dropsBomb() &&
+                bombsAvailableBot > 0 &&
+                board.getCell(px, py).getBomb() == null) {
+            Bomb bomb = new Bomb(px, py, getExplosionRange(), 0, this, getClock());
             board.getCell(px, py).setBomb(bomb);
             board.addBomb(bomb);
             bombsAvailableBot--;
         }
 
-        lastMoveTime = now;
+        Direction dir = intent.getMove();
+        if (dir != null) {
+            int nx = px + dir.getDx();
+            int ny = py + dir.getDy();
+            if (board.isValidPosition(nx, ny) &&
+                    board.getCell(nx, ny).isWalkable() &&
+                    !board.getCell(nx, ny).hasPlayer()) {
+                move(dir, board, GameState.PLAYING);
+            }
+        }
     }
 
     /**
-     * Vérifie si deux positions sont adjacentes (distance de 1)
+     * Vérifie qu'une bombe posée en (x, y) laisserait au bot une route de fuite
      */
-    private boolean isNextTo(int x1, int y1, int x2, int y2) {
-        return (Math.abs(x1 - x2) == 1 && y1 == y2) ||
-                (Math.abs(y1 - y2) == 1 && x1 == x2);
+    private boolean canEscapeAfterBomb(DangerMap danger, DangerMap.Probe probe, int x, int y, long now) {
+        return danger.canEscape(x, y, getExplosionRange(), Constants.BOMB_TIMER, BOT_MOVE_DELAY, now, probe);
     }
 
     /**
-     * Calcule la meilleure direction pour se rapprocher d'une cible
-     * Pathfinding basique avec évitement d'obstacles
+     * Vérifie si un mur destructible touche la case
      */
-    private Direction getDirectionTowards(int fromX, int fromY, int toX, int toY, Board board) {
-        List<Direction> dirs = new ArrayList<>();
-
-        // Priorise les directions qui rapprochent de la cible
-        if (toX > fromX) dirs.add(Direction.RIGHT);
-        if (toX < fromX) dirs.add(Direction.LEFT);
-        if (toY > fromY) dirs.add(Direction.DOWN);
-        if (toY < fromY) dirs.add(Direction.UP);
-
-        // Teste chaque direction prioritaire
-        for (Direction dir : dirs) {
-            int nx = fromX + dir.getDx();
-            int ny = fromY + dir.getDy();
-            if (board.isValidPosition(nx, ny) &&
-                    board.getCell(nx, ny).isWalkable() &&
-                    !board.getCell(nx, ny).hasPlayer()) {
-                return dir;
-            }
+    private boolean isNextToDestructible(BoardSnapshot board, int x, int y) {
+        for (Direction dir : Direction.values()) {
+            int nx = x + dir.getDx();
+            int ny = y + dir.getDy();
+            if (board.isValidPosition(nx, ny) && board.isDestructible(nx, ny)) return true;
         }
-        return null;
+        return false;
+    }
+
+    /**
+     * Vérifie si deux positions sont adjacentes (distance de 1)
+     */
+    private boolean isNextTo(int x1, int y1, int x2, int y2) {
+        return (Math.abs(x1 - x2) == 1 && y1 == y2) ||
+                (Math.abs(y1 - y2) == 1 && x1 == x2);
     }
 
     /**
@@ -193,7 +270,7 @@ public class PlayerBot extends Player {
             board.getCell(getX(), getY()).setHasPlayer(false); // Libère la cellule
             setIsAlive(false);
         }
-        setDeathTime(System.currentTimeMillis());
+        setDeathTime(getClock().now());
     }
 
     /**
@@ -205,6 +282,7 @@ public class PlayerBot extends Player {
         setX(getStartX());
         setY(getStartY());
         board.getCell(getX(), getY()).setHasPlayer(true);
+        board.playerMoved(this);
         setIsAlive(true);
     }
 }
\ No newline at end of file
@@ -7,7 +7,15 @@ package com.bomberman.model;
 import com.bomberman.model.enums.PowerUpType;
 
 public class PowerUp {
-    private PowerUpType type;
+    // OPTIMISATION: une instance partagée par type (la grille ne stocke que le type)
+    private static final PowerUp[] INSTANCES = new PowerUp[PowerUpType.values().length];
+    static {
+        for (PowerUpType t : PowerUpType.values()) {
+            INSTANCES[t.ordinal()] = new PowerUp(t);
+        }
+    }
+
+    private final PowerUpType type;
 
     /**
      * Constructeur avec type spécifique
@@ -20,15 +28,22 @@ public class PowerUp {
         return type;
     }
 
+    /**
+     * Instance partagée pour un type donné
+     */
+    public static PowerUp of(PowerUpType type) {
+        return INSTANCES[type.ordinal()];
+    }
+
     /**
      * Génère un power-up aléatoire avec probabilités équilibrées
      * 33% EXTRA_BOMB, 33% RANGE_UP, 17% LIFE, 17% SPEED
      */
     public static PowerUp random() {
         double r = Math.random();
-        if (r < 0.33) return new PowerUp(PowerUpType.EXTRA_BOMB);
-        if (r < 0.66) return new PowerUp(PowerUpType.RANGE_UP);
-        if (r < 0.83) return new PowerUp(PowerUpType.LIFE);
-        return new PowerUp(PowerUpType.SPEED);
+        if (r < 0.33) return of(PowerUpType.EXTRA_BOMB);
+        if (r < 0.66) return of(PowerUpType.RANGE_UP);
+        if (r < 0.83) return of(PowerUpType.LIFE);
+        return of(PowerUpType.SPEED);
     }
 }
@@ -0,0 +1,158 @@
+/**
+ * Table de réservation espace-temps pour la planification coopérative des ennemis
+ * (A* coopératif à fenêtre) : chaque ennemi réserve les premiers pas de son plan,
+ * les suivants planifient autour au lieu de se bloquer mutuellement
+ * Une case reste réservée un pas après son départ : les ennemis bougent l'un après
+ * l'autre, un échange de cases ou une file collée se bloquerait sinon
+ */
+package com.bomberman.model;
+
+public class ReservationTable {
+    private final int window;            // Nombre de pas réservés par plan
+
+    // Chemins réservés, un par agent (tableaux agrandis rarement, par doublement)
+    private Object[] owners = new Object[8];
+    private int[][] paths = new int[8][];
+    private int[] lengths = new int[8];
+    private long[] starts = new long[8];
+    private long[] steps = new long[8];
+    private boolean[] seen = new boolean[8];
+    private int agentCount;
+
+    /**
+     * @param window Nombre de pas réservés au plus par plan
+     */
+    public ReservationTable(int window) {
+        this.window = window;
+    }
+
+    // ---- Synchronisation en début de tick ----
+
+    /**
+     * Début de la synchronisation des agents vivants
+     */
+    public void beginSync() {
+        for (int a = 0; a < agentCount; a++) seen[a] = false;
+    }
+
+    /**
+     * Un agent vivant se trouve en cell à l'instant now
+     * Si son chemin réservé ne l'y place pas (déplacement hors plan, blocage),
+     * il est supposé immobile pendant un de ses pas
+     */
+    public void sync(Object agent, int cell, long now, long stepMs) {
+        int a = indexOf(agent);
+        seen[a] = true;
+        if (lengths[a] == 0 || cellAt(a, now) != cell) {
+            paths[a][0] = cell;
+            lengths[a] = 1;
+            starts[a] = now;
+            steps[a] = stepMs;
+        }
+    }
+
+    /**
+     * Fin de la synchronisation : les agents non vus (morts) libèrent leurs réservations
+     */
+    public void endSync() {
+        int kept = 0;
+        for (int a = 0; a < agentCount; a++) {
+            if (!seen[a]) continue;
+            if (kept != a) {
+                int[] path = paths[kept];
+                owners[kept] = owners[a];
+                paths[kept] = paths[a];
+                paths[a] = path;
+                lengths[kept] = lengths[a];
+                starts[kept] = starts[a];
+                steps[kept] = steps[a];
+                seen[kept] = true;
+            }
+            kept++;
+        }
+        for (int a = kept; a < agentCount; a++) owners[a] = null;
+        agentCount = kept;
+    }
+
+    // ---- Réservations ----
+
+    /**
+     * Réserve le chemin d'un agent (remplace le précédent)
+     * @param cells Cases successives, la première étant la case actuelle
+     * @param count Nombre de cases du chemin (tronqué à la fenêtre)
+     */
+    public void reserve(Object agent, int[] cells, int count, long start, long stepMs) {
+        int a = indexOf(agent);
+        int length = Math.min(count, window + 1);
+        System.arraycopy(cells, 0, paths[a], 0, length);
+        lengths[a] = length;
+        starts[a] = start;
+        steps[a] = stepMs;
+    }
+
+    /**
+     * La case est-elle libre de toute réservation d'un autre agent sur [time, time + durationMs)
+     */
+    public boolean isFree(int cell, long time, long durationMs, Object agent) {
+        for (int a = 0; a < agentCount; a++) {
+            if (owners[a] == agent || lengths[a] == 0) continue;
+            long step = steps[a];
+            long offset = time - starts[a];
+            // Pas du chemin dont l'occupation (prolongée d'un pas) recouvre l'intervalle
+            long from = Math.floorDiv(offset, step) - 1;
+            long to = Math.floorDiv(offset + durationMs - 1, step);
+            if (to < 0 || from >= lengths[a]) continue;
+            int last = (int) Math.min(to, lengths[a] - 1);
+            for (int k = (int) Math.max(from, 0); k <= last; k++) {
+                if (paths[a][k] == cell) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Case réservée par un agent à un instant (-1 hors de son chemin)
+     */
+    private int cellAt(int a, long time) {
+        long k = Math.floorDiv(time - starts[a], steps[a]);
+        if (k < 0 || k >= lengths[a]) return -1;
+        return paths[a][(int) k];
+    }
+
+    /**
+     * Case réservée par un agent à un instant (-1 si aucune)
+     */
+    public int reservedCell(Object agent, long time) {
+        for (int a = 0; a < agentCount; a++) {
+            if (owners[a] == agent) return lengths[a] == 0 ? -1 : cellAt(a, time);
+        }
+        return -1;
+    }
+
+    private int indexOf(Object agent) {
+        for (int a = 0; a < agentCount; a++) {
+            if (owners[a] == agent) return a;
+        }
+        if (agentCount == owners.length) grow();
+        int a = agentCount++;
+        owners[a] = agent;
+        if (paths[a] == null) paths[a] = new int[window + 1];
+        lengths[a] = 0;
+        seen[a] = true;
+        return a;
+    }
+
+    private void grow() {
+        int size = owners.length * 2;
+        owners = java.util.Arrays.copyOf(owners, size);
+        paths = java.util.Arrays.copyOf(paths, size);
+        lengths = java.util.Arrays.copyOf(lengths, size);
+        starts = java.util.Arrays.copyOf(starts, size);
+        steps = java.util.Arrays.copyOf(steps, size);
+        seen = java.util.Arrays.copyOf(seen, size);
+    }
+
+    // Accesseurs
+    public int getWindow() { return window; }
+    public int getAgentCount() { return agentCount; }
+}
@@ -0,0 +1,345 @@
+/**
+ * État de jeu compact pour les simulations Monte-Carlo des bots
+ * Tableaux primitifs uniquement : un pas de simulation n'alloue rien
+ * Les écritures sur les cases sont journalisées : revenir à l'état marqué
+ * coûte le nombre de cases modifiées, pas la taille du plateau
+ */
+package com.bomberman.model;
+
+import com.bomberman.model.enums.CellType;
+import com.bomberman.model.enums.Direction;
+import com.bomberman.utils.Constants;
+
+public class SimState {
+    // Actions d'un agent (1 à 4 : directions dans l'ordre de Direction.values())
+    public static final int STAY = 0;
+    public static final int BOMB = 5;        // Pose une bombe et reste sur place
+    public static final int ACTIONS = 6;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    // Contenu des cases
+    private static final byte EMPTY = 0, WALL = 1, BRICK = 2, BLOCKED = 3; // BLOCKED : autre bot, supposé immobile
+
+    // Entrées du journal
+    private static final byte LOG_CELL = 0, LOG_BOMB = 1, LOG_META = 2, LOG_FLAME = 3;
+
+    private final int width, height;
+    private final int explosionDuration;
+
+    // Cases
+    private final byte[] cells;
+    private final int[] bombAt;          // Instant d'explosion (0 : pas de bombe, -1 : explose)
+    private final int[] bombMeta;        // Portée (8 bits bas) et agent à qui rendre la bombe, plus 1 (0 : aucun)
+    private final int[] flameUntil;      // Fin des flammes sur la case
+    private final int[] chain;           // File de réaction en chaîne
+
+    // Bombes posées (liste compacte de cases)
+    private final int[] bombCells, markBombCells;
+    private int bombCount, markBombCount;
+
+    // Agents : 0 est le bot qui décide, les suivants ses adversaires
+    private final int[] agentCell, agentBombs, agentRange;
+    private final boolean[] agentAlive;
+    private final int[] markCell, markBombs;
+    private final boolean[] markAlive;
+    private int agentCount;
+
+    private int time, markTime;          // Temps simulé (ms depuis l'instantané)
+
+    // Journal des écritures depuis le dernier marquage
+    private byte[] logKind = new byte[256];
+    private int[] logIndex = new int[256], logOld = new int[256];
+    private int logSize;
+
+    /**
+     * État aux dimensions du plateau, pour au plus maxAgents agents
+     */
+    public SimState(int width, int height, int maxAgents) {
+        this.width = width;
+        this.height = height;
+        this.explosionDuration = Constants.EXPLOSION_DURATION;
+        int size = width * height;
+        cells = new byte[size];
+        bombAt = new int[size];
+        bombMeta = new int[size];
+        flameUntil = new int[size];
+        chain = new int[size];
+        bombCells = new int[size];
+        markBombCells = new int[size];
+        agentCell = new int[maxAgents];
+        agentBombs = new int[maxAgents];
+        agentRange = new int[maxAgents];
+        agentAlive = new boolean[maxAgents];
+        markCell = new int[maxAgents];
+        markBombs = new int[maxAgents];
+        markAlive = new boolean[maxAgents];
+    }
+
+    /**
+     * Charge l'instantané du plateau du point de vue d'un bot, puis marque l'état
+     * @param self Le bot qui décide (ses bombes lui sont rendues à l'explosion)
+     * @param selfBombs Bombes encore disponibles pour le bot
+     */
+    public void load(BoardSnapshot board, Player self, int selfBombs) {
+        long now = board.getNow();
+        agentCount = 0;
+        addAgent(self.getY() * width + self.getX(), selfBombs, self.getExplosionRange());
+        for (int i = 0; i < board.getPlayerCount() && agentCount < agentCell.length; i++) {
+            if (board.isPlayerAlive(i)) {
+                addAgent(board.getPlayerY(i) * width + board.getPlayerX(i), 1, board.getPlayerRange(i));
+            }
+        }
+
+        bombCount = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int i = y * width + x;
+                CellType type = board.getType(x, y);
+                cells[i] = type == CellType.WALL ? WALL
+                        : type == CellType.DESTRUCTIBLE_WALL ? BRICK
+                        : board.hasPlayer(x, y) ? BLOCKED : EMPTY;
+                bombAt[i] = 0;
+                Bomb bomb = board.hasBomb(x, y) ? board.getBomb(x, y) : null;
+                if (bomb != null) {
+                    bombAt[i] = (int) Math.max(1, bomb.getExplosionTime() - now);
+                    bombMeta[i] = meta(bomb.getExplosionRange(), bomb.getPlacedBy() == self ? 0 : -1);
+                    bombCells[bombCount++] = i;
+                }
+                flameUntil[i] = (int) Math.max(0, board.getBurningUntil(x, y) - now);
+            }
+        }
+        for (int a = 0; a < agentCount; a++) cells[agentCell[a]] = EMPTY;
+        time = 0;
+        mark();
+    }
+
+    private void addAgent(int cell, int bombs, int range) {
+        agentCell[agentCount] = cell;
+        agentBombs[agentCount] = bombs;
+        agentRange[agentCount] = range;
+        agentAlive[agentCount] = true;
+        agentCount++;
+    }
+
+    /**
+     * Mémorise l'état courant comme point de retour et vide le journal
+     */
+    public void mark() {
+        System.arraycopy(agentCell, 0, markCell, 0, agentCount);
+        System.arraycopy(agentBombs, 0, markBombs, 0, agentCount);
+        System.arraycopy(agentAlive, 0, markAlive, 0, agentCount);
+        System.arraycopy(bombCells, 0, markBombCells, 0, bombCount);
+        markBombCount = bombCount;
+        markTime = time;
+        logSize = 0;
+    }
+
+    /**
+     * Revient à l'état marqué en annulant le journal (du plus récent au plus ancien)
+     */
+    public void rewind() {
+        for (int i = logSize - 1; i >= 0; i--) {
+            int index = logIndex[i];
+            switch (logKind[i]) {
+                case LOG_CELL -> cells[index] = (byte) logOld[i];
+                case LOG_BOMB -> bombAt[index] = logOld[i];
+                case LOG_META -> bombMeta[index] = logOld[i];
+                default -> flameUntil[index] = logOld[i];
+            }
+        }
+        logSize = 0;
+        System.arraycopy(markCell, 0, agentCell, 0, agentCount);
+        System.arraycopy(markBombs, 0, agentBombs, 0, agentCount);
+        System.arraycopy(markAlive, 0, agentAlive, 0, agentCount);
+        System.arraycopy(markBombCells, 0, bombCells, 0, markBombCount);
+        bombCount = markBombCount;
+        time = markTime;
+    }
+
+    /**
+     * Joue un pas : actions de tous les agents, puis écoulement du temps,
+     * explosions (avec réactions en chaîne) et morts dans les flammes
+     * @param actions Action de chaque agent (indice d'agent)
+     */
+    public void step(int[] actions, int stepMs) {
+        for (int a = 0; a < agentCount; a++) {
+            if (agentAlive[a]) act(a, actions[a]);
+        }
+        time += stepMs;
+        detonate();
+        for (int a = 0; a < agentCount; a++) {
+            // Une flamme active à un moment du pas suffit
+            if (agentAlive[a] && flameUntil[agentCell[a]] > time - stepMs) agentAlive[a] = false;
+        }
+    }
+
+    /**
+     * L'action est-elle possible pour l'agent (sinon elle équivaut à rester)
+     */
+    public boolean canAct(int agent, int action) {
+        int cell = agentCell[agent];
+        if (action == STAY) return true;
+        if (action == BOMB) return agentBombs[agent] > 0 && bombAt[cell] == 0;
+        return target(cell, action) >= 0;
+    }
+
+    private void act(int agent, int action) {
+        if (!canAct(agent, action) || action == STAY) return;
+        int cell = agentCell[agent];
+        if (action == BOMB) {
+            write(LOG_BOMB, cell, time + Constants.BOMB_TIMER);
+            write(LOG_META, cell, meta(agentRange[agent], agent));
+            bombCells[bombCount++] = cell;
+            agentBombs[agent]--;
+        } else {
+            agentCell[agent] = target(cell, action);
+        }
+    }
+
+    /**
+     * Case atteinte par un déplacement, ou -1 si elle est bloquée
+     */
+    private int target(int cell, int action) {
+        Direction dir = DIRECTIONS[action - 1];
+        int nx = cell % width + dir.getDx();
+        int ny = cell / width + dir.getDy();
+        if (nx < 0 || ny < 0 || nx >= width || ny >= height) return -1;
+        int next = ny * width + nx;
+        if (cells[next] != EMPTY || bombAt[next] != 0) return -1;
+        for (int a = 0; a < agentCount; a++) {
+            if (agentAlive[a] && agentCell[a] == next) return -1;
+        }
+        return next;
+    }
+
+    /**
+     * Fait exploser les bombes arrivées à échéance et celles qu'elles atteignent
+     */
+    private void detonate() {
+        int head = 0, tail = 0;
+        for (int b = 0; b < bombCount; b++) {
+            int cell = bombCells[b];
+            if (bombAt[cell] <= time) {
+                write(LOG_BOMB, cell, -1);
+                chain[tail++] = cell;
+            }
+        }
+        if (tail == 0) return;
+
+        while (head < tail) {
+            int cell = chain[head++];
+            ignite(cell);
+            int x = cell % width, y = cell / width;
+            for (Direction dir : DIRECTIONS) {
+                int range = bombMeta[cell] & 0xFF;
+                for (int r = 1; r <= range; r++) {
+                    int nx = x + dir.getDx() * r;
+                    int ny = y + dir.getDy() * r;
+                    if (nx < 0 || ny < 0 || nx >= width || ny >= height) break;
+                    int next = ny * width + nx;
+                    if (cells[next] == WALL) break;
+                    ignite(next);
+                    if (cells[next] == BRICK) {
+                        write(LOG_CELL, next, EMPTY);
+                        break;
+                    }
+                    if (bombAt[next] > 0) {
+                        write(LOG_BOMB, next, -1);
+                        chain[tail++] = next;
+                    }
+                }
+            }
+        }
+
+        // Retrait des bombes explosées, rendues à leur propriétaire
+        int kept = 0;
+        for (int b = 0; b < bombCount; b++) {
+            int cell = bombCells[b];
+            if (bombAt[cell] == -1) {
+                write(LOG_BOMB, cell, 0);
+                int owner = (bombMeta[cell] >> 8) - 1;
+                if (owner >= 0) agentBombs[owner]++;
+            } else {
+                bombCells[kept++] = cell;
+            }
+        }
+        bombCount = kept;
+    }
+
+    private static int meta(int range, int owner) {
+        return Math.min(range, 0xFF) | (owner + 1) << 8;
+    }
+
+    private void ignite(int cell) {
+        write(LOG_FLAME, cell, time + explosionDuration);
+    }
+
+    /**
+     * Écriture journalisée d'une case (le journal grandit rarement, par doublement)
+     */
+    private void write(byte kind, int index, int value) {
+        if (logSize == logKind.length) {
+            logKind = java.util.Arrays.copyOf(logKind, logSize * 2);
+            logIndex = java.util.Arrays.copyOf(logIndex, logSize * 2);
+            logOld = java.util.Arrays.copyOf(logOld, logSize * 2);
+        }
+        logKind[logSize] = kind;
+        logIndex[logSize] = index;
+        switch (kind) {
+            case LOG_CELL -> { logOld[logSize] = cells[index]; cells[index] = (byte) value; }
+            case LOG_BOMB -> { logOld[logSize] = bombAt[index]; bombAt[index] = value; }
+            case LOG_META -> { logOld[logSize] = bombMeta[index]; bombMeta[index] = value; }
+            default -> { logOld[logSize] = flameUntil[index]; flameUntil[index] = value; }
+        }
+        logSize++;
+    }
+
+    /**
+     * Adversaires encore en vie
+     */
+    public int getOpponentsAlive() {
+        int alive = 0;
+        for (int a = 1; a < agentCount; a++) {
+            if (agentAlive[a]) alive++;
+        }
+        return alive;
+    }
+
+    /**
+     * Distance de Manhattan du bot à l'adversaire vivant le plus proche
+     * @return Integer.MAX_VALUE si aucun adversaire n'est en vie
+     */
+    public int nearestOpponentDistance() {
+        int best = Integer.MAX_VALUE;
+        int x = agentCell[0] % width, y = agentCell[0] / width;
+        for (int a = 1; a < agentCount; a++) {
+            if (!agentAlive[a]) continue;
+            int distance = Math.abs(agentCell[a] % width - x) + Math.abs(agentCell[a] / width - y);
+            best = Math.min(best, distance);
+        }
+        return best;
+    }
+
+    /**
+     * Direction correspondant à une action (null pour rester ou poser une bombe)
+     */
+    public static Direction directionOf(int action) {
+        return action >= 1 && action <= DIRECTIONS.length ? DIRECTIONS[action - 1] : null;
+    }
+
+    /**
+     * Action de déplacement dans une direction
+     */
+    public static int actionOf(Direction dir) {
+        return dir.ordinal() + 1;
+    }
+
+    // Accesseurs
+    public boolean isAlive(int agent) { return agentAlive[agent]; }
+    public int getAgentX(int agent) { return agentCell[agent] % width; }
+    public int getAgentY(int agent) { return agentCell[agent] / width; }
+    public int getAgentCount() { return agentCount; }
+    public int getTime() { return time; }
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+}
@@ -0,0 +1,158 @@
+/**
+ * Moteur de simulation à pas de temps fixe
+ * Fait avancer un plateau (Board, Legend1v1Board) indépendamment de JavaFX :
+ * le client FX n'est qu'un pilote parmi d'autres (thread dédié, CI, serveur)
+ */
+package com.bomberman.model;
+
+import com.bomberman.utils.Constants;
+
+public class SimulationEngine {
+    private final Runnable step;          // Un pas de simulation (ex: board::update)
+    private final GameClock clock;        // Horloge virtuelle avancée à chaque pas
+    private final long tickNanos;         // Durée d'un pas en nanosecondes
+    private long accumulator;             // Temps réel reçu mais pas encore simulé
+    private long lastTime = -1;           // Dernier instant reçu du pilote (ns)
+    private long tickCount;               // Nombre total de pas simulés
+
+    private volatile boolean running;     // Pilote autonome actif
+    private Thread worker;                // Thread du pilote autonome
+
+    // Limite de rattrapage : évite la "spirale de la mort" après un gel
+    private static final int MAX_STEPS_PER_ADVANCE = 25;
+
+    /**
+     * Constructeur avec horloge dédiée et cadence par défaut du jeu
+     */
+    public SimulationEngine(Runnable step) {
+        this(step, new GameClock());
+    }
+
+    /**
+     * Constructeur avec l'horloge du plateau et la cadence par défaut du jeu
+     */
+    public SimulationEngine(Runnable step, GameClock clock) {
+        this(step, clock, Constants.GAME_SPEED);
+    }
+
+    /**
+     * Constructeur avec durée de pas personnalisée
+     * @param step Pas de simulation à exécuter
+     * @param clock Horloge virtuelle lue par les entités
+     * @param tickMillis Durée d'un pas en millisecondes (temps virtuel)
+     */
+    public SimulationEngine(Runnable step, GameClock clock, long tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Durée de pas invalide : " + tickMillis);
+        }
+        this.step = step;
+        this.clock = clock;
+        this.tickNanos = tickMillis * 1_000_000L;
+    }
+
+    /**
+     * Exécute exactement un pas de simulation
+     * L'horloge avance d'un pas avant la mise à jour ; rien ne se passe en pause
+     */
+    public void tick() {
+        if (clock.isPaused()) return;
+        clock.advance(tickNanos / 1_000_000L);
+        step.run();
+        tickCount++;
+    }
+
+    /**
+     * Exécute un nombre donné de pas, aussi vite que possible (sans affichage)
+     */
+    public void runTicks(long ticks) {
+        for (long i = 0; i < ticks; i++) {
+            tick();
+        }
+    }
+
+    /**
+     * Pilote temps réel : rattrape le temps écoulé depuis le dernier appel
+     * par pas fixes (à appeler depuis un AnimationTimer ou une boucle)
+     * Le temps réel est multiplié par le facteur de vitesse de l'horloge
+     * @param nowNanos Instant courant en nanosecondes
+     * @return Nombre de pas exécutés
+     */
+    public int advanceTo(long nowNanos) {
+        if (lastTime < 0 || clock.isPaused()) {
+            // En pause, le temps réel écoulé n'est pas simulé
+            lastTime = nowNanos;
+            return 0;
+        }
+        double scale = clock.getTimeScale();
+        accumulator += (long) ((nowNanos - lastTime) * scale);
+        lastTime = nowNanos;
+
+        // La limite de rattrapage suit l'accélération (x100 => 100 fois plus de pas)
+        int maxSteps = (int) Math.max(MAX_STEPS_PER_ADVANCE, Math.ceil(MAX_STEPS_PER_ADVANCE * scale));
+        int steps = 0;
+        while (accumulator >= tickNanos && steps < maxSteps) {
+            tick();
+            accumulator -= tickNanos;
+            steps++;
+        }
+
+        // Retard trop important : on abandonne le reste plutôt que de geler
+        if (steps == maxSteps) {
+            accumulator = 0;
+        }
+        return steps;
+    }
+
+    /**
+     * Oublie le temps écoulé (après une pause ou un changement de scène)
+     */
+    public void resetTiming() {
+        lastTime = -1;
+        accumulator = 0;
+    }
+
+    /**
+     * Démarre un pilote temps réel sur un thread dédié (serveur, sans FX)
+     * Le plateau ne doit alors plus être modifié depuis un autre thread
+     */
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        resetTiming();
+        worker = new Thread(this::runLoop, "simulation-engine");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Boucle du pilote autonome
+     */
+    private void runLoop() {
+        while (running) {
+            advanceTo(System.nanoTime());
+            try {
+                Thread.sleep(tickNanos / 1_000_000L, (int) (tickNanos % 1_000_000L));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+        }
+    }
+
+    /**
+     * Arrête le pilote autonome (sans effet pour un pilote externe)
+     */
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker = null;
+        }
+    }
+
+    // Accesseurs
+    public long getTickCount() { return tickCount; }
+    public GameClock getClock() { return clock; }
+    public long getTickMillis() { return tickNanos / 1_000_000L; }
+    public boolean isRunning() { return running; }
+}
@@ -0,0 +1,291 @@
+/**
+ * Planificateur A* espace-temps pour les ennemis Legend
+ * Recherche sur des états (case, pas de temps) : les mèches et les flammes sont
+ * connues à l'avance, un couloir libre au moment du passage devient praticable
+ * Le nombre de nœuds développés par appel est borné (temps de tick maîtrisé)
+ * Avec une table de réservation, les cases réservées par les autres ennemis sont
+ * évitées et le début du plan trouvé est réservé à son tour (A* coopératif)
+ */
+package com.bomberman.model;
+
+import com.bomberman.model.enums.CellType;
+import com.bomberman.model.enums.Direction;
+
+public class SpaceTimePlanner {
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final PackedGrid grid;
+    private final DangerMap danger;
+    private final ExplosionGrid explosions;
+    private final int width, height;
+    private final int horizon;           // Nombre maximal de pas planifiés
+    private final int maxBudget;         // Budget maximal accepté par appel
+
+    // Réserve de nœuds (tableaux réutilisés, aucune allocation par appel)
+    private final int[] nodeCell, nodeStep, nodeCost, nodeScore, nodeParent;
+    private int nodeCount;
+
+    // File de priorité (tas binaire d'indices de nœuds)
+    private final int[] heap;
+    private int heapSize;
+
+    // Ensemble fermé : table de hachage ouverte sur (case, pas), vidée par marquage
+    private final long[] closedKeys;
+    private final int[] closedStamp;
+    private int stamp;
+
+    // Résultat du dernier appel
+    private boolean found;               // Un plan a été trouvé (éventuellement partiel)
+    private boolean waiting;             // Le premier pas du plan est une attente
+    private int lastExpanded;            // Nœuds développés (diagnostic)
+
+    // Planification coopérative (null hors appel coopératif)
+    private ReservationTable reservations;
+    private Object agent;
+    private final int[] pathCells;       // Chemin remonté, case de départ comprise
+
+    /**
+     * Crée un planificateur lié aux structures d'un plateau
+     * @param horizon Nombre maximal de pas planifiés
+     * @param maxBudget Plus grand budget de nœuds utilisé par les ennemis
+     */
+    public SpaceTimePlanner(PackedGrid grid, DangerMap danger, ExplosionGrid explosions, int horizon, int maxBudget) {
+        this.grid = grid;
+        this.danger = danger;
+        this.explosions = explosions;
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+        this.horizon = horizon;
+        this.maxBudget = maxBudget;
+
+        int capacity = maxBudget * (DIRECTIONS.length + 1) + 2;   // Sentinelle + départ + successeurs
+        nodeCell = new int[capacity];
+        nodeStep = new int[capacity];
+        nodeCost = new int[capacity];
+        nodeScore = new int[capacity];
+        nodeParent = new int[capacity];
+        heap = new int[capacity];
+        int tableSize = Integer.highestOneBit(capacity * 2 - 1) << 1;
+        closedKeys = new long[tableSize];
+        closedStamp = new int[tableSize];
+        pathCells = new int[horizon + 2];
+    }
+
+    /**
+     * Premier pas du chemin espace-temps vers la cible
+     * Si la cible n'est pas atteinte dans le budget, le plan mène à l'état sûr le plus proche d'elle
+     * @param stepMs Durée d'un pas de l'ennemi
+     * @param budget Nombre maximal de nœuds développés
+     * @return La direction à prendre, ou null (attente si isWaiting(), sinon aucun plan)
+     */
+    public Direction plan(int fromX, int fromY, int toX, int toY, long now, long stepMs, int budget) {
+        return plan(fromX, fromY, toX, toY, now, stepMs, budget, null, null);
+    }
+
+    /**
+     * Plan coopératif : évite les réservations des autres agents, puis réserve
+     * les premiers pas du plan trouvé (ou la case actuelle si aucun plan)
+     * @param reservations Table partagée par les ennemis du plateau (null : plan individuel)
+     * @param agent Ennemi qui planifie
+     */
+    public Direction plan(int fromX, int fromY, int toX, int toY, long now, long stepMs, int budget,
+                          ReservationTable reservations, Object agent) {
+        this.reservations = reservations;
+        this.agent = agent;
+        try {
+            return search(fromX, fromY, toX, toY, now, stepMs, budget);
+        } finally {
+            this.reservations = null;
+            this.agent = null;
+        }
+    }
+
+    private Direction search(int fromX, int fromY, int toX, int toY, long now, long stepMs, int budget) {
+        begin();
+        budget = Math.min(budget, maxBudget);
+        int start = fromY * width + fromX;
+        int root = push(start, 0, 0, heuristic(fromX, fromY, toX, toY), 0);
+        int best = root;
+        int bestH = nodeScore[best];
+
+        int expanded = 0;
+        while (heapSize > 0 && expanded < budget) {
+            int node = pop();
+            int cell = nodeCell[node], step = nodeStep[node];
+            if (!close(cell, step)) continue;
+            expanded++;
+
+            int x = cell % width, y = cell / width;
+            int h = nodeScore[node] - nodeCost[node];
+            if (h < bestH || (h == bestH && nodeCost[node] < nodeCost[best])) {
+                best = node;
+                bestH = h;
+            }
+            if (h == 0) break;                 // Cible atteinte
+            if (step >= horizon) continue;
+
+            // Attente sur place puis déplacements (chaque action dure un pas)
+            long arrival = now + (step + 1) * stepMs;
+            for (int a = -1; a < DIRECTIONS.length; a++) {
+                int nx = x, ny = y;
+                if (a >= 0) {
+                    nx += DIRECTIONS[a].getDx();
+                    ny += DIRECTIONS[a].getDy();
+                    if (nx < 0 || ny < 0 || nx >= width || ny >= height) continue;
+                }
+                int next = ny * width + nx;
+                if (isClosed(next, step + 1) || !isPassable(nx, ny, arrival, stepMs)) continue;
+                // L'ennemi occupe la case d'arrivée dès son déplacement, un pas avant l'arrivée planifiée
+                if (reservations != null && !reservations.isFree(next, arrival - stepMs, stepMs, agent)) continue;
+                int cost = nodeCost[node] + 1;
+                push(next, step + 1, cost, cost + heuristic(nx, ny, toX, toY), node);
+            }
+        }
+        lastExpanded = expanded;
+
+        // Remontée jusqu'au premier pas
+        if (best == root) {
+            if (reservations != null) reserve(start, now, stepMs, 0);
+            return null;
+        }
+        found = true;
+        int length = 0;
+        for (int node = best; node != root; node = nodeParent[node]) length++;
+        int first = best;
+        for (int k = length; k > 1; k--) {
+            pathCells[k] = nodeCell[first];
+            first = nodeParent[first];
+        }
+        pathCells[1] = nodeCell[first];
+        if (reservations != null) reserve(start, now, stepMs, length);
+        int firstCell = nodeCell[first];
+        if (firstCell == start) {
+            waiting = true;
+            return null;
+        }
+        int dx = firstCell % width - fromX, dy = firstCell / width - fromY;
+        for (Direction dir : DIRECTIONS) {
+            if (dir.getDx() == dx && dir.getDy() == dy) return dir;
+        }
+        return null;
+    }
+
+    /**
+     * Réserve le chemin remonté (pathCells[1..length]) à partir de la case de départ
+     * Le premier déplacement a lieu tout de suite : le chemin débute un pas plus tôt
+     */
+    private void reserve(int start, long now, long stepMs, int length) {
+        pathCells[0] = start;
+        reservations.reserve(agent, pathCells, length + 1, now - stepMs, stepMs);
+    }
+
+    /**
+     * Une case est praticable pendant tout le pas [time, time + stepMs)
+     * Murs destructibles et bombes le deviennent une fois leur souffle éteint
+     */
+    private boolean isPassable(int x, int y, long time, long stepMs) {
+        int cell = y * width + x;
+        CellType type = grid.getType(cell);
+        if (type == CellType.WALL) return false;
+
+        long blast = danger.getBlastTime(x, y);
+        long blastEnd = blast == DangerMap.SAFE ? DangerMap.SAFE : blast + explosions.getDuration();
+        if (type == CellType.DESTRUCTIBLE_WALL || grid.hasBomb(x, y)) {
+            return blast != DangerMap.SAFE && time >= blastEnd;
+        }
+        if (explosions.getBurningUntil(x, y) > time) return false;   // Flammes actuelles
+        return blast == DangerMap.SAFE || time >= blastEnd || time + stepMs <= blast;
+    }
+
+    private static int heuristic(int x, int y, int toX, int toY) {
+        return Math.abs(x - toX) + Math.abs(y - toY);
+    }
+
+    // ---- Réserve de nœuds et tas ----
+
+    private void begin() {
+        found = false;
+        waiting = false;
+        nodeCount = 1;                   // Le nœud 0 sert de sentinelle (parent du départ)
+        heapSize = 0;
+        if (++stamp == 0) {
+            java.util.Arrays.fill(closedStamp, 0);
+            stamp = 1;
+        }
+    }
+
+    private int push(int cell, int step, int cost, int score, int parent) {
+        if (nodeCount == nodeCell.length) return -1;   // Réserve pleine : nœud ignoré
+        int node = nodeCount++;
+        nodeCell[node] = cell;
+        nodeStep[node] = step;
+        nodeCost[node] = cost;
+        nodeScore[node] = score;
+        nodeParent[node] = parent;
+
+        int i = heapSize++;
+        while (i > 0) {
+            int up = (i - 1) >> 1;
+            if (!before(node, heap[up])) break;
+            heap[i] = heap[up];
+            i = up;
+        }
+        heap[i] = node;
+        return node;
+    }
+
+    private int pop() {
+        int top = heap[0];
+        int last = heap[--heapSize];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && before(heap[child + 1], heap[child])) child++;
+            if (!before(heap[child], last)) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        if (heapSize > 0) heap[i] = last;
+        return top;
+    }
+
+    // Ordre : plus petit score, puis plus long chemin déjà parcouru (départage vers la cible)
+    private boolean before(int a, int b) {
+        if (nodeScore[a] != nodeScore[b]) return nodeScore[a] < nodeScore[b];
+        return nodeCost[a] > nodeCost[b];
+    }
+
+    // ---- Ensemble fermé ----
+
+    private int slot(long key) {
+        int mask = closedKeys.length - 1;
+        int i = (int) (key * 0x9E3779B97F4A7C15L >>> 40) & mask;
+        while (closedStamp[i] == stamp && closedKeys[i] != key) i = (i + 1) & mask;
+        return i;
+    }
+
+    private boolean isClosed(int cell, int step) {
+        long key = (long) step * width * height + cell;
+        return closedStamp[slot(key)] == stamp;
+    }
+
+    /**
+     * Ferme un état
+     * @return false s'il l'était déjà
+     */
+    private boolean close(int cell, int step) {
+        long key = (long) step * width * height + cell;
+        int i = slot(key);
+        if (closedStamp[i] == stamp) return false;
+        closedStamp[i] = stamp;
+        closedKeys[i] = key;
+        return true;
+    }
+
+    // Accesseurs
+    public boolean isFound() { return found; }
+    public boolean isWaiting() { return waiting; }
+    public int getLastExpanded() { return lastExpanded; }
+    public int getHorizon() { return horizon; }
+}
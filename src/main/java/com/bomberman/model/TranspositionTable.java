@@ -0,0 +1,51 @@
+/**
+ * Table de transposition de taille fixe, partagée sans verrou entre les fils de recherche
+ * Chaque entrée range (clé XOR valeur, valeur) : une entrée écrite à moitié par
+ * deux fils concurrents ne se vérifie plus et se lit comme une absence
+ * Remplacement systématique : la dernière écriture gagne
+ */
+package com.bomberman.model;
+
+public class TranspositionTable {
+    public static final long MISS = Long.MIN_VALUE;   // Aucune valeur pour cette clé
+
+    private final long[] entries;        // Paires (clé ^ valeur, valeur)
+    private final int mask;
+
+    /**
+     * Table de 2^bits entrées
+     */
+    public TranspositionTable(int bits) {
+        this.entries = new long[2 << bits];
+        this.mask = (1 << bits) - 1;
+    }
+
+    /**
+     * Valeur rangée pour la clé, ou MISS
+     */
+    public long get(long key) {
+        int slot = slot(key);
+        long value = entries[slot + 1];
+        return (entries[slot] ^ value) == key ? value : MISS;
+    }
+
+    public void put(long key, long value) {
+        int slot = slot(key);
+        entries[slot] = key ^ value;
+        entries[slot + 1] = value;
+    }
+
+    /**
+     * Vide la table (hors phase de recherche)
+     */
+    public void clear() {
+        java.util.Arrays.fill(entries, 0);
+    }
+
+    private int slot(long key) {
+        return ((int) (key ^ (key >>> 32)) & mask) << 1;
+    }
+
+    // Accesseurs
+    public int getCapacity() { return mask + 1; }
+}
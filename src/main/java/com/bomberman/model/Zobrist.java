@@ -0,0 +1,29 @@
+/**
+ * Clés de Zobrist pour l'empreinte du plateau
+ * Les clés sont dérivées à la demande par un mélangeur splitmix64 plutôt que
+ * tirées dans une table : aucune mémoire par case, même sur un plateau 255x255
+ */
+package com.bomberman.model;
+
+public final class Zobrist {
+    private static final long SEED = 0x5DEECE66DL;
+
+    private Zobrist() {}
+
+    /**
+     * Clé d'une caractéristique (contenu empaqueté, position, échéance...) sur une case
+     */
+    public static long key(int cell, long feature) {
+        return mix(mix(SEED + cell) ^ feature);
+    }
+
+    /**
+     * Mélangeur splitmix64 : bijection à bonne avalanche
+     */
+    public static long mix(long z) {
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
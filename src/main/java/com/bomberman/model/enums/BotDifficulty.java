@@ -0,0 +1,32 @@
+/**
+ * Niveaux de difficulté des bots
+ * Les niveaux avec recherche disposent d'un budget de temps fixe par décision
+ */
+package com.bomberman.model.enums;
+
+public enum BotDifficulty {
+    EASY(0, 0, false),              // Poursuite simple, bombes aléatoires (comportement historique)
+    MEDIUM(500_000, 6, false),      // Recherche anticipée, 0,5 ms par décision
+    HARD(2_000_000, 10, false),     // Recherche anticipée, 2 ms par décision
+    EXPERT(3_000_000, 20, true);    // Monte-Carlo (parties aléatoires de 20 pas), 3 ms par décision
+
+    private final long searchBudgetNanos;
+    private final int maxDepth;
+    private final boolean monteCarlo;
+
+    /**
+     * Constructeur avec budget de recherche (ns), profondeur maximale (pas)
+     * et choix de la recherche Monte-Carlo plutôt que la recherche anticipée
+     */
+    BotDifficulty(long searchBudgetNanos, int maxDepth, boolean monteCarlo) {
+        this.searchBudgetNanos = searchBudgetNanos;
+        this.maxDepth = maxDepth;
+        this.monteCarlo = monteCarlo;
+    }
+
+    // Accesseurs
+    public long getSearchBudgetNanos() { return searchBudgetNanos; }
+    public int getMaxDepth() { return maxDepth; }
+    public boolean usesSearch() { return maxDepth > 0; }
+    public boolean usesMonteCarlo() { return monteCarlo; }
+}
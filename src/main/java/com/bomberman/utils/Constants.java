@@ -5,10 +5,13 @@
 package com.bomberman.utils;
 
 public class Constants {
-    // Dimensions du plateau de jeu
+    // Dimensions du plateau de jeu (valeurs par défaut, modifiables par partie)
     public static final int BOARD_WIDTH = 15;   // Largeur en cellules
     public static final int BOARD_HEIGHT = 13;  // Hauteur en cellules
+    public static final int MIN_BOARD_SIZE = 5;   // Minimum pour 4 zones de spawn
+    public static final int MAX_BOARD_SIZE = 255; // Maximum par dimension
     public static final int CELL_SIZE = 40;     // Taille d'une cellule en pixels
+    public static final int MIN_CELL_SIZE = 12; // Taille minimale quand le plateau est réduit
 
     // Interface utilisateur
     public static final int HUD_HEIGHT = 56;    // Hauteur de l'interface en pixels
@@ -24,4 +27,5 @@ public class Constants {
     public static final int PLAYER_MOVE_DELAY = 100;   // Délai entre mouvements joueur (ms)
     public static final int BOT_MOVE_DELAY = 400;      // Délai entre mouvements bot (ms)
     public static final int ENEMY_MOVE_DELAY = 300;    // Délai entre mouvements ennemi (ms)
+    public static final int PARALLEL_BOT_THRESHOLD = 8; // Bots à partir desquels la décision est parallèle
 }
@@ -155,10 +155,11 @@ public class MapManager {
             writer.println("# Carte: " + mapData.getName());
             writer.println("# " + mapData.getStats());
             writer.println("# Créée: " + new java.util.Date(mapData.getCreationTime()));
+            writer.println("# Taille: " + mapData.getWidth() + "x" + mapData.getHeight());
             writer.println();
 
-            for (int y = 0; y < Constants.BOARD_HEIGHT; y++) {
-                for (int x = 0; x < Constants.BOARD_WIDTH; x++) {
+            for (int y = 0; y < mapData.getHeight(); y++) {
+                for (int x = 0; x < mapData.getWidth(); x++) {
                     switch (mapData.getGrid()[x][y]) {
                         case WALL: writer.print("#"); break;
                         case DESTRUCTIBLE_WALL: writer.print("X"); break;
@@ -0,0 +1,160 @@
+/**
+ * Atlas de sprites : toutes les images d'un thème copiées dans une seule texture
+ * Le rendu dessine des sous-rectangles de cette image unique, ce qui évite un
+ * changement de texture par sprite dans le pipeline Prism
+ * Rangement par étagères (sprites triés par hauteur décroissante), avec une marge
+ * transparente autour de chaque sprite pour que le lissage ne déborde pas sur le voisin
+ * Chaque sprite est décodé une fois à sa taille d'affichage en pixels physiques
+ * (facteur HiDPI compris) : le rendu le recopie ensuite 1:1, sans mise à l'échelle
+ * par image, et la mémoire de l'atlas ne dépend que de la taille des cases
+ */
+package com.bomberman.utils;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+
+import java.io.InputStream;
+import java.util.*;
+
+public class SpriteAtlas {
+    public static final int MAX_WIDTH = 2048;      // Largeur maximale de la texture
+    private static final int PADDING = 2;          // Marge transparente autour de chaque sprite
+
+    private final WritableImage image;             // Texture unique (null si aucun sprite)
+    private final Map<String, int[]> regions;      // Chemin -> index des régions (une par taille)
+    private final int[] regionX, regionY, regionW, regionH;
+    private final double scale;                    // Pixels physiques par unité logique
+
+    /**
+     * Décode et range les sprites demandés (doublons et images introuvables ignorés)
+     * @param paths Chemin de chaque entrée (un même sprite peut être demandé à plusieurs tailles)
+     * @param widths Largeur d'affichage de chaque entrée, en unités logiques
+     * @param heights Hauteur d'affichage de chaque entrée, en unités logiques
+     * @param scale Facteur d'échelle de l'écran (2 sur un écran HiDPI)
+     */
+    public SpriteAtlas(List<String> paths, double[] widths, double[] heights, double scale) {
+        this.scale = scale;
+        List<String> names = new ArrayList<>();
+        List<Image> images = new ArrayList<>();
+        Set<String> requested = new HashSet<>();
+        for (int i = 0; i < paths.size(); i++) {
+            int w = pixels(widths[i]), h = pixels(heights[i]);
+            if (!requested.add(paths.get(i) + "@" + w + "x" + h)) continue;
+            Image sprite = load(paths.get(i), w, h);
+            if (sprite != null && sprite.getPixelReader() != null && sprite.getWidth() > 0) {
+                names.add(paths.get(i));
+                images.add(sprite);
+            }
+        }
+
+        int count = images.size();
+        regions = new HashMap<>();
+        regionX = new int[count];
+        regionY = new int[count];
+        regionW = new int[count];
+        regionH = new int[count];
+        for (int i = 0; i < count; i++) {
+            regionW[i] = (int) images.get(i).getWidth();
+            regionH[i] = (int) images.get(i).getHeight();
+        }
+        int[] size = pack(regionW, regionH, MAX_WIDTH, PADDING, regionX, regionY);
+
+        if (count == 0) {
+            image = null;
+            return;
+        }
+        image = new WritableImage(size[0], size[1]);
+        for (int i = 0; i < count; i++) {
+            PixelReader reader = images.get(i).getPixelReader();
+            image.getPixelWriter().setPixels(regionX[i], regionY[i], regionW[i], regionH[i], reader, 0, 0);
+            int[] list = regions.get(names.get(i));
+            list = list == null ? new int[1] : Arrays.copyOf(list, list.length + 1);
+            list[list.length - 1] = i;
+            regions.put(names.get(i), list);
+        }
+    }
+
+    /**
+     * Rangement par étagères : les sprites triés par hauteur décroissante remplissent
+     * des rangées de largeur bornée
+     * @param outX Abscisse de chaque sprite dans l'atlas (sortie)
+     * @param outY Ordonnée de chaque sprite dans l'atlas (sortie)
+     * @return Dimensions {largeur, hauteur} de l'atlas
+     */
+    static int[] pack(int[] widths, int[] heights, int maxWidth, int padding, int[] outX, int[] outY) {
+        Integer[] order = new Integer[widths.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> heights[b] - heights[a]);
+
+        int x = padding, y = padding, shelfHeight = 0, width = 0;
+        for (int i : order) {
+            if (x + widths[i] + padding > maxWidth && x > padding) {
+                // Rangée pleine : nouvelle étagère sous la plus haute image de la précédente
+                y += shelfHeight + padding;
+                x = padding;
+                shelfHeight = 0;
+            }
+            outX[i] = x;
+            outY[i] = y;
+            x += widths[i] + padding;
+            shelfHeight = Math.max(shelfHeight, heights[i]);
+            width = Math.max(width, x);
+        }
+        return new int[] {Math.max(width, 1), y + shelfHeight + padding};
+    }
+
+    private int pixels(double logical) {
+        return Math.max(1, (int) Math.round(logical * scale));
+    }
+
+    private Image load(String path, int width, int height) {
+        if (path == null || path.isEmpty()) return null;
+        try (InputStream stream = getClass().getResourceAsStream(path)) {
+            // Mise à l'échelle lissée au décodage, à la taille exacte d'affichage
+            return stream != null ? new Image(stream, width, height, false, true) : null;
+        } catch (Exception e) {
+            System.err.println("Erreur lors du chargement de l'image : " + path);
+            return null;
+        }
+    }
+
+    /**
+     * Index de la région d'un sprite à une taille d'affichage
+     * (à défaut une autre taille du même sprite, -1 s'il n'est pas dans l'atlas)
+     */
+    public int indexOf(String path, double w, double h) {
+        int[] list = path != null ? regions.get(path) : null;
+        if (list == null) return -1;
+        int pw = pixels(w), ph = pixels(h);
+        for (int region : list) {
+            if (regionW[region] == pw && regionH[region] == ph) return region;
+        }
+        return list[0];
+    }
+
+    /**
+     * Dessine un sprite dans le rectangle de destination
+     * OPTIMISATION: à la taille demandée à la construction, recopie 1:1 des pixels physiques
+     * @return false si le sprite n'est pas dans l'atlas (le fallback reste à la charge de l'appelant)
+     */
+    public boolean draw(GraphicsContext gc, String path, double x, double y, double w, double h) {
+        int region = indexOf(path, w, h);
+        if (region < 0) return false;
+        drawRegion(gc, region, x, y, w, h);
+        return true;
+    }
+
+    /**
+     * Dessine une région déjà résolue (voir SpriteRegistry)
+     */
+    public void drawRegion(GraphicsContext gc, int region, double x, double y, double w, double h) {
+        gc.drawImage(image, regionX[region], regionY[region], regionW[region], regionH[region], x, y, w, h);
+    }
+
+    // Accesseurs
+    public Image getImage() { return image; }
+    public int getRegionCount() { return regionX.length; }
+    public double getScale() { return scale; }
+}
@@ -0,0 +1,107 @@
+/**
+ * Registre des sprites du rendu : chaque sprite est désigné par une petite poignée
+ * entière, résolue une fois par construction en région de l'atlas
+ * Le rendu n'effectue ensuite ni recherche par chemin, ni concaténation de chaînes :
+ * une lecture de tableau par sprite dessiné
+ */
+package com.bomberman.utils;
+
+import com.bomberman.model.enums.PowerUpType;
+import javafx.scene.canvas.GraphicsContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class SpriteRegistry {
+    private static final PowerUpType[] POWER_UP_TYPES = PowerUpType.values();
+
+    // Poignées (indices de tableau)
+    public static final int PLAYER = 0;                    // + index du joueur (0-3)
+    public static final int HUD_PLAYER = 4;                // Icône du joueur dans le HUD
+    public static final int HUD_SECOND_PLAYER = 5;         // Icône du second joueur
+    public static final int LEGEND_WHITE = 6;              // Ninja blanc (joueur 1 Legend)
+    public static final int LEGEND_BLACK = 7;              // Ninja noir (joueur 2 Legend)
+    public static final int ENEMY_BOMBER = 8;
+    public static final int ENEMY_YELLOW = 9;
+    public static final int WALL = 10;                     // Mur destructible
+    public static final int BOMB = 11;
+    public static final int POWER_UP = 12;                 // + PowerUpType.ordinal()
+    public static final int LEGEND_POWER_UP = POWER_UP + POWER_UP_TYPES.length;
+    public static final int COUNT = LEGEND_POWER_UP + POWER_UP_TYPES.length;
+
+    private final double[] sizes = new double[COUNT];      // Taille d'affichage (unités logiques)
+    private final String[] paths = new String[COUNT];      // Sprite du thème
+    private final String[] fallbacks = new String[COUNT];  // Sprite de repli si le premier manque
+    private final int[] regions = new int[COUNT];          // Région de l'atlas (-1 : aucun sprite)
+    private SpriteAtlas atlas;
+
+    /**
+     * Taille d'affichage d'une poignée, prise en compte au prochain rebuild
+     */
+    public void setSize(int handle, double size) {
+        sizes[handle] = size;
+    }
+
+    /**
+     * Résout les sprites du thème et construit l'atlas à l'échelle de l'écran
+     */
+    public void rebuild(ThemeData theme, double scale) {
+        Arrays.fill(paths, null);
+        Arrays.fill(fallbacks, null);
+        if (theme != null) {
+            List<String> players = theme.getPlayerSprites();
+            for (int i = 0; i < 4 && i < players.size(); i++) paths[PLAYER + i] = players.get(i);
+            paths[HUD_PLAYER] = paths[PLAYER];
+            paths[HUD_SECOND_PLAYER] = paths[PLAYER + 1];
+            paths[ENEMY_BOMBER] = theme.getEnemySprites().get("bomber");
+            paths[ENEMY_YELLOW] = theme.getEnemySprites().get("yellow");
+            paths[WALL] = theme.getDestructibleWallSprite();
+            paths[BOMB] = theme.getBombSprite();
+            for (PowerUpType type : POWER_UP_TYPES) {
+                String sprite = theme.getPowerUpSprites().get(type.name());
+                paths[POWER_UP + type.ordinal()] = sprite;
+                // Mode Legend : version "neige" d'abord, sinon la version normale
+                paths[LEGEND_POWER_UP + type.ordinal()] = theme.getPowerUpSprites().get(type.name() + "_SNOW");
+                fallbacks[LEGEND_POWER_UP + type.ordinal()] = sprite;
+            }
+        }
+        // Ninjas du mode Legend, quel que soit le thème, sinon les joueurs du thème
+        paths[LEGEND_WHITE] = "/images/nija_white_bomberman.png";
+        paths[LEGEND_BLACK] = "/images/nija_black_bomberman.png";
+        fallbacks[LEGEND_WHITE] = paths[PLAYER];
+        fallbacks[LEGEND_BLACK] = paths[PLAYER + 1];
+
+        List<String> requested = new ArrayList<>();
+        List<Double> requestedSizes = new ArrayList<>();
+        for (int h = 0; h < COUNT; h++) {
+            for (String path : new String[] {paths[h], fallbacks[h]}) {
+                if (path == null) continue;
+                requested.add(path);
+                requestedSizes.add(sizes[h]);
+            }
+        }
+        double[] dimensions = new double[requestedSizes.size()];
+        for (int i = 0; i < dimensions.length; i++) dimensions[i] = requestedSizes.get(i);
+        atlas = new SpriteAtlas(requested, dimensions, dimensions, scale);
+
+        for (int h = 0; h < COUNT; h++) {
+            int region = atlas.indexOf(paths[h], sizes[h], sizes[h]);
+            regions[h] = region >= 0 ? region : atlas.indexOf(fallbacks[h], sizes[h], sizes[h]);
+        }
+    }
+
+    /**
+     * Dessine le sprite d'une poignée
+     * @return false si le thème n'a pas ce sprite (le fallback reste à la charge de l'appelant)
+     */
+    public boolean draw(GraphicsContext gc, int handle, double x, double y, double w, double h) {
+        int region = regions[handle];
+        if (region < 0 || atlas == null) return false;
+        atlas.drawRegion(gc, region, x, y, w, h);
+        return true;
+    }
+
+    // Accesseurs
+    public SpriteAtlas getAtlas() { return atlas; }
+}
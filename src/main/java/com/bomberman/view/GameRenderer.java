@@ -4,10 +4,12 @@ import com.bomberman.model.*;
 import com.bomberman.model.enums.CellType;
 import com.bomberman.model.enums.PowerUpType;
 import com.bomberman.utils.Constants;
+import com.bomberman.utils.SpriteRegistry;
 import com.bomberman.utils.ThemeColors;
 import com.bomberman.utils.ThemeManager;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.ScrollPane;
 import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
@@ -22,37 +24,60 @@ import java.util.List;
  * - Mode LEGEND 1v1 : damier bleu avec sprites ninja
  */
 public class GameRenderer {
-    private final Canvas canvas;
-    private final GraphicsContext gc;
+    private static final double HUD_ICON_SIZE = 38;        // Icône du joueur dans le HUD
+    private static final double HUD_SMALL_ICON_SIZE = 32;  // Icône du second joueur
+
+    // OPTIMISATION: calques superposés, chacun redessiné seulement quand son contenu change
+    // - décor : cases vides, murs fixes et contours, rastérisé une fois par carte et thème
+    // - dynamique : murs destructibles, bonus, bombes, explosions et entités (cases modifiées)
+    // - HUD : redessiné quand une valeur affichée change
+    private final Canvas backgroundCanvas, canvas, hudCanvas;
+    private final GraphicsContext backgroundGc, gc, hudGc;
     private final ThemeManager themeManager;
 
     // OPTIMISATION: Cache pour éviter les recalculs
     private final double cachedHudHeight = Constants.HUD_HEIGHT;
-    private final double cachedCellSize = Constants.CELL_SIZE;
-
-    // OPTIMISATION: Pré-calculer les positions fréquemment utilisées
-    private final double[][] cellPositionsX = new double[Constants.BOARD_WIDTH][Constants.BOARD_HEIGHT];
-    private final double[][] cellPositionsY = new double[Constants.BOARD_WIDTH][Constants.BOARD_HEIGHT];
+    private double cachedCellSize = Constants.CELL_SIZE;
+
+    // OPTIMISATION: Pré-calculer les positions fréquemment utilisées (recalculées si la taille du plateau change)
+    private double[] cellPositionsX = new double[0];
+    private double[] cellPositionsY = new double[0];
+    private int layoutWidth, layoutHeight;   // Dimensions du plateau de la mise en page courante
+    private ScrollPane viewport;             // Fenêtre sur le plateau (caméra), null si absente
+
+    // OPTIMISATION: rendu incrémental - seules les cases écrites par le modèle et celles
+    // couvertes par une entité ou une explosion (image courante ou précédente) sont repeintes
+    private Object lastScene;                // Plateau de la dernière image (autre plateau : image complète)
+    private String lastTheme;                // Thème de la dernière image
+    private boolean fullRedraw = true;
+    private DirtyCells overlay = new DirtyCells(0);          // Cases couvertes à l'image courante
+    private DirtyCells previousOverlay = new DirtyCells(0);  // Cases couvertes à l'image précédente
+    private DirtyCells repaint = new DirtyCells(0);          // Union des cases à repeindre
+    private final int[] hudValues = new int[4];             // Valeurs affichées par le HUD
+
+    // OPTIMISATION: sprites du thème dans un atlas (une texture), pré-mis à l'échelle à leur
+    // taille d'affichage et au facteur HiDPI ; reconstruit seulement si le thème, la taille
+    // des cases ou l'échelle de l'écran changent. Le rendu les désigne par poignée entière :
+    // aucune chaîne construite ni recherche par chemin à chaque image
+    private final SpriteRegistry sprites = new SpriteRegistry();
+    private String atlasTheme;
+    private double atlasCellSize = -1, atlasScale;
 
     // Images par défaut pour fallback
     private final Image defaultPlayerSprite;
     private final Image defaultBombSprite;
 
-    public GameRenderer(Canvas canvas) {
+    public GameRenderer(Canvas backgroundCanvas, Canvas canvas, Canvas hudCanvas) {
+        this.backgroundCanvas = backgroundCanvas;
         this.canvas = canvas;
+        this.hudCanvas = hudCanvas;
+        this.backgroundGc = backgroundCanvas.getGraphicsContext2D();
         this.gc = canvas.getGraphicsContext2D();
+        this.hudGc = hudCanvas.getGraphicsContext2D();
         this.themeManager = ThemeManager.getInstance();
 
-        canvas.setWidth(Constants.WINDOW_WIDTH);
-        canvas.setHeight(Constants.WINDOW_HEIGHT);
-
         // OPTIMISATION: Pré-calculer toutes les positions des cellules
-        for (int x = 0; x < Constants.BOARD_WIDTH; x++) {
-            for (int y = 0; y < Constants.BOARD_HEIGHT; y++) {
-                cellPositionsX[x][y] = x * cachedCellSize;
-                cellPositionsY[x][y] = y * cachedCellSize + cachedHudHeight;
-            }
-        }
+        ensureLayout(Constants.BOARD_WIDTH, Constants.BOARD_HEIGHT);
 
         // Chargement des sprites par défaut pour fallback
         this.defaultPlayerSprite = tryLoadDefault("/images/bomberman_p1.png");
@@ -61,6 +86,163 @@ public class GameRenderer {
         System.out.println("GameRenderer initialisé avec ThemeManager et optimisations");
     }
 
+    /**
+     * Adapte la taille des cellules et du canvas aux dimensions du plateau
+     * Le plateau est réduit pour tenir dans la fenêtre par défaut (15x13 reste en 40px)
+     */
+    private void ensureLayout(int boardWidth, int boardHeight) {
+        if (boardWidth == layoutWidth && boardHeight == layoutHeight) return;
+        layoutWidth = boardWidth;
+        layoutHeight = boardHeight;
+
+        double fit = Math.min((double) Constants.WINDOW_WIDTH / boardWidth,
+                (double) (Constants.WINDOW_HEIGHT - Constants.HUD_HEIGHT) / boardHeight);
+        cachedCellSize = Math.max(Constants.MIN_CELL_SIZE, Math.min(Constants.CELL_SIZE, Math.floor(fit)));
+
+        double canvasWidth = Math.max(Constants.WINDOW_WIDTH, boardWidth * cachedCellSize);
+        double canvasHeight = Math.max(Constants.WINDOW_HEIGHT, boardHeight * cachedCellSize + cachedHudHeight);
+        // Le HUD reste à la taille de la fenêtre, hors de la zone défilante
+        for (Canvas layer : new Canvas[] {backgroundCanvas, canvas}) {
+            layer.setWidth(canvasWidth);
+            layer.setHeight(canvasHeight);
+        }
+
+        cellPositionsX = new double[boardWidth];
+        cellPositionsY = new double[boardHeight];
+        for (int x = 0; x < boardWidth; x++) cellPositionsX[x] = x * cachedCellSize;
+        for (int y = 0; y < boardHeight; y++) cellPositionsY[y] = y * cachedCellSize + cachedHudHeight;
+
+        overlay = new DirtyCells(boardWidth * boardHeight);
+        previousOverlay = new DirtyCells(boardWidth * boardHeight);
+        repaint = new DirtyCells(boardWidth * boardHeight);
+        fullRedraw = true;
+    }
+
+    /**
+     * Fenêtre défilante contenant les calques du plateau : les plateaux plus grands que
+     * l'écran (même à MIN_CELL_SIZE) suivent le joueur
+     */
+    public void setViewport(ScrollPane viewport) {
+        this.viewport = viewport;
+    }
+
+    /**
+     * Centre la fenêtre sur un point du plateau (pixels), sans sortir du plateau
+     */
+    private void follow(double centerX, double centerY) {
+        if (viewport == null) return;
+        var view = viewport.getViewportBounds();
+        double extraX = canvas.getWidth() - view.getWidth();
+        double extraY = canvas.getHeight() - view.getHeight();
+        if (extraX > 0) viewport.setHvalue(Math.max(0, Math.min(1, (centerX - view.getWidth() / 2) / extraX)));
+        if (extraY > 0) viewport.setVvalue(Math.max(0, Math.min(1, (centerY - view.getHeight() / 2) / extraY)));
+    }
+
+    /**
+     * Début d'image : tous les calques sont redessinés si le plateau, la mise en page ou le thème ont changé
+     */
+    private boolean beginFrame(Object scene, int boardWidth, int boardHeight) {
+        ensureLayout(boardWidth, boardHeight);
+        String themeId = themeManager.getCurrentTheme();
+        if (scene != lastScene || !themeId.equals(lastTheme)) {
+            lastScene = scene;
+            lastTheme = themeId;
+            fullRedraw = true;
+        }
+        ensureSprites(themeId);
+        boolean full = fullRedraw;
+        fullRedraw = false;
+        return full;
+    }
+
+    /**
+     * Fin d'image : le modèle repart d'un ensemble vide, les cases couvertes
+     * à cette image seront repeintes à la suivante (entité partie, explosion éteinte)
+     */
+    private void endFrame(PackedGrid grid) {
+        grid.getDirtyCells().clear();
+        DirtyCells swap = previousOverlay;
+        previousOverlay = overlay;
+        overlay = swap;
+        overlay.clear();
+    }
+
+    private void markOverlay(int x, int y) {
+        overlay.mark(y * layoutWidth + x);
+    }
+
+    private void markOverlays(ExplosionGrid explosions, long now, List<Bomb> bombs) {
+        for (Bomb bomb : bombs) {
+            if (!bomb.hasExploded()) markOverlay(bomb.getX(), bomb.getY());
+        }
+        // OPTIMISATION: seules les cases de la file d'extinction, jamais toute la grille
+        int width = explosions.getWidth();
+        for (int k = 0; k < explosions.getQueuedCount(); k++) {
+            if (!explosions.isQueuedLive(k, now)) continue;
+            int cell = explosions.getQueuedCell(k);
+            markOverlay(cell % width, cell / width);
+        }
+    }
+
+    /**
+     * Cases à repeindre : écrites par le modèle, ou couvertes à l'image précédente ou courante
+     */
+    private DirtyCells collectRepaint(PackedGrid grid) {
+        repaint.clear();
+        repaint.addAll(grid.getDirtyCells());
+        repaint.addAll(previousOverlay);
+        repaint.addAll(overlay);
+        return repaint;
+    }
+
+    /**
+     * Le HUD n'est redessiné que si une valeur affichée a changé
+     */
+    private boolean hudChanged(int a, int b, int c, int d) {
+        if (hudValues[0] == a && hudValues[1] == b && hudValues[2] == c && hudValues[3] == d) return false;
+        hudValues[0] = a;
+        hudValues[1] = b;
+        hudValues[2] = c;
+        hudValues[3] = d;
+        return true;
+    }
+
+    /**
+     * Reconstruit l'atlas si le thème, la taille des cases ou l'échelle de l'écran ont changé
+     * Chaque poignée est demandée à sa taille d'affichage
+     */
+    private void ensureSprites(String themeId) {
+        double scale = outputScale();
+        if (themeId.equals(atlasTheme) && atlasCellSize == cachedCellSize && atlasScale == scale) return;
+        atlasTheme = themeId;
+        atlasCellSize = cachedCellSize;
+        atlasScale = scale;
+
+        for (int i = 0; i < 4; i++) sprites.setSize(SpriteRegistry.PLAYER + i, cachedCellSize);
+        sprites.setSize(SpriteRegistry.HUD_PLAYER, HUD_ICON_SIZE);
+        sprites.setSize(SpriteRegistry.HUD_SECOND_PLAYER, HUD_SMALL_ICON_SIZE);
+        sprites.setSize(SpriteRegistry.LEGEND_WHITE, cachedCellSize);
+        sprites.setSize(SpriteRegistry.LEGEND_BLACK, cachedCellSize);
+        sprites.setSize(SpriteRegistry.ENEMY_BOMBER, cachedCellSize);
+        sprites.setSize(SpriteRegistry.ENEMY_YELLOW, cachedCellSize);
+        sprites.setSize(SpriteRegistry.WALL, cachedCellSize);
+        sprites.setSize(SpriteRegistry.BOMB, cachedCellSize - 8);
+        for (PowerUpType type : PowerUpType.values()) {
+            sprites.setSize(SpriteRegistry.POWER_UP + type.ordinal(), cachedCellSize - 8);
+            sprites.setSize(SpriteRegistry.LEGEND_POWER_UP + type.ordinal(), legendPowerUpSize());
+        }
+        sprites.rebuild(themeManager.getCurrentThemeData(), scale);
+    }
+
+    /** Facteur d'échelle de l'écran qui affiche le canvas (1 tant qu'il n'est pas affiché) */
+    private double outputScale() {
+        var scene = canvas.getScene();
+        return scene != null && scene.getWindow() != null ? scene.getWindow().getOutputScaleX() : 1.0;
+    }
+
+    // Bonus Legend : 28px pour une case de 40px, arrondi au pixel pour une recopie 1:1
+    private double legendPowerUpSize() { return Math.round(cachedCellSize * 0.7); }
+
     /** Charge une image par défaut de manière sécurisée */
     private Image tryLoadDefault(String path) {
         try {
@@ -75,119 +257,142 @@ public class GameRenderer {
     //                    MODE CLASSIQUE / SURVIVOR
     // ================================================================
     public void render(Game game) {
-        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
-        renderHUD(game.getPlayer());
-        renderBoard(game.getBoard());
-        renderExplosions(game.getBoard().getExplosions());
-        renderBombs(game.getBoard().getBombs());
-        renderPowerUps(game.getBoard());
-        renderBots(game.getBoard().getBots());
-        renderPlayer(game.getPlayer());
+        Board board = game.getBoard();
+        Player player = game.getPlayer();
+        long now = board.getClock().now();
+        boolean full = beginFrame(board, board.getWidth(), board.getHeight());
+
+        markOverlays(board.getExplosions(), now, board.getBombs());
+        for (PlayerBot bot : board.getBots()) {
+            if (bot.isAlive()) markOverlay(bot.getX(), bot.getY());
+        }
+        if (player.isAlive()) markOverlay(player.getX(), player.getY());
+
+        if (full) {
+            renderBackground(board.getGrid());
+            gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+            board.getGrid().getDirtyCells().markAll();
+        }
+        boolean hudDirty = hudChanged(player.getLives(), player.getScore(), 0, 0);
+        if (full || hudDirty) renderHUD(player);
+        renderBoard(board.getGrid());
+        renderExplosions(board.getExplosions(), now);
+        renderBombs(board.getBombs());
+        renderBots(board.getBots());
+        renderPlayer(player);
+        endFrame(board.getGrid());
+        follow((player.getX() + 0.5) * cachedCellSize, (player.getY() + 0.5) * cachedCellSize + cachedHudHeight);
     }
 
     /** HUD avec couleurs thématiques */
     private void renderHUD(Player player) {
         ThemeColors colors = themeManager.getThemeColors();
+        hudGc.clearRect(0, 0, hudCanvas.getWidth(), cachedHudHeight);
 
         // Fond du HUD
-        gc.setFill(colors.getHudBackgroundColor());
-        gc.fillRect(0, 0, Constants.WINDOW_WIDTH, cachedHudHeight);
-        gc.setFill(colors.getHudBorderColor());
-        gc.fillRect(0, cachedHudHeight - 6, Constants.WINDOW_WIDTH, 6);
+        hudGc.setFill(colors.getHudBackgroundColor());
+        hudGc.fillRect(0, 0, Constants.WINDOW_WIDTH, cachedHudHeight);
+        hudGc.setFill(colors.getHudBorderColor());
+        hudGc.fillRect(0, cachedHudHeight - 6, Constants.WINDOW_WIDTH, 6);
 
-        double iconX = 26, iconY = 8, iconSize = 38;
+        double iconX = 26, iconY = 8, iconSize = HUD_ICON_SIZE;
 
         // Icône du joueur depuis le thème
-        Image playerIcon = themeManager.getPlayerSprite(0);
-        if (playerIcon != null) {
-            gc.drawImage(playerIcon, iconX, iconY, iconSize, iconSize);
-        } else if (defaultPlayerSprite != null) {
-            gc.drawImage(defaultPlayerSprite, iconX, iconY, iconSize, iconSize);
+        if (!sprites.draw(hudGc, SpriteRegistry.HUD_PLAYER, iconX, iconY, iconSize, iconSize) && defaultPlayerSprite != null) {
+            hudGc.drawImage(defaultPlayerSprite, iconX, iconY, iconSize, iconSize);
         }
 
         // Affichage des vies
         int livesDisplay = Math.max(0, player.getLives() - 1);
         double lifeBoxX = iconX + iconSize + 12, lifeBoxY = iconY + 10, lifeBoxW = 30, lifeBoxH = 28;
-        gc.setFill(Color.WHITE);
-        gc.fillRect(lifeBoxX, lifeBoxY, lifeBoxW, lifeBoxH);
-        gc.setStroke(Color.BLACK);
-        gc.setLineWidth(3);
-        gc.strokeRect(lifeBoxX, lifeBoxY, lifeBoxW, lifeBoxH);
-        gc.setFont(Font.font("Arial Black", FontWeight.BOLD, 24));
-        gc.setFill(Color.BLACK);
-        gc.fillText(String.valueOf(livesDisplay), lifeBoxX + 6, lifeBoxY + 22);
+        hudGc.setFill(Color.WHITE);
+        hudGc.fillRect(lifeBoxX, lifeBoxY, lifeBoxW, lifeBoxH);
+        hudGc.setStroke(Color.BLACK);
+        hudGc.setLineWidth(3);
+        hudGc.strokeRect(lifeBoxX, lifeBoxY, lifeBoxW, lifeBoxH);
+        hudGc.setFont(Font.font("Arial Black", FontWeight.BOLD, 24));
+        hudGc.setFill(Color.BLACK);
+        hudGc.fillText(String.valueOf(livesDisplay), lifeBoxX + 6, lifeBoxY + 22);
 
         // Texte "SC"
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 38));
-        gc.setFill(colors.getHudTextColor());
+        hudGc.setFont(Font.font("Arial", FontWeight.BOLD, 38));
+        hudGc.setFill(colors.getHudTextColor());
         double scX = lifeBoxX + lifeBoxW + 20;
-        gc.fillText("SC", scX, 38);
+        hudGc.fillText("SC", scX, 38);
 
         // Score
-        gc.setFill(colors.getScoreBackgroundColor());
+        hudGc.setFill(colors.getScoreBackgroundColor());
         double scoreRectX = scX + 60, scoreRectW = 140, scoreRectH = 40;
-        gc.fillRect(scoreRectX, 8, scoreRectW, scoreRectH);
-        gc.setFont(Font.font("Consolas", FontWeight.BOLD, 34));
-        gc.setFill(colors.getHudTextColor());
+        hudGc.fillRect(scoreRectX, 8, scoreRectW, scoreRectH);
+        hudGc.setFont(Font.font("Consolas", FontWeight.BOLD, 34));
+        hudGc.setFill(colors.getHudTextColor());
         String scoreStr = String.valueOf(player.getScore());
         Text scoreText = new Text(scoreStr);
-        scoreText.setFont(gc.getFont());
+        scoreText.setFont(hudGc.getFont());
         double scoreStrWidth = scoreText.getLayoutBounds().getWidth();
         double scoreTextX = scoreRectX + (scoreRectW - scoreStrWidth) / 2;
-        gc.fillText(scoreStr, scoreTextX, 40);
+        hudGc.fillText(scoreStr, scoreTextX, 40);
 
         // Icône joueur supplémentaire
         double blackIconX = scoreRectX + scoreRectW + 30;
-        Image secondIcon = themeManager.getPlayerSprite(1);
-        if (secondIcon != null) {
-            gc.drawImage(secondIcon, blackIconX, 12, 32, 32);
-        }
+        sprites.draw(hudGc, SpriteRegistry.HUD_SECOND_PLAYER, blackIconX, 12, HUD_SMALL_ICON_SIZE, HUD_SMALL_ICON_SIZE);
 
         // Texte "PRESS START"
-        gc.setFill(Color.YELLOW);
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 26));
+        hudGc.setFill(Color.YELLOW);
+        hudGc.setFont(Font.font("Arial", FontWeight.BOLD, 26));
         double pressStartX = blackIconX + 40;
-        gc.fillText("PRESS START", pressStartX, 38);
+        hudGc.fillText("PRESS START", pressStartX, 38);
     }
 
-    /** OPTIMISATION: Plateau avec positions pré-calculées */
-    private void renderBoard(Board board) {
+    /** Décor statique : cases vides et murs fixes, rastérisé une fois par carte et thème */
+    private void renderBackground(PackedGrid grid) {
         ThemeColors colors = themeManager.getThemeColors();
+        backgroundGc.clearRect(0, 0, backgroundCanvas.getWidth(), backgroundCanvas.getHeight());
 
-        for (int x = 0; x < Constants.BOARD_WIDTH; x++) {
-            for (int y = 0; y < Constants.BOARD_HEIGHT; y++) {
-                Cell cell = board.getCell(x, y);
-                double pixelX = cellPositionsX[x][y];
-                double pixelY = cellPositionsY[x][y];
-
-                switch (cell.getType()) {
-                    case WALL:
-                        gc.setFill(colors.getWallColor());
-                        gc.fillRect(pixelX, pixelY, cachedCellSize, cachedCellSize);
-                        break;
-                    case DESTRUCTIBLE_WALL:
-                        // Utiliser le sprite thématique s'il existe
-                        Image wallSprite = themeManager.getDestructibleWallSprite();
-                        if (wallSprite != null) {
-                            gc.drawImage(wallSprite, pixelX, pixelY, cachedCellSize, cachedCellSize);
-                        } else {
-                            gc.setFill(Color.SADDLEBROWN);
-                            gc.fillRect(pixelX, pixelY, cachedCellSize, cachedCellSize);
-                        }
-                        break;
-                    default:
-                        // Alternance de couleurs pour les cases vides
-                        Color cellColor = ((x + y) % 2 == 0) ? colors.getEmptyCell1() : colors.getEmptyCell2();
-                        gc.setFill(cellColor);
-                        gc.fillRect(pixelX, pixelY, cachedCellSize, cachedCellSize);
-                        break;
+        for (int x = 0; x < grid.getWidth(); x++) {
+            for (int y = 0; y < grid.getHeight(); y++) {
+                double pixelX = cellPositionsX[x];
+                double pixelY = cellPositionsY[y];
+
+                if (grid.getType(x, y) == CellType.WALL) {
+                    backgroundGc.setFill(colors.getWallColor());
+                } else {
+                    // Alternance de couleurs pour les cases vides (aussi sous les murs destructibles)
+                    backgroundGc.setFill(((x + y) % 2 == 0) ? colors.getEmptyCell1() : colors.getEmptyCell2());
                 }
+                backgroundGc.fillRect(pixelX, pixelY, cachedCellSize, cachedCellSize);
 
-                // Contour
+                // Contour tracé à l'intérieur de la case
+                backgroundGc.setStroke(Color.BLACK);
+                backgroundGc.setLineWidth(1);
+                backgroundGc.strokeRect(pixelX + 0.5, pixelY + 0.5, cachedCellSize - 1, cachedCellSize - 1);
+            }
+        }
+    }
+
+    /** OPTIMISATION: calque dynamique, seules les cases à repeindre */
+    private void renderBoard(PackedGrid grid) {
+        DirtyCells cells = collectRepaint(grid);
+        int width = grid.getWidth();
+
+        for (int i = cells.nextMarked(0); i >= 0; i = cells.nextMarked(i + 1)) {
+            int x = i % width, y = i / width;
+            double pixelX = cellPositionsX[x];
+            double pixelY = cellPositionsY[y];
+            gc.clearRect(pixelX, pixelY, cachedCellSize, cachedCellSize);
+
+            if (grid.getType(x, y) == CellType.DESTRUCTIBLE_WALL) {
+                // Utiliser le sprite thématique s'il existe
+                if (!sprites.draw(gc, SpriteRegistry.WALL, pixelX, pixelY, cachedCellSize, cachedCellSize)) {
+                    gc.setFill(Color.SADDLEBROWN);
+                    gc.fillRect(pixelX, pixelY, cachedCellSize, cachedCellSize);
+                }
                 gc.setStroke(Color.BLACK);
                 gc.setLineWidth(1);
-                gc.strokeRect(pixelX, pixelY, cachedCellSize, cachedCellSize);
+                gc.strokeRect(pixelX + 0.5, pixelY + 0.5, cachedCellSize - 1, cachedCellSize - 1);
             }
+
+            if (grid.hasPowerUp(x, y)) renderPowerUp(grid.getPowerUpType(x, y), pixelX, pixelY);
         }
     }
 
@@ -195,13 +400,11 @@ public class GameRenderer {
     private void renderBombs(List<Bomb> bombs) {
         for (Bomb bomb : bombs) {
             if (!bomb.hasExploded()) {
-                double px = cellPositionsX[bomb.getX()][0] + 4;
-                double py = cellPositionsY[0][bomb.getY()] + 4;
+                double px = cellPositionsX[bomb.getX()] + 4;
+                double py = cellPositionsY[bomb.getY()] + 4;
 
-                Image bombSprite = themeManager.getBombSprite();
-                if (bombSprite != null) {
-                    gc.drawImage(bombSprite, px, py, cachedCellSize - 8, cachedCellSize - 8);
-                } else if (defaultBombSprite != null) {
+                if (sprites.draw(gc, SpriteRegistry.BOMB, px, py, cachedCellSize - 8, cachedCellSize - 8)) continue;
+                if (defaultBombSprite != null) {
                     gc.drawImage(defaultBombSprite, px, py, cachedCellSize - 8, cachedCellSize - 8);
                 } else {
                     gc.setFill(Color.BLACK);
@@ -212,29 +415,39 @@ public class GameRenderer {
     }
 
     /** Explosions avec couleurs thématiques */
-    private void renderExplosions(List<Explosion> explosions) {
+    private void renderExplosions(ExplosionGrid explosions, long now) {
+        if (explosions.getActiveCount() == 0) return;
         ThemeColors colors = themeManager.getThemeColors();
 
-        for (Explosion explosion : explosions) {
-            double px = cellPositionsX[explosion.getX()][0];
-            double py = cellPositionsY[0][explosion.getY()];
-            gc.setGlobalAlpha(0.7);
-            gc.setFill(colors.getExplosionColor());
+        gc.setGlobalAlpha(0.7);
+        gc.setFill(colors.getExplosionColor());
+        fillBurningCells(explosions, now);
+        gc.setGlobalAlpha(1.0);
+    }
+
+    /**
+     * Remplit chaque case en feu une seule fois (pas d'alpha cumulé pour une case ravivée)
+     * OPTIMISATION: parcourt la file d'extinction, jamais toute la grille
+     */
+    private void fillBurningCells(ExplosionGrid explosions, long now) {
+        int width = explosions.getWidth();
+        for (int k = 0; k < explosions.getQueuedCount(); k++) {
+            if (!explosions.isQueuedLive(k, now)) continue;
+            int cell = explosions.getQueuedCell(k);
+            double px = cellPositionsX[cell % width];
+            double py = cellPositionsY[cell / width];
             gc.fillRect(px + 2, py + 2, cachedCellSize - 4, cachedCellSize - 4);
-            gc.setGlobalAlpha(1.0);
         }
     }
 
     /** Joueur principal avec sprite thématique */
     private void renderPlayer(Player player) {
         if (player.isAlive()) {
-            double px = cellPositionsX[player.getX()][0];
-            double py = cellPositionsY[0][player.getY()];
+            double px = cellPositionsX[player.getX()];
+            double py = cellPositionsY[player.getY()];
 
-            Image playerSprite = themeManager.getPlayerSprite(0);
-            if (playerSprite != null) {
-                gc.drawImage(playerSprite, px, py, cachedCellSize, cachedCellSize);
-            } else if (defaultPlayerSprite != null) {
+            if (sprites.draw(gc, SpriteRegistry.PLAYER, px, py, cachedCellSize, cachedCellSize)) return;
+            if (defaultPlayerSprite != null) {
                 gc.drawImage(defaultPlayerSprite, px, py, cachedCellSize, cachedCellSize);
             } else {
                 gc.setFill(Color.DODGERBLUE);
@@ -248,14 +461,11 @@ public class GameRenderer {
         for (int i = 0; i < bots.size(); i++) {
             PlayerBot bot = bots.get(i);
             if (bot.isAlive()) {
-                double px = cellPositionsX[bot.getX()][0];
-                double py = cellPositionsY[0][bot.getY()];
+                double px = cellPositionsX[bot.getX()];
+                double py = cellPositionsY[bot.getY()];
 
                 // Utiliser différents sprites selon l'index du bot
-                Image botSprite = themeManager.getPlayerSprite(Math.min(i + 1, 3));
-                if (botSprite != null) {
-                    gc.drawImage(botSprite, px, py, cachedCellSize, cachedCellSize);
-                } else {
+                if (!sprites.draw(gc, SpriteRegistry.PLAYER + Math.min(i + 1, 3), px, py, cachedCellSize, cachedCellSize)) {
                     // Couleurs par défaut pour les bots
                     Color[] botColors = {Color.RED, Color.PURPLE, Color.ORANGE};
                     gc.setFill(botColors[i % botColors.length]);
@@ -265,42 +475,31 @@ public class GameRenderer {
         }
     }
 
-    /** Power-ups avec sprites thématiques */
-    private void renderPowerUps(Board board) {
-        for (int x = 0; x < Constants.BOARD_WIDTH; x++) {
-            for (int y = 0; y < Constants.BOARD_HEIGHT; y++) {
-                Cell cell = board.getCell(x, y);
-                if (cell.hasPowerUp()) {
-                    double px = cellPositionsX[x][y] + 4;
-                    double py = cellPositionsY[x][y] + 4;
-                    PowerUpType type = cell.getPowerUp().getType();
-
-                    Image powerUpSprite = themeManager.getPowerUpSprite(type.name());
-                    if (powerUpSprite != null) {
-                        gc.drawImage(powerUpSprite, px, py, cachedCellSize - 8, cachedCellSize - 8);
-                    } else {
-                        // Fallback avec couleurs
-                        switch (type) {
-                            case EXTRA_BOMB:
-                                gc.setFill(Color.YELLOW);
-                                break;
-                            case RANGE_UP:
-                                gc.setFill(Color.RED);
-                                break;
-                            case LIFE:
-                                gc.setFill(Color.GREEN);
-                                break;
-                            case SPEED:
-                                gc.setFill(Color.CYAN);
-                                break;
-                            default:
-                                gc.setFill(Color.MAGENTA);
-                                break;
-                        }
-                        gc.fillOval(px, py, cachedCellSize - 8, cachedCellSize - 8);
-                    }
-                }
+    /** Power-up avec sprite thématique (repeint avec sa case) */
+    private void renderPowerUp(PowerUpType type, double pixelX, double pixelY) {
+        double px = pixelX + 4;
+        double py = pixelY + 4;
+
+        if (!sprites.draw(gc, SpriteRegistry.POWER_UP + type.ordinal(), px, py, cachedCellSize - 8, cachedCellSize - 8)) {
+            // Fallback avec couleurs
+            switch (type) {
+                case EXTRA_BOMB:
+                    gc.setFill(Color.YELLOW);
+                    break;
+                case RANGE_UP:
+                    gc.setFill(Color.RED);
+                    break;
+                case LIFE:
+                    gc.setFill(Color.GREEN);
+                    break;
+                case SPEED:
+                    gc.setFill(Color.CYAN);
+                    break;
+                default:
+                    gc.setFill(Color.MAGENTA);
+                    break;
             }
+            gc.fillOval(px, py, cachedCellSize - 8, cachedCellSize - 8);
         }
     }
 
@@ -308,96 +507,128 @@ public class GameRenderer {
     //                    MODE LEGEND 1v1 - SIMPLIFIÉ
     // ================================================================
     public void renderLegend1v1(Legend1v1Board board) {
-        ThemeColors colors = themeManager.getThemeColors();
+        boolean full = beginFrame(board, board.getWidth(), board.getHeight());
+        Player p1 = board.getPlayer1(), p2 = board.getPlayer2();
 
-        // Fond global du mode Legend
-        gc.setFill(colors.getLegendBackground());
-        gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        markOverlays(board.getExplosions(), board.getClock().now(), board.getBombs());
+        if (p1.isAlive()) markOverlay(p1.getX(), p1.getY());
+        if (p2.isAlive()) markOverlay(p2.getX(), p2.getY());
+        for (LegendEnemyBomber b : board.getBomberEnemies()) {
+            if (b.isAlive()) markOverlay(b.getX(), b.getY());
+        }
+        for (LegendEnemyYellow y : board.getYellowEnemies()) {
+            if (y.isAlive()) markOverlay(y.getX(), y.getY());
+        }
 
-        renderLegendHUD(board);
+        if (full) {
+            renderLegendBackground(board.getGrid());
+            gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+            board.getGrid().getDirtyCells().markAll();
+        }
+        boolean hudDirty = hudChanged(p1.getLives(), p1.getScore(), p2.getLives(), p2.getScore());
+        if (full || hudDirty) renderLegendHUD(board);
         renderLegendBoard(board);
         renderLegendPlayers(board);
         renderLegendEnemies(board);
         renderLegendBombs(board);
         renderLegendExplosions(board);
-        renderLegendPowerUps(board);
+        endFrame(board.getGrid());
+        // Caméra entre les deux joueurs encore en vie
+        if (p1.isAlive() || p2.isAlive()) {
+            double x = p1.isAlive() && p2.isAlive() ? (p1.getX() + p2.getX()) / 2.0 : p1.isAlive() ? p1.getX() : p2.getX();
+            double y = p1.isAlive() && p2.isAlive() ? (p1.getY() + p2.getY()) / 2.0 : p1.isAlive() ? p1.getY() : p2.getY();
+            follow((x + 0.5) * cachedCellSize, (y + 0.5) * cachedCellSize + cachedHudHeight);
+        }
     }
 
     /** HUD Legend simplifié */
     private void renderLegendHUD(Legend1v1Board board) {
+        hudGc.clearRect(0, 0, hudCanvas.getWidth(), cachedHudHeight);
         // Fond HUD Legend
-        gc.setFill(Color.rgb(20, 20, 40));
-        gc.fillRect(0, 0, Constants.WINDOW_WIDTH, cachedHudHeight);
+        hudGc.setFill(Color.rgb(20, 20, 40));
+        hudGc.fillRect(0, 0, Constants.WINDOW_WIDTH, cachedHudHeight);
 
         Player p1 = board.getPlayer1();
         Player p2 = board.getPlayer2();
 
         // Joueur 1 (gauche)
-        gc.setFill(Color.WHITE);
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 16));
-        gc.fillText("J1: ♥" + p1.getLives() + " Score:" + p1.getScore(), 20, 25);
+        hudGc.setFill(Color.WHITE);
+        hudGc.setFont(Font.font("Arial", FontWeight.BOLD, 16));
+        hudGc.fillText("J1: ♥" + p1.getLives() + " Score:" + p1.getScore(), 20, 25);
 
         // Joueur 2 (droite)
-        gc.fillText("J2: ♥" + p2.getLives() + " Score:" + p2.getScore(), Constants.WINDOW_WIDTH - 200, 25);
+        hudGc.fillText("J2: ♥" + p2.getLives() + " Score:" + p2.getScore(), Constants.WINDOW_WIDTH - 200, 25);
 
         // Titre central
-        gc.setFill(Color.GOLD);
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 20));
-        gc.fillText("LEGEND 1v1", Constants.WINDOW_WIDTH / 2 - 50, 30);
+        hudGc.setFill(Color.GOLD);
+        hudGc.setFont(Font.font("Arial", FontWeight.BOLD, 20));
+        hudGc.fillText("LEGEND 1v1", Constants.WINDOW_WIDTH / 2 - 50, 30);
     }
 
-    /** Plateau damier bleu pour le mode Legend */
-    private void renderLegendBoard(Legend1v1Board board) {
+    /** Décor statique Legend : fond global, damier bleu et murs fixes */
+    private void renderLegendBackground(PackedGrid grid) {
         ThemeColors colors = themeManager.getThemeColors();
-        double yOffset = cachedHudHeight;
 
-        for (int x = 0; x < Constants.BOARD_WIDTH; x++) {
-            for (int y = 0; y < Constants.BOARD_HEIGHT; y++) {
-                Cell cell = board.getCell(x, y);
-                double px = x * cachedCellSize;
-                double py = y * cachedCellSize + yOffset;
-
-                switch (cell.getType()) {
-                    case WALL:
-                        gc.setFill(colors.getLegendWall());
-                        gc.fillRect(px, py, cachedCellSize, cachedCellSize);
-                        break;
-                    case DESTRUCTIBLE_WALL:
-                        Image wallSprite = themeManager.getDestructibleWallSprite();
-                        if (wallSprite != null) {
-                            gc.drawImage(wallSprite, px, py, cachedCellSize, cachedCellSize);
-                        } else {
-                            gc.setFill(Color.web("#85baf8"));
-                            gc.fillRect(px, py, cachedCellSize, cachedCellSize);
-                        }
-                        break;
-                    default:
-                        // Damier bleu/bleu clair
-                        Color cellColor = ((x + y) % 2 == 0) ? colors.getLegendEmpty1() : colors.getLegendEmpty2();
-                        gc.setFill(cellColor);
-                        gc.fillRect(px, py, cachedCellSize, cachedCellSize);
-                        break;
+        // Fond global du mode Legend
+        backgroundGc.setFill(colors.getLegendBackground());
+        backgroundGc.fillRect(0, 0, backgroundCanvas.getWidth(), backgroundCanvas.getHeight());
+
+        for (int x = 0; x < grid.getWidth(); x++) {
+            for (int y = 0; y < grid.getHeight(); y++) {
+                double px = cellPositionsX[x];
+                double py = cellPositionsY[y];
+
+                if (grid.getType(x, y) == CellType.WALL) {
+                    backgroundGc.setFill(colors.getLegendWall());
+                } else {
+                    // Damier bleu/bleu clair
+                    backgroundGc.setFill(((x + y) % 2 == 0) ? colors.getLegendEmpty1() : colors.getLegendEmpty2());
                 }
+                backgroundGc.fillRect(px, py, cachedCellSize, cachedCellSize);
 
                 // Contour
+                backgroundGc.setStroke(Color.DARKBLUE);
+                backgroundGc.setLineWidth(1);
+                backgroundGc.strokeRect(px + 0.5, py + 0.5, cachedCellSize - 1, cachedCellSize - 1);
+            }
+        }
+    }
+
+    /** Calque dynamique Legend : murs destructibles et bonus des cases à repeindre */
+    private void renderLegendBoard(Legend1v1Board board) {
+        PackedGrid grid = board.getGrid();
+        DirtyCells cells = collectRepaint(grid);
+        int width = grid.getWidth();
+
+        for (int i = cells.nextMarked(0); i >= 0; i = cells.nextMarked(i + 1)) {
+            int x = i % width, y = i / width;
+            double px = cellPositionsX[x];
+            double py = cellPositionsY[y];
+            gc.clearRect(px, py, cachedCellSize, cachedCellSize);
+
+            if (grid.getType(x, y) == CellType.DESTRUCTIBLE_WALL) {
+                if (!sprites.draw(gc, SpriteRegistry.WALL, px, py, cachedCellSize, cachedCellSize)) {
+                    gc.setFill(Color.web("#85baf8"));
+                    gc.fillRect(px, py, cachedCellSize, cachedCellSize);
+                }
                 gc.setStroke(Color.DARKBLUE);
                 gc.setLineWidth(1);
-                gc.strokeRect(px, py, cachedCellSize, cachedCellSize);
+                gc.strokeRect(px + 0.5, py + 0.5, cachedCellSize - 1, cachedCellSize - 1);
             }
+
+            if (grid.hasPowerUp(x, y)) renderLegendPowerUp(grid.getPowerUpType(x, y), px, py);
         }
     }
 
     /** Explosions en mode Legend */
     private void renderLegendExplosions(Legend1v1Board board) {
-        double yOffset = cachedHudHeight;
-        for (Explosion explosion : board.getExplosions()) {
-            double px = explosion.getX() * cachedCellSize;
-            double py = explosion.getY() * cachedCellSize + yOffset;
-            gc.setGlobalAlpha(0.8);
-            gc.setFill(Color.ORANGE);
-            gc.fillRect(px + 2, py + 2, cachedCellSize - 4, cachedCellSize - 4);
-            gc.setGlobalAlpha(1.0);
-        }
+        ExplosionGrid explosions = board.getExplosions();
+        if (explosions.getActiveCount() == 0) return;
+
+        gc.setGlobalAlpha(0.8);
+        gc.setFill(Color.ORANGE);
+        fillBurningCells(explosions, board.getClock().now());
+        gc.setGlobalAlpha(1.0);
     }
 
     /** Bombes en mode Legend */
@@ -408,10 +639,7 @@ public class GameRenderer {
                 double px = bomb.getX() * cachedCellSize + 4;
                 double py = bomb.getY() * cachedCellSize + 4 + yOffset;
 
-                Image bombSprite = themeManager.getBombSprite();
-                if (bombSprite != null) {
-                    gc.drawImage(bombSprite, px, py, cachedCellSize - 8, cachedCellSize - 8);
-                } else {
+                if (!sprites.draw(gc, SpriteRegistry.BOMB, px, py, cachedCellSize - 8, cachedCellSize - 8)) {
                     gc.setFill(Color.DARKRED);
                     gc.fillOval(px, py, cachedCellSize - 8, cachedCellSize - 8);
                 }
@@ -419,40 +647,22 @@ public class GameRenderer {
         }
     }
 
-    /** Power-ups Legend */
-    private void renderLegendPowerUps(Legend1v1Board board) {
-        double yOffset = cachedHudHeight;
-        for (int x = 0; x < Constants.BOARD_WIDTH; x++) {
-            for (int y = 0; y < Constants.BOARD_HEIGHT; y++) {
-                Cell cell = board.getCell(x, y);
-                if (cell.hasPowerUp()) {
-                    PowerUpType type = cell.getPowerUp().getType();
-                    double px = x * cachedCellSize + 7;
-                    double py = y * cachedCellSize + 7 + yOffset;
-
-                    // Essayer d'abord les versions "neige" pour le mode Legend
-                    String snowVersion = type.name() + "_SNOW";
-                    Image powerUpSprite = themeManager.getPowerUpSprite(snowVersion);
-
-                    // Si pas de version neige, utiliser la version normale
-                    if (powerUpSprite == null) {
-                        powerUpSprite = themeManager.getPowerUpSprite(type.name());
-                    }
-
-                    if (powerUpSprite != null) {
-                        gc.drawImage(powerUpSprite, px, py, 28, 28);
-                    } else {
-                        // Fallback avec couleurs
-                        switch (type) {
-                            case EXTRA_BOMB: gc.setFill(Color.DARKRED); break;
-                            case RANGE_UP: gc.setFill(Color.ORANGE); break;
-                            case LIFE: gc.setFill(Color.GREEN); break;
-                            case SPEED: gc.setFill(Color.BLUE); break;
-                        }
-                        gc.fillOval(px, py, 28, 28);
-                    }
-                }
+    /** Power-up Legend (repeint avec sa case) */
+    private void renderLegendPowerUp(PowerUpType type, double cellX, double cellY) {
+        double size = legendPowerUpSize();
+        double px = cellX + Math.round(cachedCellSize * 0.175);
+        double py = cellY + Math.round(cachedCellSize * 0.175);
+
+        // Version "neige" du thème, sinon la version normale (résolue à la construction de l'atlas)
+        if (!sprites.draw(gc, SpriteRegistry.LEGEND_POWER_UP + type.ordinal(), px, py, size, size)) {
+            // Fallback avec couleurs
+            switch (type) {
+                case EXTRA_BOMB: gc.setFill(Color.DARKRED); break;
+                case RANGE_UP: gc.setFill(Color.ORANGE); break;
+                case LIFE: gc.setFill(Color.GREEN); break;
+                case SPEED: gc.setFill(Color.BLUE); break;
             }
+            gc.fillOval(px, py, size, size);
         }
     }
 
@@ -466,12 +676,7 @@ public class GameRenderer {
             double py = p1.getY() * cachedCellSize + yOffset;
 
             // Utiliser le sprite thématique pour le joueur 1 (Legend blanc)
-            Image p1Sprite = themeManager.getThemedImage("/images/nija_white_bomberman.png");
-            if (p1Sprite == null) p1Sprite = themeManager.getPlayerSprite(0);
-
-            if (p1Sprite != null) {
-                gc.drawImage(p1Sprite, px, py, cachedCellSize, cachedCellSize);
-            } else {
+            if (!sprites.draw(gc, SpriteRegistry.LEGEND_WHITE, px, py, cachedCellSize, cachedCellSize)) {
                 gc.setFill(Color.WHITE);
                 gc.fillOval(px, py, cachedCellSize, cachedCellSize);
             }
@@ -482,12 +687,7 @@ public class GameRenderer {
             double py = p2.getY() * cachedCellSize + yOffset;
 
             // Utiliser le sprite thématique pour le joueur 2 (Legend noir)
-            Image p2Sprite = themeManager.getThemedImage("/images/nija_black_bomberman.png");
-            if (p2Sprite == null) p2Sprite = themeManager.getPlayerSprite(1);
-
-            if (p2Sprite != null) {
-                gc.drawImage(p2Sprite, px, py, cachedCellSize, cachedCellSize);
-            } else {
+            if (!sprites.draw(gc, SpriteRegistry.LEGEND_BLACK, px, py, cachedCellSize, cachedCellSize)) {
                 gc.setFill(Color.BLACK);
                 gc.fillOval(px, py, cachedCellSize, cachedCellSize);
             }
@@ -504,10 +704,7 @@ public class GameRenderer {
                 double px = b.getX() * cachedCellSize;
                 double py = b.getY() * cachedCellSize + yOffset;
 
-                Image bomberSprite = themeManager.getEnemySprite("bomber");
-                if (bomberSprite != null) {
-                    gc.drawImage(bomberSprite, px, py, cachedCellSize, cachedCellSize);
-                } else {
+                if (!sprites.draw(gc, SpriteRegistry.ENEMY_BOMBER, px, py, cachedCellSize, cachedCellSize)) {
                     gc.setFill(Color.DARKRED);
                     gc.fillOval(px, py, cachedCellSize, cachedCellSize);
                 }
@@ -520,10 +717,7 @@ public class GameRenderer {
                 double px = y.getX() * cachedCellSize;
                 double py = y.getY() * cachedCellSize + yOffset;
 
-                Image yellowSprite = themeManager.getEnemySprite("yellow");
-                if (yellowSprite != null) {
-                    gc.drawImage(yellowSprite, px, py, cachedCellSize, cachedCellSize);
-                } else {
+                if (!sprites.draw(gc, SpriteRegistry.ENEMY_YELLOW, px, py, cachedCellSize, cachedCellSize)) {
                     gc.setFill(Color.GOLD);
                     gc.fillOval(px, py, cachedCellSize, cachedCellSize);
                 }
@@ -0,0 +1,75 @@
+package com.bomberman.model;
+
+import com.bomberman.utils.Constants;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BombSchedulerTest {
+
+    @Test
+    void testBombIsDrainedOnFirstTickAtOrAfterFuse() {
+        GameClock clock = new GameClock();
+        BombScheduler fuses = new BombScheduler(8, 512, clock.now());
+        clock.advance(3);
+        Bomb bomb = new Bomb(1, 1, 1, clock); // Explose à 3003 ms
+        fuses.schedule(bomb);
+
+        assertTrue(fuses.drainDue(3000).isEmpty());
+        List<Bomb> due = fuses.drainDue(3008);
+        assertEquals(1, due.size());
+        assertSame(bomb, due.get(0));
+        assertEquals(0, fuses.size());
+    }
+
+    @Test
+    void testCancelAndReschedule() {
+        GameClock clock = new GameClock();
+        BombScheduler fuses = new BombScheduler(8, 512, clock.now());
+        Bomb cancelled = new Bomb(1, 1, 1, clock);
+        Bomb delayed = new Bomb(2, 1, 1, clock);
+        fuses.schedule(cancelled);
+        fuses.schedule(delayed);
+
+        fuses.cancel(cancelled);
+        fuses.reschedule(new PackedGrid(7, 7), delayed, Constants.BOMB_TIMER + 504);
+
+        assertTrue(fuses.drainDue(Constants.BOMB_TIMER).isEmpty());
+        assertEquals(Constants.BOMB_TIMER + 504, delayed.getExplosionTime());
+        assertEquals(1, fuses.drainDue(Constants.BOMB_TIMER + 504).size());
+    }
+
+    @Test
+    void testRescheduleKeepsGridHashConsistent() {
+        GameClock clock = new GameClock();
+        BombScheduler fuses = new BombScheduler(8, 512, clock.now());
+        PackedGrid grid = new PackedGrid(7, 7);
+        long empty = grid.getHash();
+        Bomb bomb = new Bomb(3, 3, 1, clock);
+        grid.setBomb(3, 3, bomb);
+        fuses.schedule(bomb);
+
+        fuses.reschedule(grid, bomb, Constants.BOMB_TIMER + 504);
+        grid.setBomb(3, 3, null);
+
+        assertEquals(empty, grid.getHash());
+    }
+
+    @Test
+    void testLongJumpDrainsEveryBombInFuseOrder() {
+        GameClock clock = new GameClock();
+        BombScheduler fuses = new BombScheduler(8, 16, clock.now());
+        for (int i = 0; i < 300; i++) {
+            clock.advance(7);
+            fuses.schedule(new Bomb(i % 10, 1, 1, clock));
+        }
+
+        List<Bomb> due = fuses.drainDue(1_000_000);
+        assertEquals(300, due.size());
+        for (int i = 1; i < due.size(); i++) {
+            assertTrue(due.get(i - 1).getExplosionTime() <= due.get(i).getExplosionTime());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.bomberman.model;
+
+import com.bomberman.utils.Constants;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BombTest {
+
+    @Test
+    void testBombExplodesAfterTimerOnVirtualClock() {
+        GameClock clock = new GameClock();
+        Bomb bomb = new Bomb(1, 1, 2, clock);
+
+        clock.advance(Constants.BOMB_TIMER - 1);
+        assertFalse(bomb.shouldExplode());
+
+        clock.advance(1);
+        assertTrue(bomb.shouldExplode());
+    }
+
+    @Test
+    void testPausedClockFreezesFuse() {
+        GameClock clock = new GameClock();
+        Bomb bomb = new Bomb(1, 1, 2, clock);
+
+        clock.pause();
+        clock.advance(Constants.BOMB_TIMER * 10L);
+        assertFalse(bomb.shouldExplode());
+        assertEquals(Constants.BOMB_TIMER, bomb.getTimeRemaining());
+
+        clock.resume();
+        clock.advance(Constants.BOMB_TIMER);
+        assertTrue(bomb.shouldExplode());
+    }
+
+    @Test
+    void testEngineFastForwardRunsMoreTicks() {
+        GameClock clock = new GameClock();
+        SimulationEngine engine = new SimulationEngine(() -> { }, clock, 8);
+        clock.fastForward(100);
+
+        engine.advanceTo(0);
+        engine.advanceTo(16_000_000L); // Une frame de 16 ms en temps réel
+
+        assertEquals(200, engine.getTickCount());
+        assertEquals(1600, clock.now());
+    }
+}
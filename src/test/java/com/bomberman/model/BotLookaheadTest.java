@@ -0,0 +1,60 @@
+package com.bomberman.model;
+
+import com.bomberman.model.enums.BotDifficulty;
+import com.bomberman.model.enums.Direction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BotLookaheadTest {
+
+    private static BoardSnapshot snapshot(Board board) {
+        board.getChaseField().update(board.getPlayers());
+        BoardSnapshot snapshot = new BoardSnapshot(board);
+        snapshot.capture(board);
+        return snapshot;
+    }
+
+    @Test
+    void testLeavesBlastLine() {
+        Board board = TestBoards.open(9, 9);
+        board.getClock().advance(1000);
+        // Bombe de portée 3 posée sous le bot
+        board.addBomb(new Bomb(6, 6, 3, board.getClock()));
+        BoardSnapshot snapshot = snapshot(board);
+
+        Direction move = new BotLookahead().bestMove(snapshot, 6, 6, 200, BotDifficulty.MEDIUM);
+        assertNotNull(move);
+        assertTrue(snapshot.isWalkable(6 + move.getDx(), 6 + move.getDy()));
+    }
+
+    @Test
+    void testMovesTowardPlayer() {
+        Board board = TestBoards.open(9, 9);
+        BoardSnapshot snapshot = snapshot(board);
+        BotLookahead lookahead = new BotLookahead();
+
+        // Le joueur est en (1, 1) : le coup choisi doit le rapprocher
+        Direction move = lookahead.bestMove(snapshot, 7, 7, 200, BotDifficulty.MEDIUM);
+        assertTrue(lookahead.getCompletedDepth() >= 1);
+        assertNotNull(move);
+        int before = snapshot.chaseDistance(7, 7);
+        assertTrue(snapshot.chaseDistance(7 + move.getDx(), 7 + move.getDy()) < before);
+    }
+
+    @Test
+    void testDeadlineBoundsSearch() {
+        Board board = TestBoards.open(9, 9);
+        BoardSnapshot snapshot = snapshot(board);
+        BotLookahead lookahead = new BotLookahead();
+
+        long start = System.nanoTime();
+        lookahead.bestMove(snapshot, 4, 4, 200, BotDifficulty.HARD);
+        long elapsed = System.nanoTime() - start;
+
+        assertTrue(lookahead.getCompletedDepth() >= 1);
+        assertTrue(lookahead.getCompletedDepth() <= BotDifficulty.HARD.getMaxDepth());
+        // Marge large pour le premier appel (JIT), mais bien en deçà d'une recherche exhaustive
+        assertTrue(elapsed < 50_000_000L);
+    }
+}
@@ -0,0 +1,45 @@
+package com.bomberman.model;
+
+import com.bomberman.model.enums.BotDifficulty;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BotMonteCarloTest {
+
+    @Test
+    void testLeavesBombAboutToExplode() {
+        Board board = TestBoards.open(9, 9);
+        board.getClock().advance(1000);
+        Bomb bomb = new Bomb(6, 6, 3, board.getClock());
+        board.getGrid().setBomb(6, 6, bomb);
+        board.addBomb(bomb);
+        board.getClock().advance(2500);
+        PlayerBot self = new PlayerBot(6, 6, board.getClock());
+        BoardSnapshot snapshot = new BoardSnapshot(board);
+        snapshot.capture(board);
+
+        int action = new BotMonteCarlo(ForkJoinPool.commonPool(), 1)
+                .bestAction(snapshot, self, 1, 400, BotDifficulty.EXPERT);
+        assertNotEquals(SimState.STAY, action);
+        assertNotEquals(SimState.BOMB, action);
+    }
+
+    @Test
+    void testRootParallelSearchMergesAllTrees() {
+        Board board = TestBoards.open(9, 9);
+        PlayerBot self = new PlayerBot(7, 7, board.getClock());
+        BoardSnapshot snapshot = new BoardSnapshot(board);
+        snapshot.capture(board);
+        BotMonteCarlo search = new BotMonteCarlo(new ForkJoinPool(4), 4);
+
+        search.bestAction(snapshot, self, 1, 400, BotDifficulty.EXPERT);
+        int total = 0;
+        for (int a = 0; a < SimState.ACTIONS; a++) total += search.getRootVisits(a);
+        // Chaque itération passe par exactement un enfant de la racine
+        assertEquals(search.getLastIterations(), total);
+        assertTrue(total >= 64);
+    }
+}
@@ -0,0 +1,66 @@
+package com.bomberman.model;
+
+import com.bomberman.model.enums.Direction;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BotPhaseTest {
+
+    private static PlayerBot addBot(Board board, int x, int y) {
+        PlayerBot bot = new PlayerBot(x, y, board.getClock());
+        board.getBots().add(bot);
+        board.getGrid().setHasPlayer(x, y, true);
+        board.playerMoved(bot);
+        return bot;
+    }
+
+    @Test
+    void testSnapshotIgnoresLaterBoardChanges() {
+        Board board = TestBoards.open(9, 9);
+        BoardSnapshot snapshot = new BoardSnapshot(board);
+        snapshot.capture(board);
+
+        board.getGrid().setBomb(1, 2, new Bomb(1, 2, 1, board.getClock()));
+        assertFalse(snapshot.hasBomb(1, 2));
+        assertTrue(snapshot.isWalkable(1, 2));
+    }
+
+    @Test
+    void testCommitResolvesConflictsInListOrder() {
+        Board board = TestBoards.open(9, 9);
+        board.getClock().advance(1000);
+        PlayerBot first = addBot(board, 4, 2);
+        PlayerBot second = addBot(board, 4, 4);
+
+        // Les deux bots visent la même case
+        first.getIntent().set(Direction.DOWN, false);
+        second.getIntent().set(Direction.UP, false);
+        first.applyIntent(board);
+        second.applyIntent(board);
+
+        assertEquals(3, first.getY());
+        assertEquals(4, second.getY());
+    }
+
+    @Test
+    void testParallelDecisionsNeverStackBots() {
+        Board board = TestBoards.open(9, 9);
+        for (int i = 0; i < 13; i++) addBot(board, 1 + i % 7, 3 + i / 7 * 2);
+        BotPhase phase = new BotPhase(board, new ForkJoinPool(4));
+
+        for (int tick = 0; tick < 200; tick++) {
+            board.getClock().advance(50);
+            phase.run(board, board.getBots());
+
+            Set<Integer> cells = new HashSet<>();
+            for (PlayerBot bot : board.getBots()) {
+                if (bot.isAlive()) assertTrue(cells.add(bot.getY() * 9 + bot.getX()));
+            }
+        }
+    }
+}
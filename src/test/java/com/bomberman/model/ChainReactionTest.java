@@ -0,0 +1,69 @@
+package com.bomberman.model;
+
+import com.bomberman.model.enums.CellType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChainReactionTest {
+    private GameClock clock;
+    private PackedGrid grid;
+    private ChainReaction chain;
+
+    @BeforeEach
+    void setUp() {
+        clock = new GameClock();
+        grid = new PackedGrid(9, 3);
+        chain = new ChainReaction(grid);
+    }
+
+    private Bomb place(int x, int y, int range) {
+        Bomb bomb = new Bomb(x, y, range, clock);
+        grid.setBomb(x, y, bomb);
+        return bomb;
+    }
+
+    @Test
+    void testLongChainResolvesEveryBombOnce() {
+        // Ligne de bombes adjacentes : chaque bombe déclenche la suivante
+        Bomb first = place(0, 1, 1);
+        for (int x = 1; x < 9; x++) place(x, 1, 1);
+
+        assertEquals(9, chain.resolve(first));
+        assertEquals(9, chain.getDetonated().size());
+        for (int x = 0; x < 9; x++) assertFalse(grid.hasBomb(x, 1));
+    }
+
+    @Test
+    void testOverlappingBlastsBurnEachCellOnce() {
+        Bomb first = place(3, 1, 3);
+        place(4, 1, 3);
+
+        chain.resolve(first);
+
+        boolean[] seen = new boolean[9 * 3];
+        for (int i = 0; i < chain.getBurnedCount(); i++) {
+            int index = grid.index(chain.getBurnedX(i), chain.getBurnedY(i));
+            assertFalse(seen[index]);
+            seen[index] = true;
+        }
+    }
+
+    @Test
+    void testWallsBlockWholeChainAndAreReportedOnce() {
+        grid.setType(5, 1, CellType.DESTRUCTIBLE_WALL);
+        Bomb first = place(3, 1, 3);
+        place(4, 1, 3);
+
+        chain.resolve(first);
+
+        // Le mur est signalé une seule fois et reste en place jusqu'à l'application du lot
+        assertEquals(1, chain.getDestroyedCount());
+        assertEquals(5, chain.getDestroyedX(0));
+        assertEquals(CellType.DESTRUCTIBLE_WALL, grid.getType(5, 1));
+        for (int i = 0; i < chain.getBurnedCount(); i++) {
+            assertTrue(chain.getBurnedX(i) <= 5);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.bomberman.model;
+
+import com.bomberman.model.enums.CellType;
+import com.bomberman.model.enums.Direction;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClusterPathFinderTest {
+
+    private static final PathFinder.CellFilter NONE = (x, y) -> false;
+
+    @Test
+    void testReachabilityMatchesExactSearch() {
+        Random random = new Random(3);
+        PackedGrid grid = randomGrid(random, 61, 45);
+        ClusterPathFinder clusters = new ClusterPathFinder(grid);
+        FlowFieldCache reference = new FlowFieldCache(grid, 4);
+
+        for (int k = 0; k < 300; k++) {
+            int fx = random.nextInt(61), fy = random.nextInt(45);
+            int tx = random.nextInt(61), ty = random.nextInt(45);
+            if (!grid.isWalkable(fx, fy) || !grid.isWalkable(tx, ty)) continue;
+            int exact = reference.distance(fx, fy, tx, ty);
+            int approx = clusters.distance(fx, fy, tx, ty);
+            if (exact == PathFinder.UNREACHABLE) {
+                assertEquals(PathFinder.UNREACHABLE, approx);
+            } else {
+                assertTrue(approx >= exact && approx <= exact * 3 / 2 + 8, exact + " -> " + approx);
+            }
+        }
+    }
+
+    @Test
+    void testFollowingNextReachesTarget() {
+        PackedGrid grid = randomGrid(new Random(5), 61, 45);
+        ClusterPathFinder clusters = new ClusterPathFinder(grid);
+        for (int x = 0; x < 61; x++) {
+            grid.setType(x, 0, CellType.EMPTY);
+            grid.setType(x, 44, CellType.EMPTY);
+            clusters.cellChanged(x, 0);
+            clusters.cellChanged(x, 44);
+        }
+        FlowFieldCache reference = new FlowFieldCache(grid, 4);
+
+        int x = 0, y = 0, steps = 0;
+        int exact = reference.distance(0, 0, 60, 44);
+        while ((x != 60 || y != 44) && steps < exact * 2) {
+            Direction dir = clusters.next(x, y, 60, 44, NONE);
+            assertNotNull(dir);
+            x += dir.getDx();
+            y += dir.getDy();
+            steps++;
+        }
+        assertEquals(60, x);
+        assertEquals(44, y);
+    }
+
+    @Test
+    void testOnlyTouchedClustersAreRebuilt() {
+        PackedGrid grid = randomGrid(new Random(9), 64, 48);
+        ClusterPathFinder clusters = new ClusterPathFinder(grid);
+        clusters.distance(0, 0, 62, 46);
+        int built = clusters.getClusterRebuilds();
+        assertEquals(8 * 6, built);
+
+        // Mur détruit à l'intérieur d'un bloc : ce bloc seul
+        grid.setType(10, 10, CellType.DESTRUCTIBLE_WALL);
+        clusters.cellChanged(10, 10);
+        grid.setType(10, 10, CellType.EMPTY);
+        clusters.cellChanged(10, 10);
+        clusters.distance(0, 0, 62, 46);
+        assertEquals(built + 1, clusters.getClusterRebuilds());
+
+        // Case de bord : le bloc voisin aussi ; marchabilité inchangée : rien
+        grid.setType(15, 12, grid.isWalkable(15, 12) ? CellType.DESTRUCTIBLE_WALL : CellType.EMPTY);
+        clusters.cellChanged(15, 12);
+        clusters.cellChanged(20, 20);
+        clusters.distance(0, 0, 62, 46);
+        assertEquals(built + 3, clusters.getClusterRebuilds());
+    }
+
+    @Test
+    void testNearTargetFallsBackToAbstractSearch() {
+        PackedGrid grid = new PackedGrid(64, 64);
+        ClusterPathFinder clusters = new ClusterPathFinder(grid);
+        // Cible emmurée à 3 cases : inaccessible, sans parcourir toute la carte
+        for (int x = 18; x <= 22; x++) {
+            for (int y = 18; y <= 22; y++) {
+                if (x == 18 || x == 22 || y == 18 || y == 22) grid.setType(x, y, CellType.WALL);
+            }
+        }
+        // Mur en travers des blocs du départ et de la cible : détour par un bloc voisin
+        for (int y = 32; y < 48; y++) grid.setType(36, y, CellType.WALL);
+        clusters.invalidateAll();
+
+        assertEquals(PathFinder.UNREACHABLE, clusters.distance(17, 20, 20, 20));
+        assertNull(clusters.next(17, 20, 20, 20, NONE));
+        int detour = clusters.distance(34, 40, 38, 40);
+        assertTrue(detour != PathFinder.UNREACHABLE && detour >= 4 + 2 * 8, "détour : " + detour);
+        assertNotNull(clusters.next(34, 40, 38, 40, NONE));
+    }
+
+    private static PackedGrid randomGrid(Random random, int width, int height) {
+        PackedGrid grid = new PackedGrid(width, height);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                if (x % 2 == 1 && y % 2 == 1) grid.reset(x, y, CellType.WALL);
+                else if (random.nextDouble() < 0.25) grid.reset(x, y, CellType.DESTRUCTIBLE_WALL);
+            }
+        }
+        return grid;
+    }
+}
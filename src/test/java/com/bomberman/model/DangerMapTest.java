@@ -0,0 +1,100 @@
+package com.bomberman.model;
+
+import com.bomberman.model.enums.CellType;
+import com.bomberman.model.enums.Direction;
+import com.bomberman.utils.Constants;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DangerMapTest {
+
+    private static Bomb place(PackedGrid grid, DangerMap danger, int x, int y, int range, GameClock clock) {
+        Bomb bomb = new Bomb(x, y, range, clock);
+        grid.setBomb(x, y, bomb);
+        danger.bombAdded(bomb);
+        return bomb;
+    }
+
+    @Test
+    void testChainedBombInheritsEarlierBlastTime() {
+        GameClock clock = new GameClock();
+        PackedGrid grid = new PackedGrid(9, 5);
+        grid.reset(1, 2, CellType.WALL);
+        DangerMap danger = new DangerMap(grid, new ExplosionGrid(grid.getWidth(), grid.getHeight(), Constants.EXPLOSION_DURATION));
+
+        Bomb first = place(grid, danger, 1, 1, 2, clock);
+        assertEquals(first.getExplosionTime(), danger.getBlastTime(1, 0));
+        assertTrue(danger.isSafe(1, 3));   // Protégée par le mur
+
+        clock.advance(1000);
+        place(grid, danger, 3, 1, 2, clock);
+        // La seconde bombe est atteinte par la première : son souffle part avec elle
+        assertEquals(first.getExplosionTime(), danger.getBlastTime(5, 1));
+    }
+
+    @Test
+    void testResolvedChainClearsCellsAndWallsUnblockRemainingBombs() {
+        GameClock clock = new GameClock();
+        PackedGrid grid = new PackedGrid(9, 7);
+        grid.reset(5, 2, CellType.DESTRUCTIBLE_WALL);
+        DangerMap danger = new DangerMap(grid, new ExplosionGrid(grid.getWidth(), grid.getHeight(), Constants.EXPLOSION_DURATION));
+        ChainReaction chain = new ChainReaction(grid);
+
+        Bomb trigger = place(grid, danger, 3, 2, 2, clock);
+        clock.advance(500);
+        Bomb survivor = place(grid, danger, 5, 3, 3, clock);
+        assertTrue(danger.isSafe(5, 1));   // Le mur arrête encore le souffle
+
+        chain.resolve(trigger);
+        grid.setType(5, 2, CellType.EMPTY);
+        danger.blastResolved(chain);
+
+        assertTrue(danger.isSafe(3, 2));
+        assertTrue(danger.isSafe(1, 2));
+        assertEquals(survivor.getExplosionTime(), danger.getBlastTime(5, 2));
+        assertEquals(survivor.getExplosionTime(), danger.getBlastTime(5, 0));
+    }
+
+    @Test
+    void testEscapeAvoidsCellsStillBurning() {
+        GameClock clock = new GameClock();
+        PackedGrid grid = new PackedGrid(5, 3);
+        for (int x = 0; x < 5; x++) {
+            grid.reset(x, 0, CellType.WALL);
+            grid.reset(x, 2, CellType.WALL);
+        }
+        grid.reset(2, 2, CellType.EMPTY);
+        ExplosionGrid explosions = new ExplosionGrid(5, 3, Constants.EXPLOSION_DURATION);
+        DangerMap danger = new DangerMap(grid, explosions);
+
+        // Bombe en (4, 1) : le couloir brûle à gauche, la sortie (2, 2) est sûre
+        place(grid, danger, 4, 1, 3, clock);
+        explosions.ignite(1, 1, clock.now());
+        explosions.ignite(0, 1, clock.now());
+        assertFalse(danger.isSafe(0, 1));   // En feu, sans bombe prévue
+
+        Direction escape = danger.escapeStep(3, 1, Constants.BOT_MOVE_DELAY, clock.now());
+        assertEquals(Direction.LEFT, escape);
+        // Sortie murée : seule la case en feu reste, refusée comme destination
+        grid.setType(2, 2, CellType.WALL);
+        assertNull(danger.escapeStep(3, 1, Constants.BOT_MOVE_DELAY, clock.now()));
+    }
+
+    @Test
+    void testEscapeQueryRejectsDeadEnds() {
+        GameClock clock = new GameClock();
+        PackedGrid grid = new PackedGrid(5, 5);
+        for (int x = 0; x < 5; x++) {
+            for (int y = 0; y < 5; y++) {
+                if (y != 2) grid.reset(x, y, CellType.WALL);
+            }
+        }
+        DangerMap danger = new DangerMap(grid, new ExplosionGrid(grid.getWidth(), grid.getHeight(), Constants.EXPLOSION_DURATION));
+
+        assertFalse(danger.canEscape(0, 2, 4, Constants.BOMB_TIMER, Constants.BOT_MOVE_DELAY, clock.now()));
+        assertTrue(danger.canEscape(0, 2, 1, Constants.BOMB_TIMER, Constants.BOT_MOVE_DELAY, clock.now()));
+        // La requête ne laisse aucune trace sur la carte
+        assertTrue(danger.isSafe(1, 2));
+    }
+}
@@ -0,0 +1,59 @@
+package com.bomberman.model;
+
+import com.bomberman.model.enums.CellType;
+import com.bomberman.model.enums.PowerUpType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DirtyCellsTest {
+
+    @Test
+    void testIterationSkipsCleanWords() {
+        DirtyCells cells = new DirtyCells(200);
+        cells.mark(3);
+        cells.mark(64);
+        cells.mark(199);
+
+        assertEquals(3, cells.nextMarked(0));
+        assertEquals(64, cells.nextMarked(4));
+        assertEquals(199, cells.nextMarked(65));
+        assertEquals(-1, cells.nextMarked(200));
+        cells.clear();
+        assertEquals(-1, cells.nextMarked(0));
+    }
+
+    @Test
+    void testGridWritesMarkTouchedCells() {
+        PackedGrid grid = new PackedGrid(15, 13);
+        DirtyCells dirty = grid.getDirtyCells();
+        assertTrue(dirty.isAllMarked());   // Grille neuve : image complète
+        dirty.clear();
+
+        grid.setType(2, 1, CellType.DESTRUCTIBLE_WALL);
+        grid.setHasPlayer(5, 5, true);
+        grid.setBomb(7, 3, new Bomb(7, 3, 1, new GameClock()));
+        grid.setPowerUp(9, 9, PowerUpType.LIFE);
+
+        int count = 0;
+        for (int i = dirty.nextMarked(0); i >= 0; i = dirty.nextMarked(i + 1)) count++;
+        assertEquals(4, count);
+        assertTrue(dirty.isMarked(grid.index(7, 3)));
+        assertFalse(dirty.isMarked(grid.index(8, 3)));
+    }
+
+    @Test
+    void testUnionKeepsBothSets() {
+        DirtyCells first = new DirtyCells(100);
+        DirtyCells second = new DirtyCells(100);
+        first.mark(10);
+        second.mark(90);
+        first.addAll(second);
+        assertTrue(first.isMarked(10));
+        assertTrue(first.isMarked(90));
+
+        second.markAll();
+        first.addAll(second);
+        assertEquals(50, first.nextMarked(50));
+    }
+}
@@ -0,0 +1,57 @@
+package com.bomberman.model;
+
+import com.bomberman.model.enums.CellType;
+import com.bomberman.model.enums.Direction;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DistanceFieldTest {
+
+    @Test
+    void testShortestPathGoesAroundWalls() {
+        PackedGrid grid = new PackedGrid(5, 5);
+        // Mur vertical en x = 2, sauf en bas
+        for (int y = 0; y < 4; y++) grid.reset(2, y, CellType.WALL);
+        Player target = new Player(4, 0, new GameClock());
+        DistanceField field = new DistanceField(grid);
+        field.update(List.of(target));
+
+        assertEquals(0, field.distanceAt(4, 0));
+        assertEquals(12, field.distanceAt(0, 0));
+        assertEquals(Direction.DOWN, field.stepFrom(1, 0));
+        assertEquals(DistanceField.UNREACHABLE, field.distanceAt(2, 0));
+    }
+
+    @Test
+    void testRebuildOnlyWhenGridOrTargetChanges() {
+        PackedGrid grid = new PackedGrid(5, 5);
+        Player target = new Player(0, 0, new GameClock());
+        DistanceField field = new DistanceField(grid);
+
+        assertTrue(field.update(List.of(target)));
+        assertFalse(field.update(List.of(target)));
+
+        grid.setType(1, 0, CellType.DESTRUCTIBLE_WALL);
+        assertTrue(field.update(List.of(target)));
+        assertEquals(2, field.distanceAt(1, 1));
+
+        target.setX(4);
+        target.setY(4);
+        assertTrue(field.update(List.of(target)));
+        assertEquals(3, field.getRebuildCount());
+    }
+
+    @Test
+    void testUnreachableTargetGivesNoStep() {
+        PackedGrid grid = new PackedGrid(5, 5);
+        for (int y = 0; y < 5; y++) grid.reset(2, y, CellType.WALL);
+        Player target = new Player(4, 2, new GameClock());
+        DistanceField field = new DistanceField(grid);
+        field.update(List.of(target));
+
+        assertNull(field.stepFrom(0, 2));
+    }
+}
@@ -0,0 +1,64 @@
+package com.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExplosionGridTest {
+
+    @Test
+    void testCellBurnsForDurationThenExpires() {
+        ExplosionGrid grid = new ExplosionGrid(5, 5, 1000);
+        assertTrue(grid.ignite(2, 3, 0));
+        assertTrue(grid.isBurning(2, 3, 999));
+        assertFalse(grid.isBurning(3, 2, 0));
+
+        grid.expire(1000);
+        assertFalse(grid.isBurning(2, 3, 1000));
+        assertEquals(0, grid.getActiveCount());
+    }
+
+    @Test
+    void testOverlappingBlastsMergeAndExtend() {
+        ExplosionGrid grid = new ExplosionGrid(5, 5, 1000);
+        grid.ignite(1, 1, 0);
+        assertFalse(grid.ignite(1, 1, 0));   // Même passage : fusion
+        assertFalse(grid.ignite(1, 1, 500)); // Ravivée : échéance prolongée
+        assertEquals(1, grid.getActiveCount());
+
+        grid.expire(1000);
+        assertTrue(grid.isBurning(1, 1, 1000));
+        assertEquals(1, grid.getActiveCount());
+
+        grid.expire(1500);
+        assertFalse(grid.isBurning(1, 1, 1500));
+        assertEquals(0, grid.getActiveCount());
+    }
+
+    @Test
+    void testQueueGrowsBeyondGridSize() {
+        ExplosionGrid grid = new ExplosionGrid(2, 2, 1000);
+        for (int t = 0; t < 100; t++) grid.ignite(t % 2, (t / 2) % 2, t);
+        assertEquals(4, grid.getActiveCount());
+
+        grid.expire(1099);
+        assertEquals(0, grid.getActiveCount());
+    }
+
+    @Test
+    void testQueueListsEveryBurningCell() {
+        ExplosionGrid grid = new ExplosionGrid(5, 5, 1000);
+        grid.ignite(0, 0, 0);
+        grid.ignite(4, 2, 200);
+        grid.ignite(0, 0, 400);             // Ravivée : deuxième entrée
+        grid.expire(1000);
+
+        grid.ignite(4, 2, 1000);            // Ravivée encore : trois entrées, deux cases
+        int live = 0;
+        for (int k = 0; k < grid.getQueuedCount(); k++) {
+            if (grid.isQueuedLive(k, 1000)) live++;
+        }
+        assertEquals(3, grid.getQueuedCount());
+        assertEquals(grid.getActiveCount(), live);
+    }
+}
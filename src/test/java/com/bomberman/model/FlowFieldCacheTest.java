@@ -0,0 +1,72 @@
+package com.bomberman.model;
+
+import com.bomberman.model.enums.CellType;
+import com.bomberman.model.enums.Direction;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlowFieldCacheTest {
+
+    private static final FlowFieldCache.CellFilter NONE = (x, y) -> false;
+
+    @Test
+    void testNextFollowsShortestPathAroundWall() {
+        PackedGrid grid = new PackedGrid(5, 5);
+        for (int y = 0; y < 4; y++) grid.reset(2, y, CellType.WALL);
+        FlowFieldCache cache = new FlowFieldCache(grid, 4);
+
+        assertEquals(Direction.DOWN, cache.next(1, 0, 4, 0, NONE));
+        assertEquals(12, cache.distance(0, 0, 4, 0));
+        assertNull(cache.next(1, 0, 4, 0, (x, y) -> x == 1 && y == 1));
+    }
+
+    @Test
+    void testIncrementalUpdatesMatchFullRebuild() {
+        Random random = new Random(42);
+        PackedGrid grid = new PackedGrid(11, 9);
+        for (int x = 0; x < 11; x++) {
+            for (int y = 0; y < 9; y++) {
+                if (random.nextDouble() < 0.3) grid.reset(x, y, CellType.DESTRUCTIBLE_WALL);
+            }
+        }
+        FlowFieldCache cache = new FlowFieldCache(grid, 4);
+        int[][] targets = {{0, 0}, {10, 8}, {5, 4}};
+        for (int[] t : targets) cache.distance(0, 0, t[0], t[1]);
+
+        for (int step = 0; step < 200; step++) {
+            int x = random.nextInt(11), y = random.nextInt(9);
+            grid.setType(x, y, grid.getType(x, y) == CellType.EMPTY ? CellType.DESTRUCTIBLE_WALL : CellType.EMPTY);
+            cache.cellChanged(x, y);
+
+            FlowFieldCache fresh = new FlowFieldCache(grid, 4);
+            for (int[] t : targets) {
+                for (int cx = 0; cx < 11; cx++) {
+                    for (int cy = 0; cy < 9; cy++) {
+                        assertEquals(fresh.distance(cx, cy, t[0], t[1]), cache.distance(cx, cy, t[0], t[1]));
+                    }
+                }
+            }
+        }
+        assertEquals(3, cache.getFullBuilds());
+        assertTrue(cache.getIncrementalUpdates() > 0);
+    }
+
+    @Test
+    void testLeastRecentlyUsedFieldIsEvicted() {
+        PackedGrid grid = new PackedGrid(5, 5);
+        FlowFieldCache cache = new FlowFieldCache(grid, 2);
+        cache.distance(0, 0, 1, 1);
+        cache.distance(0, 0, 2, 2);
+        cache.distance(0, 0, 1, 1);
+        cache.distance(0, 0, 3, 3);   // Évince la cible (2,2)
+        assertEquals(3, cache.getFullBuilds());
+
+        cache.distance(0, 0, 1, 1);
+        assertEquals(3, cache.getFullBuilds());
+        cache.distance(0, 0, 2, 2);
+        assertEquals(4, cache.getFullBuilds());
+    }
+}
@@ -0,0 +1,73 @@
+package com.bomberman.model;
+
+import com.bomberman.model.enums.CellType;
+import com.bomberman.model.enums.Direction;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JumpPointSearchTest {
+
+    private static final PathFinder.CellFilter NONE = (x, y) -> false;
+
+    @Test
+    void testNextFollowsShortestPathAroundWall() {
+        PackedGrid grid = new PackedGrid(5, 5);
+        for (int y = 0; y < 4; y++) grid.reset(2, y, CellType.WALL);
+        JumpPointSearch search = new JumpPointSearch(grid);
+
+        assertEquals(Direction.DOWN, search.next(1, 0, 4, 0, NONE));
+        assertEquals(12, search.distance(0, 0, 4, 0));
+        // Premier pas interdit : détour par l'autre côté
+        assertEquals(Direction.LEFT, search.next(1, 0, 4, 0, (x, y) -> x == 1 && y == 1));
+    }
+
+    @Test
+    void testDistancesMatchFlowFields() {
+        Random random = new Random(7);
+        PackedGrid grid = randomGrid(random, 23, 17);
+        JumpPointSearch search = new JumpPointSearch(grid);
+        FlowFieldCache reference = new FlowFieldCache(grid, 4);
+
+        for (int k = 0; k < 300; k++) {
+            int fx = random.nextInt(23), fy = random.nextInt(17);
+            int tx = random.nextInt(23), ty = random.nextInt(17);
+            if (!grid.isWalkable(fx, fy) || !grid.isWalkable(tx, ty)) continue;
+            assertEquals(reference.distance(fx, fy, tx, ty), search.distance(fx, fy, tx, ty));
+        }
+    }
+
+    @Test
+    void testFirstStepShortensPath() {
+        Random random = new Random(11);
+        PackedGrid grid = randomGrid(random, 23, 17);
+        JumpPointSearch search = new JumpPointSearch(grid);
+        FlowFieldCache reference = new FlowFieldCache(grid, 4);
+
+        for (int k = 0; k < 300; k++) {
+            int fx = random.nextInt(23), fy = random.nextInt(17);
+            int tx = random.nextInt(23), ty = random.nextInt(17);
+            if (!grid.isWalkable(fx, fy) || !grid.isWalkable(tx, ty)) continue;
+            int before = reference.distance(fx, fy, tx, ty);
+            Direction dir = search.next(fx, fy, tx, ty, NONE);
+            if (before == PathFinder.UNREACHABLE || before == 0) {
+                assertNull(dir);
+            } else {
+                assertEquals(before - 1, reference.distance(fx + dir.getDx(), fy + dir.getDy(), tx, ty));
+            }
+        }
+    }
+
+    private static PackedGrid randomGrid(Random random, int width, int height) {
+        PackedGrid grid = new PackedGrid(width, height);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                if (x % 2 == 1 && y % 2 == 1) grid.reset(x, y, CellType.WALL);
+                else if (random.nextDouble() < 0.25) grid.reset(x, y, CellType.DESTRUCTIBLE_WALL);
+            }
+        }
+        return grid;
+    }
+}
@@ -0,0 +1,41 @@
+package com.bomberman.model;
+
+import com.bomberman.model.enums.CellType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MapDataTest {
+
+    private static CellType[][] emptyGrid(int width, int height) {
+        CellType[][] grid = new CellType[width][height];
+        for (CellType[] column : grid) Arrays.fill(column, CellType.EMPTY);
+        return grid;
+    }
+
+    @Test
+    void testMapStoresItsOwnDimensions() {
+        MapData map = new MapData("arena", emptyGrid(41, 27));
+        assertEquals(41, map.getWidth());
+        assertEquals(27, map.getHeight());
+        assertTrue(map.isValid());
+    }
+
+    @Test
+    void testGridIsCopied() {
+        CellType[][] grid = emptyGrid(15, 13);
+        MapData map = new MapData("copie", grid);
+        grid[3][3] = CellType.WALL;
+        assertEquals(CellType.EMPTY, map.getGrid()[3][3]);
+    }
+
+    @Test
+    void testUnsupportedSizesAreRejected() {
+        assertTrue(MapData.isSupportedSize(255, 255));
+        assertFalse(MapData.isSupportedSize(256, 13));
+        assertFalse(MapData.isSupportedSize(15, 4));
+        assertThrows(IllegalArgumentException.class, () -> new MapData("trop grande", emptyGrid(300, 13)));
+    }
+}
@@ -0,0 +1,61 @@
+package com.bomberman.model;
+
+import com.bomberman.model.enums.Direction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OccupancyIndexTest {
+
+    @Test
+    void testPlaceMovesEntityBetweenCells() {
+        OccupancyIndex<String> index = new OccupancyIndex<>(5, 5);
+        index.place("bot", 1, 1);
+        assertTrue(index.isOccupied(1, 1));
+
+        index.place("bot", 2, 1);
+        assertFalse(index.isOccupied(1, 1));
+        assertEquals(1, index.at(2, 1).size());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void testSeveralOccupantsAndRemoval() {
+        OccupancyIndex<String> index = new OccupancyIndex<>(5, 5);
+        index.place("a", 3, 3);
+        index.place("b", 3, 3);
+        assertEquals(2, index.at(3, 3).size());
+
+        index.remove("a");
+        assertEquals(1, index.at(3, 3).size());
+        assertSame("b", index.at(3, 3).get(0));
+        assertFalse(index.contains("a"));
+    }
+
+    @Test
+    void testBoardKeepsIndexInSyncWithPlayerMoves() {
+        GameClock clock = new GameClock();
+        Player player = new Player(1, 1, clock);
+        OccupancyIndex<Player> index = new OccupancyIndex<>(5, 5);
+        PackedGrid grid = new PackedGrid(5, 5);
+        GameBoard board = new GameBoard() {
+            @Override public boolean isValidPosition(int x, int y) { return x >= 0 && y >= 0 && x < 5 && y < 5; }
+            @Override public Cell getCell(int x, int y) { return grid.cellAt(x, y); }
+            @Override public void addBomb(Bomb bomb) { }
+            @Override public void playerMoved(Player p) { index.place(p, p.getX(), p.getY()); }
+            @Override public GameClock getClock() { return clock; }
+            @Override public int getWidth() { return 5; }
+            @Override public int getHeight() { return 5; }
+        };
+        index.place(player, 1, 1);
+
+        clock.advance(1000);
+        player.move(Direction.RIGHT, board, null);
+        assertTrue(index.isOccupied(2, 1));
+        assertFalse(index.isOccupied(1, 1));
+
+        player.respawnAtStart(board);
+        assertTrue(index.isOccupied(1, 1));
+        assertFalse(index.isOccupied(2, 1));
+    }
+}
@@ -0,0 +1,67 @@
+package com.bomberman.model;
+
+import com.bomberman.model.enums.CellType;
+import com.bomberman.utils.Constants;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReservationTableTest {
+
+    private static final int STEP = 400;
+
+    @Test
+    void testCellStaysReservedOneStepAfterLeaving() {
+        ReservationTable table = new ReservationTable(8);
+        Object first = new Object(), second = new Object();
+        table.reserve(first, new int[] {0, 1, 2}, 3, 0, STEP);
+
+        assertTrue(table.isFree(1, 0, STEP, second));       // Pas encore arrivé
+        assertFalse(table.isFree(1, STEP, STEP, second));
+        assertFalse(table.isFree(0, STEP, STEP, second));   // Vient de partir
+        assertTrue(table.isFree(0, 2 * STEP, STEP, second));
+        assertTrue(table.isFree(2, 4 * STEP, STEP, second)); // Au-delà de la fenêtre
+        assertTrue(table.isFree(1, STEP, STEP, first));     // Ses propres réservations
+    }
+
+    @Test
+    void testSyncHoldsDivergedAgentsAndDropsDeadOnes() {
+        ReservationTable table = new ReservationTable(8);
+        Object moved = new Object(), dead = new Object(), other = new Object();
+        table.reserve(moved, new int[] {0, 1, 2}, 3, 0, STEP);
+        table.reserve(dead, new int[] {7, 8}, 2, 0, STEP);
+
+        table.beginSync();
+        table.sync(moved, 5, 100, STEP);                    // Hors de son plan : immobile en 5
+        table.endSync();
+
+        assertEquals(1, table.getAgentCount());
+        assertFalse(table.isFree(5, 100, STEP, other));
+        assertTrue(table.isFree(1, STEP, STEP, other));
+        assertTrue(table.isFree(8, STEP, STEP, other));
+    }
+
+    @Test
+    void testOpposingEnemiesPlanWithoutCollision() {
+        // Couloir 7x3 : rangées 0 et 1 libres, rangée 2 murée
+        PackedGrid grid = new PackedGrid(7, 3);
+        for (int x = 0; x < 7; x++) grid.reset(x, 2, CellType.WALL);
+        ExplosionGrid explosions = new ExplosionGrid(7, 3, Constants.EXPLOSION_DURATION);
+        SpaceTimePlanner planner = new SpaceTimePlanner(grid, new DangerMap(grid, explosions), explosions, 32, 256);
+        ReservationTable table = new ReservationTable(8);
+        Object left = new Object(), right = new Object();
+
+        planner.plan(0, 1, 6, 1, 0, STEP, 256, table, left);
+        planner.plan(6, 1, 0, 1, 0, STEP, 256, table, right);
+
+        int previousLeft = grid.index(0, 1), previousRight = grid.index(6, 1);
+        for (long t = 0; t < 8 * STEP; t += STEP) {
+            int l = table.reservedCell(left, t), r = table.reservedCell(right, t);
+            if (l < 0 || r < 0) break;
+            assertNotEquals(l, r);
+            assertFalse(l == previousRight && r == previousLeft);   // Pas d'échange de cases
+            previousLeft = l;
+            previousRight = r;
+        }
+    }
+}
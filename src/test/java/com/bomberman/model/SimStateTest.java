@@ -0,0 +1,95 @@
+package com.bomberman.model;
+
+import com.bomberman.model.enums.CellType;
+import com.bomberman.model.enums.Direction;
+import com.bomberman.utils.Constants;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimStateTest {
+    private static final int STEP = 400;
+
+    private static void plant(Board board, int x, int y, int range) {
+        Bomb bomb = new Bomb(x, y, range, board.getClock());
+        board.getGrid().setBomb(x, y, bomb);
+        board.addBomb(bomb);
+    }
+
+    private static SimState load(Board board, Player self) {
+        BoardSnapshot snapshot = new BoardSnapshot(board);
+        snapshot.capture(board);
+        SimState state = new SimState(9, 9, 5);
+        state.load(snapshot, self, 1);
+        return state;
+    }
+
+    @Test
+    void testOwnBombKillsAfterTimerAndIsReturned() {
+        Board board = TestBoards.open(9, 9);
+        PlayerBot self = new PlayerBot(5, 5, board.getClock());
+        SimState state = load(board, self);
+        int[] actions = new int[state.getAgentCount()];
+
+        actions[0] = SimState.BOMB;
+        state.step(actions, STEP);
+        actions[0] = SimState.STAY;
+        assertFalse(state.canAct(0, SimState.BOMB));   // Plus de bombe disponible
+
+        while (state.getTime() < Constants.BOMB_TIMER) {
+            assertTrue(state.isAlive(0));
+            state.step(actions, STEP);
+        }
+        state.step(actions, STEP);
+        assertFalse(state.isAlive(0));
+        assertTrue(state.isAlive(1));                   // Le joueur en (1, 1) est hors de portée
+    }
+
+    @Test
+    void testRewindRestoresBricksBombsAndAgents() {
+        Board board = TestBoards.open(9, 9);
+        board.getGrid().setType(6, 5, CellType.DESTRUCTIBLE_WALL);
+        PlayerBot self = new PlayerBot(5, 5, board.getClock());
+        SimState state = load(board, self);
+        int[] actions = new int[state.getAgentCount()];
+        int right = SimState.actionOf(Direction.RIGHT);
+        assertFalse(state.canAct(0, right));
+
+        // Bombe, fuite vers le haut, puis attente de l'explosion
+        actions[0] = SimState.BOMB;
+        state.step(actions, STEP);
+        actions[0] = SimState.actionOf(Direction.UP);
+        state.step(actions, STEP);
+        state.step(actions, STEP);
+        actions[0] = SimState.STAY;
+        while (state.getTime() <= Constants.BOMB_TIMER + Constants.EXPLOSION_DURATION + STEP) {
+            state.step(actions, STEP);
+        }
+        assertTrue(state.isAlive(0));
+        assertEquals(5, state.getAgentX(0));
+        assertEquals(3, state.getAgentY(0));
+
+        state.rewind();
+        assertEquals(0, state.getTime());
+        assertEquals(5, state.getAgentY(0));
+        assertFalse(state.canAct(0, right));            // Le mur est revenu
+        assertTrue(state.canAct(0, SimState.BOMB));     // La bombe est rendue
+    }
+
+    @Test
+    void testBombsChainThroughEachOther() {
+        Board board = TestBoards.open(9, 9);
+        board.getClock().advance(1000);
+        plant(board, 7, 7, 2);
+        board.getClock().advance(2700);
+        plant(board, 7, 5, 2);
+        // Le bot attend en (7, 3), à portée de la seconde bombe seulement
+        PlayerBot self = new PlayerBot(7, 3, board.getClock());
+        SimState state = load(board, self);
+        int[] actions = new int[state.getAgentCount()];
+
+        // La première bombe explose au premier pas et déclenche la seconde
+        state.step(actions, STEP);
+        assertFalse(state.isAlive(0));
+    }
+}
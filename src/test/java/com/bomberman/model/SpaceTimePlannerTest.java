@@ -0,0 +1,73 @@
+package com.bomberman.model;
+
+import com.bomberman.model.enums.CellType;
+import com.bomberman.model.enums.Direction;
+import com.bomberman.utils.Constants;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpaceTimePlannerTest {
+
+    private static final int STEP = 400;
+
+    @Test
+    void testStraightLineInOpenGrid() {
+        PackedGrid grid = new PackedGrid(6, 6);
+        ExplosionGrid explosions = new ExplosionGrid(6, 6, Constants.EXPLOSION_DURATION);
+        SpaceTimePlanner planner = new SpaceTimePlanner(grid, new DangerMap(grid, explosions), explosions, 32, 128);
+
+        assertEquals(Direction.RIGHT, planner.plan(0, 0, 3, 0, 0, STEP, 128));
+        assertTrue(planner.isFound());
+        assertFalse(planner.isWaiting());
+    }
+
+    @Test
+    void testWaitsForBombedCorridorToClear() {
+        GameClock clock = new GameClock();
+        PackedGrid grid = new PackedGrid(6, 5);
+        for (int x = 0; x < 6; x++) {
+            for (int y = 1; y < 5; y++) grid.reset(x, y, CellType.WALL);
+        }
+        ExplosionGrid explosions = new ExplosionGrid(6, 5, Constants.EXPLOSION_DURATION);
+        DangerMap danger = new DangerMap(grid, explosions);
+        ChainReaction chain = new ChainReaction(grid);
+        SpaceTimePlanner planner = new SpaceTimePlanner(grid, danger, explosions, 32, 256);
+
+        Bomb bomb = new Bomb(3, 0, 1, clock);
+        grid.setBomb(3, 0, bomb);
+        danger.bombAdded(bomb);
+
+        int x = 0;
+        for (int turn = 0; turn < 30 && x != 5; turn++) {
+            long now = clock.now();
+            if (!bomb.hasExploded() && now >= bomb.getExplosionTime()) {
+                chain.resolve(bomb);
+                danger.blastResolved(chain);
+                for (int i = 0; i < chain.getBurnedCount(); i++) {
+                    explosions.ignite(chain.getBurnedX(i), chain.getBurnedY(i), bomb.getExplosionTime());
+                }
+            }
+            assertFalse(explosions.isBurning(x, 0, now), "l'ennemi ne doit jamais être dans les flammes");
+
+            Direction dir = planner.plan(x, 0, 5, 0, now, STEP, 256);
+            assertTrue(planner.isFound());
+            if (dir != null) x += dir.getDx();
+            clock.advance(STEP);
+        }
+        assertEquals(5, x);
+        assertTrue(bomb.hasExploded());
+    }
+
+    @Test
+    void testNodeBudgetIsRespected() {
+        PackedGrid grid = new PackedGrid(60, 60);
+        ExplosionGrid explosions = new ExplosionGrid(60, 60, Constants.EXPLOSION_DURATION);
+        SpaceTimePlanner planner = new SpaceTimePlanner(grid, new DangerMap(grid, explosions), explosions, 64, 512);
+
+        Direction dir = planner.plan(0, 0, 59, 59, 0, STEP, 10);
+        assertTrue(planner.getLastExpanded() <= 10);
+        assertTrue(planner.isFound());   // Plan partiel vers l'état le plus proche de la cible
+        assertTrue(dir == Direction.RIGHT || dir == Direction.DOWN);
+    }
+}
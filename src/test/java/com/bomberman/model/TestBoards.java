@@ -0,0 +1,24 @@
+package com.bomberman.model;
+
+import com.bomberman.model.enums.CellType;
+
+/**
+ * Plateaux de test partagés
+ */
+final class TestBoards {
+
+    private TestBoards() {}
+
+    // Plateau sans aucun mur (joueurs conservés à leur position de départ)
+    static Board open(int width, int height) {
+        Board board = new Board(width, height);
+        PackedGrid grid = board.getGrid();
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                if (grid.hasPlayer(x, y)) grid.setType(x, y, CellType.EMPTY);
+                else grid.reset(x, y, CellType.EMPTY);
+            }
+        }
+        return board;
+    }
+}
@@ -0,0 +1,77 @@
+package com.bomberman.model;
+
+import com.bomberman.model.enums.BotDifficulty;
+import com.bomberman.model.enums.CellType;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+    @Test
+    void testGridHashDependsOnlyOnContents() {
+        GameClock clock = new GameClock();
+        PackedGrid first = new PackedGrid(7, 5);
+        PackedGrid second = new PackedGrid(7, 5);
+        long empty = first.getHash();
+
+        first.setType(2, 2, CellType.DESTRUCTIBLE_WALL);
+        first.setHasPlayer(4, 1, true);
+        second.setHasPlayer(4, 1, true);
+        second.setType(2, 2, CellType.DESTRUCTIBLE_WALL);
+        assertEquals(first.getHash(), second.getHash());
+
+        // Même case, échéance différente : empreintes différentes
+        first.setBomb(3, 3, new Bomb(3, 3, 1, clock));
+        clock.advance(100);
+        second.setBomb(3, 3, new Bomb(3, 3, 1, clock));
+        assertNotEquals(first.getHash(), second.getHash());
+
+        first.setBomb(3, 3, null);
+        first.setHasPlayer(4, 1, false);
+        first.setType(2, 2, CellType.EMPTY);
+        assertEquals(empty, first.getHash());
+    }
+
+    @Test
+    void testConcurrentWritersNeverYieldForeignValues() throws InterruptedException {
+        TranspositionTable table = new TranspositionTable(4);   // 16 entrées : collisions constantes
+        AtomicInteger corrupted = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            long offset = t * 1_000_003L;
+            threads[t] = new Thread(() -> {
+                for (long i = 0; i < 200_000; i++) {
+                    long key = Zobrist.mix(offset + i);
+                    table.put(key, key * 7);
+                    long other = Zobrist.mix(offset + i / 2);
+                    long value = table.get(other);
+                    if (value != TranspositionTable.MISS && value != other * 7) corrupted.incrementAndGet();
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) thread.join();
+        assertEquals(0, corrupted.get());
+    }
+
+    @Test
+    void testLookaheadReusesTransposedPositions() {
+        Board board = TestBoards.open(9, 9);
+        board.getChaseField().update(board.getPlayers());
+        BoardSnapshot snapshot = new BoardSnapshot(board);
+        snapshot.capture(board);
+        BotLookahead lookahead = new BotLookahead();
+
+        lookahead.bestMove(snapshot, 7, 7, 200, BotDifficulty.HARD);
+        assertTrue(lookahead.getLastHits() > 0);   // Déplacements commutés : mêmes cases
+        int firstDepth = lookahead.getCompletedDepth();
+
+        // Un second bot sur le même instantané repart des évaluations du premier
+        lookahead.bestMove(snapshot, 7, 7, 200, BotDifficulty.HARD);
+        assertTrue(lookahead.getCompletedDepth() >= firstDepth);
+        assertTrue(lookahead.getLastHits() > 0);
+    }
+}
@@ -0,0 +1,54 @@
+package com.bomberman.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpriteAtlasTest {
+
+    @Test
+    void testPackedRegionsNeverOverlap() {
+        Random random = new Random(1);
+        int count = 40;
+        int[] widths = new int[count], heights = new int[count];
+        for (int i = 0; i < count; i++) {
+            widths[i] = 8 + random.nextInt(120);
+            heights[i] = 8 + random.nextInt(120);
+        }
+        int[] x = new int[count], y = new int[count];
+        int[] size = SpriteAtlas.pack(widths, heights, 512, 2, x, y);
+
+        for (int i = 0; i < count; i++) {
+            assertTrue(x[i] >= 2 && y[i] >= 2);
+            assertTrue(x[i] + widths[i] + 2 <= size[0] && y[i] + heights[i] + 2 <= size[1]);
+            for (int j = i + 1; j < count; j++) {
+                // Marge comprise : au moins 2 pixels entre deux régions
+                boolean apart = x[i] + widths[i] + 2 <= x[j] || x[j] + widths[j] + 2 <= x[i] ||
+                        y[i] + heights[i] + 2 <= y[j] || y[j] + heights[j] + 2 <= y[i];
+                assertTrue(apart, i + " / " + j);
+            }
+        }
+    }
+
+    @Test
+    void testRowsWrapAtMaximumWidth() {
+        int[] widths = {100, 100, 100}, heights = {50, 40, 30};
+        int[] x = new int[3], y = new int[3];
+        int[] size = SpriteAtlas.pack(widths, heights, 220, 1, x, y);
+
+        assertEquals(1, y[0]);
+        assertEquals(1, y[1]);
+        assertEquals(52, y[2]);                 // Sous la plus haute image de la première étagère
+        assertEquals(203, size[0]);
+        assertEquals(83, size[1]);
+    }
+
+    @Test
+    void testEmptyAtlasHasMinimalSize() {
+        int[] size = SpriteAtlas.pack(new int[0], new int[0], 256, 2, new int[0], new int[0]);
+        assertEquals(1, size[0]);
+        assertEquals(4, size[1]);
+    }
+}